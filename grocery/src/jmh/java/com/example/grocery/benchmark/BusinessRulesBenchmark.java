@@ -0,0 +1,40 @@
+package com.example.grocery.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.grocery.core.utilities.business.BusinessRules;
+import com.example.grocery.core.utilities.results.ErrorResult;
+import com.example.grocery.core.utilities.results.Result;
+import com.example.grocery.core.utilities.results.SuccessResult;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BusinessRulesBenchmark {
+
+    private final Result success = new SuccessResult();
+    private final Result error = new ErrorResult("rule failed");
+
+    @Benchmark
+    public Result allSucceed() {
+        return BusinessRules.run(success, success, success);
+    }
+
+    @Benchmark
+    public Result firstFails() {
+        return BusinessRules.run(error, success, success);
+    }
+}
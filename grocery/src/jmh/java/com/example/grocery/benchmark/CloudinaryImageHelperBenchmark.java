@@ -0,0 +1,31 @@
+package com.example.grocery.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.grocery.outservices.cloudinary.CloudinaryImageHelper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CloudinaryImageHelperBenchmark {
+
+    private final String url = "http://res.cloudinary.com/grocery/image/upload/v1675000000/xk2jq8fh3lq0cwzyd1ab.jpg";
+
+    @Benchmark
+    public String getImagePublicIdFromUrl() {
+        return CloudinaryImageHelper.getImagePublicIdFromUrl(url);
+    }
+}
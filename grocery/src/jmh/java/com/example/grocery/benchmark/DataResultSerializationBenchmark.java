@@ -0,0 +1,60 @@
+package com.example.grocery.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.grocery.core.utilities.results.DataResult;
+import com.example.grocery.core.utilities.results.SuccessDataResult;
+import com.example.grocery.webApi.responses.product.GetAllProductResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+// /api/products/getall cevabının Jackson ile serileştirilme maliyeti.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataResultSerializationBenchmark {
+
+    @Param({ "1", "100", "1000" })
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private DataResult<List<GetAllProductResponse>> result;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        List<GetAllProductResponse> products = new ArrayList<>(size);
+        for (long i = 0; i < size; i++) {
+            products.add(new GetAllProductResponse(i, "Product " + i, 10.5, "description", LocalDate.now(),
+                    LocalDate.now().plusDays(30), 50, 1L, 1L, 1L, List.of(i)));
+        }
+        result = new SuccessDataResult<>(products, "Products listed!");
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(result);
+    }
+}
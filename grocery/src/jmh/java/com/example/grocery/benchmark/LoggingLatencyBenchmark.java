@@ -0,0 +1,128 @@
+package com.example.grocery.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+
+import com.example.grocery.business.constants.Messages.LogMessages.LogInfoMessages;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import net.logstash.logback.encoder.LogstashEncoder;
+
+// Bir manager'daki log.info çağrısının istek thread'ine maliyetini ölçer:
+// eski düzen (console + iki senkron FileAppender) ile yeni düzen (async console + async JSON).
+// Console'u ekrana basmamak için console yerine ayrı bir dosya kullanılır.
+// "async" düzeninde discardingThreshold 0'dır; kuyruk dolduğunda INFO olayları atılmaz,
+// çağıran thread bekler, böylece ölçüm gerçek yazma hızını yansıtır. "async-production"
+// logback.xml'deki ayarları (1638) kullanır; kuyruk dolarken INFO olayları atılır ve
+// iki düzen arasındaki fark atılan olayların kazandırdığı süredir.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingLatencyBenchmark {
+
+    // logback.xml'deki async appender'larla aynı olmalıdır.
+    private static final int QUEUE_SIZE = 8192;
+    private static final int PRODUCTION_DISCARDING_THRESHOLD = 1638;
+
+    @Param({ "sync", "async", "async-production" })
+    private String layout;
+
+    private LoggerContext context;
+    private Logger logger;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Path dir = Files.createTempDirectory("grocery-logging-benchmark");
+        context = new LoggerContext();
+        if (layout.equals("sync")) {
+            attach(List.of(
+                    fileAppender(dir.resolve("sync-stdout.log"), pattern()),
+                    fileAppender(dir.resolve("grocery-logback.log"), pattern()),
+                    fileAppender(dir.resolve("grocery-logback.txt"), pattern())));
+        } else {
+            int discardingThreshold = layout.equals("async-production") ? PRODUCTION_DISCARDING_THRESHOLD : 0;
+            attach(List.of(
+                    async(fileAppender(dir.resolve("async-stdout.log"), pattern()), discardingThreshold),
+                    async(fileAppender(dir.resolve("grocery.json"), json()), discardingThreshold)));
+        }
+        logger = context.getLogger("com.example.grocery.business.concretes.ProductManager");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void logInfo() {
+        logger.info(LogInfoMessages.PRODUCT_ADDED, "product-" + sequence++);
+    }
+
+    private void attach(List<Appender<ILoggingEvent>> appenders) {
+        ch.qos.logback.classic.Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        appenders.forEach(root::addAppender);
+    }
+
+    private Appender<ILoggingEvent> fileAppender(Path file, Encoder<ILoggingEvent> encoder) {
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setFile(file.toString());
+        appender.setEncoder(encoder);
+        appender.start();
+        return appender;
+    }
+
+    private Appender<ILoggingEvent> async(Appender<ILoggingEvent> delegate, int discardingThreshold) {
+        AsyncAppender appender = new AsyncAppender();
+        appender.setContext(context);
+        appender.setQueueSize(QUEUE_SIZE);
+        appender.setDiscardingThreshold(discardingThreshold);
+        appender.setNeverBlock(false);
+        appender.setIncludeCallerData(false);
+        appender.addAppender(delegate);
+        appender.start();
+        return appender;
+    }
+
+    private Encoder<ILoggingEvent> pattern() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss} %p %m%n");
+        encoder.start();
+        return encoder;
+    }
+
+    private Encoder<ILoggingEvent> json() {
+        LogstashEncoder encoder = new LogstashEncoder();
+        encoder.setContext(context);
+        encoder.start();
+        return encoder;
+    }
+}
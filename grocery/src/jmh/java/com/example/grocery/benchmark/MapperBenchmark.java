@@ -0,0 +1,67 @@
+package com.example.grocery.benchmark;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.grocery.core.utilities.mapper.ModelMapperImpl;
+import com.example.grocery.entity.concretes.Product;
+import com.example.grocery.webApi.requests.product.CreateProductRequest;
+import com.example.grocery.webApi.responses.product.GetAllProductResponse;
+
+// Manager'lar her map çağrısında mapperService.getModelMapper() ile yeni bir
+// ModelMapper alıyor; "fresh" bu yolu, "reused" tek örnekle eşlemeyi ölçer.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private ModelMapperImpl mapperService;
+    private ModelMapper reusedMapper;
+    private CreateProductRequest request;
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        mapperService = new ModelMapperImpl();
+        reusedMapper = mapperService.getModelMapper();
+        request = new CreateProductRequest("Milk", 24.5, "1L whole milk", LocalDate.now(),
+                LocalDate.now().plusDays(7), 100, 1L, 1L, 1L, new Long[] { 1L });
+        product = reusedMapper.map(request, Product.class);
+        product.setId(1L);
+    }
+
+    @Benchmark
+    public Product requestToEntityFresh() {
+        return mapperService.getModelMapper().map(request, Product.class);
+    }
+
+    @Benchmark
+    public Product requestToEntityReused() {
+        return reusedMapper.map(request, Product.class);
+    }
+
+    @Benchmark
+    public GetAllProductResponse entityToResponseFresh() {
+        return mapperService.getModelMapper().map(product, GetAllProductResponse.class);
+    }
+
+    @Benchmark
+    public GetAllProductResponse entityToResponseReused() {
+        return reusedMapper.map(product, GetAllProductResponse.class);
+    }
+}
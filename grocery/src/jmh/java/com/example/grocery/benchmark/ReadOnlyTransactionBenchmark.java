@@ -0,0 +1,137 @@
+package com.example.grocery.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.grocery.GroceryApplication;
+import com.example.grocery.business.abstracts.ProductService;
+import com.example.grocery.dataAccess.abstracts.CategoryRepository;
+import com.example.grocery.dataAccess.abstracts.ProducerRepository;
+import com.example.grocery.dataAccess.abstracts.ProductRepository;
+import com.example.grocery.entity.concretes.Category;
+import com.example.grocery.entity.concretes.Producer;
+import com.example.grocery.entity.concretes.Product;
+
+import jakarta.persistence.EntityManager;
+
+// Aynı sorgunun okuma-yazma ve readOnly transaction içindeki maliyeti. Bellek farkı için
+// gc profiler ile çalıştırılmalı ve gc.alloc.rate.norm karşılaştırılmalı:
+//   mvn -Pbenchmark test-compile exec:exec -Djmh.args="ReadOnlyTransactionBenchmark -prof gc -rf json -rff target/jmh-readonly.json"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadOnlyTransactionBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private ProductRepository productRepository;
+    private ProductService productService;
+    private EntityManager entityManager;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(GroceryApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa", "spring.datasource.password=",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "management.tracing.sampling.probability=0.0",
+                        "logging.level.root=WARN")
+                .run();
+
+        productRepository = context.getBean(ProductRepository.class);
+        productService = context.getBean(ProductService.class);
+        entityManager = context.getBean(EntityManager.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        seed();
+        verifyReadOnlySession();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int findAllReadWrite() {
+        return readWrite.execute(status -> productRepository.findAll().size());
+    }
+
+    @Benchmark
+    public int findAllReadOnly() {
+        return readOnly.execute(status -> productRepository.findAll().size());
+    }
+
+    @Benchmark
+    public int managerListByPagination() {
+        return productService.getListByPagination(0, 200).getData().size();
+    }
+
+    private void seed() {
+        Category category = new Category();
+        category.setName("Benchmark");
+        category = context.getBean(CategoryRepository.class).save(category);
+
+        Producer producer = new Producer();
+        producer.setName("Benchmark");
+        producer = context.getBean(ProducerRepository.class).save(producer);
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Product product = new Product();
+            product.setName("Product " + i);
+            product.setPrice(i);
+            product.setProductionDate(LocalDate.now());
+            product.setExpirationDate(LocalDate.now().plusDays(30));
+            product.setStock(100);
+            product.setCategory(category);
+            product.setProducer(producer);
+            product.setImages(new ArrayList<>());
+            products.add(product);
+        }
+        productRepository.saveAll(products);
+    }
+
+    // readOnly transaction'ın gerçekten MANUAL flush ve read-only session açtığını doğrular.
+    private void verifyReadOnlySession() {
+        readOnly.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            if (session.getHibernateFlushMode() != FlushMode.MANUAL || !session.isDefaultReadOnly()) {
+                throw new IllegalStateException("Read-only transaction is not using a read-only session");
+            }
+        });
+    }
+}
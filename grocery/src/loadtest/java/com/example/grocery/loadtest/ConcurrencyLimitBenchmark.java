@@ -0,0 +1,68 @@
+package com.example.grocery.loadtest;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import com.example.grocery.GroceryApplication;
+import com.example.grocery.loadtest.DataSeeder.SeedResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// Sabit heap ile (ör. -Xmx512m) artan eş zamanlı kullanıcı sayısında throughput,
+// p99 ve hata oranını ölçer. Platform ve sanal thread modları ayrı çalıştırılıp karşılaştırılır:
+//   mvn -Ploadtest test-compile exec:exec -Dexec.executable=java
+//       -Dexec.args="-Xmx512m -cp %classpath com.example.grocery.loadtest.ConcurrencyLimitBenchmark
+//                    --grocery.app.virtualThreads=true"
+public class ConcurrencyLimitBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(GroceryApplication.class)
+                .profiles("loadtest").run(args);
+        try {
+            Environment environment = context.getEnvironment();
+            boolean virtualThreads = environment.getProperty("grocery.app.virtualThreads", Boolean.class, false);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+
+            SeedResult seed = context.getBean(DataSeeder.class).seed();
+            LoadDriver driver = new LoadDriver("http://localhost:" + port, seed, objectMapper,
+                    LoadDriver.parseMix("browse:80,checkout:20"));
+
+            Map<Integer, Map<String, Object>> results = new LinkedHashMap<>();
+            System.out.printf("mode=%s maxHeap=%dMB%n", virtualThreads ? "virtual" : "platform",
+                    Runtime.getRuntime().maxMemory() / (1024 * 1024));
+            System.out.printf("%8s %10s %10s %10s%n", "users", "req/s", "p99(ms)", "errors");
+
+            for (int users : new int[] { 50, 200, 500, 1000, 2000, 4000 }) {
+                Map<String, Map<String, Object>> report = driver.run(users, 5, 20);
+                double throughput = 0;
+                double p99 = 0;
+                long errors = 0;
+                for (Map<String, Object> summary : report.values()) {
+                    throughput += (double) summary.get("throughputPerSecond");
+                    p99 = Math.max(p99, (double) summary.get("p99Ms"));
+                    errors += (long) summary.get("errors");
+                }
+
+                Map<String, Object> level = new LinkedHashMap<>();
+                level.put("throughputPerSecond", throughput);
+                level.put("worstEndpointP99Ms", p99);
+                level.put("errors", errors);
+                results.put(users, level);
+                System.out.printf("%8d %10.1f %10.2f %10d%n", users, throughput, p99, errors);
+            }
+
+            File result = new File("target/concurrency-" + (virtualThreads ? "virtual" : "platform") + ".json");
+            result.getParentFile().mkdirs();
+            objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(result, results);
+        } finally {
+            context.close();
+        }
+    }
+}
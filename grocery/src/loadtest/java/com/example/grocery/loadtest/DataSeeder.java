@@ -0,0 +1,184 @@
+package com.example.grocery.loadtest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.example.grocery.business.constants.Messages.LogMessages.LogInfoMessages;
+import com.example.grocery.core.security.models.User;
+import com.example.grocery.dataAccess.abstracts.CategoryRepository;
+import com.example.grocery.dataAccess.abstracts.IndividualCustomerRepository;
+import com.example.grocery.dataAccess.abstracts.OrderRepository;
+import com.example.grocery.dataAccess.abstracts.PaymentRepository;
+import com.example.grocery.dataAccess.abstracts.ProducerRepository;
+import com.example.grocery.dataAccess.abstracts.ProductRepository;
+import com.example.grocery.dataAccess.abstracts.SupplierRepository;
+import com.example.grocery.entity.concretes.Category;
+import com.example.grocery.entity.concretes.IndividualCustomer;
+import com.example.grocery.entity.concretes.Order;
+import com.example.grocery.entity.concretes.OrderLine;
+import com.example.grocery.entity.concretes.Payment;
+import com.example.grocery.entity.concretes.Producer;
+import com.example.grocery.entity.concretes.Product;
+import com.example.grocery.entity.concretes.Supplier;
+import com.example.grocery.entity.enums.Gender;
+import com.example.grocery.entity.enums.OrderStatus;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Yük testi için repository'ler üzerinden tekrarlanabilir (sabit seed) veri üretir.
+@Component
+@Profile("loadtest")
+@Slf4j
+public class DataSeeder {
+
+    @Value("${grocery.app.loadtest.categories}")
+    private int categoryCount;
+    @Value("${grocery.app.loadtest.producers}")
+    private int producerCount;
+    @Value("${grocery.app.loadtest.suppliers}")
+    private int supplierCount;
+    @Value("${grocery.app.loadtest.products}")
+    private int productCount;
+    @Value("${grocery.app.loadtest.customers}")
+    private int customerCount;
+    @Value("${grocery.app.loadtest.payments}")
+    private int paymentCount;
+    @Value("${grocery.app.loadtest.orders}")
+    private int orderCount;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ProducerRepository producerRepository;
+    @Autowired
+    private SupplierRepository supplierRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private IndividualCustomerRepository individualCustomerRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private final Random random = new Random(42);
+
+    public SeedResult seed() {
+        long start = System.currentTimeMillis();
+
+        List<Category> categories = new ArrayList<>();
+        for (int i = 0; i < categoryCount; i++) {
+            Category category = new Category();
+            category.setName("Category " + i);
+            categories.add(category);
+        }
+        categories = categoryRepository.saveAll(categories);
+
+        List<Producer> producers = new ArrayList<>();
+        for (int i = 0; i < producerCount; i++) {
+            Producer producer = new Producer();
+            producer.setName("Producer " + i);
+            producers.add(producer);
+        }
+        producers = producerRepository.saveAll(producers);
+
+        List<Supplier> suppliers = new ArrayList<>();
+        for (int i = 0; i < supplierCount; i++) {
+            Supplier supplier = new Supplier();
+            supplier.setName("Supplier " + i);
+            supplier.setAddress("Address " + i);
+            supplier.setPhoneNumber(String.format("0555%07d", i));
+            supplier.setEmail("supplier" + i + "@grocery.com");
+            suppliers.add(supplier);
+        }
+        suppliers = supplierRepository.saveAll(suppliers);
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < productCount; i++) {
+            Product product = new Product();
+            product.setName("Product " + i);
+            product.setPrice(1 + random.nextInt(50000) / 100.0);
+            product.setDescription("Seeded product " + i);
+            product.setProductionDate(LocalDate.now().minusDays(random.nextInt(30)));
+            product.setExpirationDate(LocalDate.now().plusDays(1 + random.nextInt(365)));
+            product.setStock(random.nextInt(1000));
+            product.setCategory(pick(categories));
+            product.setProducer(pick(producers));
+            product.setSupplier(pick(suppliers));
+            product.setImages(new ArrayList<>());
+            products.add(product);
+        }
+        products = productRepository.saveAll(products);
+
+        List<IndividualCustomer> customers = new ArrayList<>();
+        for (int i = 0; i < customerCount; i++) {
+            User user = new User("customer" + i, "customer" + i + "@grocery.com", "{noop}password");
+            user.setCreatedDateTime(LocalDateTime.now());
+            user.setActive(true);
+
+            IndividualCustomer customer = new IndividualCustomer();
+            customer.setUser(user);
+            customer.setAddress("Address " + i);
+            customer.setPhoneNumber(String.format("0532%07d", i));
+            customer.setFirstName("First" + i);
+            customer.setLastName("Last" + i);
+            customer.setNationalIdentity(String.format("%011d", 10000000000L + i));
+            customer.setGender(Gender.UNSPECIFY);
+            customers.add(customer);
+        }
+        customers = individualCustomerRepository.saveAll(customers);
+
+        List<Payment> payments = new ArrayList<>();
+        for (int i = 0; i < paymentCount; i++) {
+            Payment payment = new Payment();
+            payment.setCardNumber("4111111111111111");
+            payment.setFullName("CUSTOMER " + i);
+            payment.setCardExpirationYear(30);
+            payment.setCardExpirationMonth(1 + random.nextInt(12));
+            payment.setCardCvv("123");
+            payment.setBalance(random.nextInt(100000));
+            payments.add(payment);
+        }
+        payments = paymentRepository.saveAll(payments);
+
+        List<Order> orders = new ArrayList<>();
+        OrderStatus[] statuses = OrderStatus.values();
+        for (int i = 0; i < orderCount; i++) {
+            Order order = new Order();
+            order.setCreatedDate(LocalDateTime.now().minusMinutes(random.nextInt(60 * 24 * 90)));
+            order.setOrderStatus(statuses[random.nextInt(statuses.length)]);
+            order.setCustomer(pick(customers));
+            order.setPayment(pick(payments));
+            for (int j = 1 + random.nextInt(5); j > 0; j--) {
+                Product product = pick(products);
+                order.getOrderLines().add(new OrderLine(null, order, product, 1 + random.nextInt(3), product.getPrice()));
+            }
+            orders.add(order);
+        }
+        orderRepository.saveAll(orders);
+
+        log.info(LogInfoMessages.LOADTEST_DATA_SEEDED, products.size(),
+                customers.size(), payments.size(), orders.size(), System.currentTimeMillis() - start);
+
+        return new SeedResult(products.stream().map(Product::getId).toList(),
+                customers.stream().map(IndividualCustomer::getId).toList(),
+                payments.stream().map(Payment::getId).toList(),
+                orders.stream().map(Order::getId).toList());
+    }
+
+    private <T> T pick(List<T> list) {
+        return list.get(random.nextInt(list.size()));
+    }
+
+    public record SeedResult(List<Long> productIds, List<Long> customerIds, List<Long> paymentIds,
+            List<Long> orderIds) {
+    }
+}
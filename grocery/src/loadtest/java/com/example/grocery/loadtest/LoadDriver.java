@@ -0,0 +1,204 @@
+package com.example.grocery.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.HdrHistogram.ConcurrentHistogram;
+
+import com.example.grocery.configs.VirtualThreads;
+import com.example.grocery.loadtest.DataSeeder.SeedResult;
+import com.example.grocery.webApi.requests.order.CreateOrderRequest;
+import com.example.grocery.webApi.requests.order.OrderLineRequest;
+import com.example.grocery.webApi.requests.payment.CreatePaymentRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Kapalı döngü yük üreticisi: her thread ağırlıklara göre bir senaryo seçer ve
+// adımlarını sırayla çalıştırır. Gecikmeler endpoint bazında HdrHistogram'da tutulur.
+public class LoadDriver {
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private final String baseUrl;
+    private final SeedResult seed;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Integer> mix;
+
+    private volatile boolean recording;
+
+    public LoadDriver(String baseUrl, SeedResult seed, ObjectMapper objectMapper, Map<String, Integer> mix) {
+        this.baseUrl = baseUrl;
+        this.seed = seed;
+        this.objectMapper = objectMapper;
+        this.mix = mix;
+    }
+
+    public Map<String, Map<String, Object>> run(int threads, int warmupSeconds, int durationSeconds)
+            throws InterruptedException {
+        runFor(threads, warmupSeconds);
+        stats.clear();
+
+        recording = true;
+        long start = System.nanoTime();
+        runFor(threads, durationSeconds);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        recording = false;
+
+        Map<String, Map<String, Object>> report = new LinkedHashMap<>();
+        stats.entrySet().stream().sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> report.put(entry.getKey(), entry.getValue().summary(elapsedSeconds)));
+        return report;
+    }
+
+    private void runFor(int threads, int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        // İstemci tarafı binlerce eş zamanlı kullanıcıda darboğaz olmasın diye mümkünse sanal thread.
+        ExecutorService executor = VirtualThreads.isSupported()
+                ? Executors.newFixedThreadPool(threads, VirtualThreads.factory("load-client-"))
+                : Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    runScenario(pickScenario());
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+    }
+
+    private String pickScenario() {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int roll = ThreadLocalRandom.current().nextInt(total);
+        for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0)
+                return entry.getKey();
+        }
+        return "browse";
+    }
+
+    private void runScenario(String scenario) {
+        switch (scenario) {
+            case "browse":
+                get("GET /api/products/getlistbypagination",
+                        "/api/products/getlistbypagination?pageNo=" + randomPage() + "&pageSize=20");
+                get("GET /api/products/{id}", "/api/products/0?id=" + random(seed.productIds()));
+                get("GET /api/category/getall", "/api/category/getall");
+                break;
+            case "search":
+                get("GET /api/products/getlistbypaginationandsorting",
+                        "/api/products/getlistbypaginationandsorting?pageNo=" + randomPage()
+                                + "&pageSize=20&sortBy=price");
+                break;
+            case "checkout":
+                post("POST /api/payment/add", "/api/payment/add", new CreatePaymentRequest("4111111111111111",
+                        "Load Test", 30, 1 + ThreadLocalRandom.current().nextInt(12), "123", 1000));
+                post("POST /api/order/add", "/api/order/add", createOrderRequest());
+                break;
+            case "admin":
+                get("GET /api/order/getall", "/api/order/getall");
+                get("GET /api/customer/getall", "/api/customer/getall");
+                get("GET /api/order/getbyid/{id}", "/api/order/getbyid/" + random(seed.orderIds()));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        }
+    }
+
+    private CreateOrderRequest createOrderRequest() {
+        int lineCount = 1 + ThreadLocalRandom.current().nextInt(5);
+        List<OrderLineRequest> lines = new ArrayList<>();
+        for (int i = 0; i < lineCount; i++) {
+            lines.add(new OrderLineRequest(random(seed.productIds()), 1 + ThreadLocalRandom.current().nextInt(3)));
+        }
+        return new CreateOrderRequest(LocalDateTime.now(), null,
+                random(seed.paymentIds()), random(seed.customerIds()), lines);
+    }
+
+    private void get(String endpoint, String path) {
+        send(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build());
+    }
+
+    private void post(String endpoint, String path, Object body) {
+        try {
+            send(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))).build());
+        } catch (Exception e) {
+            record(endpoint, 0, false);
+        }
+    }
+
+    private void send(String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        boolean success;
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            success = response.statusCode() < 400;
+        } catch (Exception e) {
+            success = false;
+        }
+        record(endpoint, System.nanoTime() - start, success);
+    }
+
+    private void record(String endpoint, long nanos, boolean success) {
+        if (!recording)
+            return;
+        stats.computeIfAbsent(endpoint, key -> new EndpointStats()).record(nanos, success);
+    }
+
+    private int randomPage() {
+        return ThreadLocalRandom.current().nextInt(Math.max(1, seed.productIds().size() / 20));
+    }
+
+    private Long random(List<Long> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private static class EndpointStats {
+
+        private final ConcurrentHistogram histogram = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+        private final AtomicLong errors = new AtomicLong();
+
+        void record(long nanos, boolean success) {
+            histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), histogram.getHighestTrackableValue()));
+            if (!success)
+                errors.incrementAndGet();
+        }
+
+        Map<String, Object> summary(double elapsedSeconds) {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", histogram.getTotalCount());
+            summary.put("errors", errors.get());
+            summary.put("throughputPerSecond", histogram.getTotalCount() / elapsedSeconds);
+            summary.put("p50Ms", histogram.getValueAtPercentile(50) / 1000.0);
+            summary.put("p95Ms", histogram.getValueAtPercentile(95) / 1000.0);
+            summary.put("p99Ms", histogram.getValueAtPercentile(99) / 1000.0);
+            summary.put("maxMs", histogram.getMaxValue() / 1000.0);
+            return summary;
+        }
+    }
+
+    public static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split(":");
+            weights.put(pair[0], Integer.parseInt(pair[1]));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.grocery.loadtest;
+
+import java.io.File;
+import java.util.Map;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import com.example.grocery.GroceryApplication;
+import com.example.grocery.loadtest.DataSeeder.SeedResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// Uygulamayı "loadtest" profili ve gömülü H2 ile başlatır, veri üretir, senaryoları
+// koşturur ve endpoint başına p50/p95/p99 ile throughput raporlar.
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(GroceryApplication.class)
+                .profiles("loadtest").run(args);
+        try {
+            Environment environment = context.getEnvironment();
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+
+            SeedResult seed = context.getBean(DataSeeder.class).seed();
+            LoadDriver driver = new LoadDriver("http://localhost:" + port, seed, objectMapper,
+                    LoadDriver.parseMix(environment.getRequiredProperty("grocery.app.loadtest.mix")));
+
+            Map<String, Map<String, Object>> report = driver.run(
+                    environment.getRequiredProperty("grocery.app.loadtest.threads", Integer.class),
+                    environment.getRequiredProperty("grocery.app.loadtest.warmupSeconds", Integer.class),
+                    environment.getRequiredProperty("grocery.app.loadtest.durationSeconds", Integer.class));
+
+            System.out.printf("%-50s %9s %7s %9s %9s %9s %9s%n", "endpoint", "req/s", "errors", "p50(ms)",
+                    "p95(ms)", "p99(ms)", "max(ms)");
+            report.forEach((endpoint, summary) -> System.out.printf("%-50s %9.1f %7d %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint, summary.get("throughputPerSecond"), summary.get("errors"), summary.get("p50Ms"),
+                    summary.get("p95Ms"), summary.get("p99Ms"), summary.get("maxMs")));
+
+            File result = new File("target/loadtest-result.json");
+            result.getParentFile().mkdirs();
+            objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(result, report);
+        } finally {
+            context.close();
+        }
+    }
+}
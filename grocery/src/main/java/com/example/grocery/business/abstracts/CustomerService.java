@@ -1,11 +1,13 @@
 package com.example.grocery.business.abstracts;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import com.example.grocery.core.utilities.results.DataResult;
 import com.example.grocery.entity.concretes.Customer;
 import com.example.grocery.webApi.responses.customer.GetAllCustomerResponse;
 import com.example.grocery.webApi.responses.customer.GetByIdCustomerResponse;
+import com.example.grocery.webApi.responses.customer.GetCustomerOrdersPageResponse;
 
 public interface CustomerService {
 
@@ -20,4 +22,7 @@ public interface CustomerService {
     DataResult<List<GetAllCustomerResponse>> getListByPagination(int pageNo, int pageSize);
 
     DataResult<List<GetAllCustomerResponse>> getListByPaginationAndSorting(int pageNo, int pageSize, String sortBy);
+
+    DataResult<GetCustomerOrdersPageResponse> getOrders(Long id, LocalDateTime beforeDate, Long beforeId,
+            int pageSize);
 }
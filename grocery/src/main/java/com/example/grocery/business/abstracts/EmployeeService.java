@@ -4,9 +4,11 @@ import java.util.List;
 
 import com.example.grocery.core.utilities.results.DataResult;
 import com.example.grocery.core.utilities.results.Result;
+import com.example.grocery.webApi.requests.employee.CreateAllEmployeeRequest;
 import com.example.grocery.webApi.requests.employee.CreateEmployeeRequest;
 import com.example.grocery.webApi.requests.employee.DeleteEmployeeRequest;
 import com.example.grocery.webApi.requests.employee.UpdateEmployeeRequest;
+import com.example.grocery.webApi.responses.employee.AddAllEmployeeResponse;
 import com.example.grocery.webApi.responses.employee.GetAllEmployeeResponse;
 import com.example.grocery.webApi.responses.employee.GetByIdEmployeeResponse;
 
@@ -14,6 +16,8 @@ public interface EmployeeService {
 
     Result add(CreateEmployeeRequest createEmployeeRequest);
 
+    DataResult<List<AddAllEmployeeResponse>> addAll(CreateAllEmployeeRequest createAllEmployeeRequest);
+
     Result delete(DeleteEmployeeRequest deleteEmployeeRequest);
 
     Result update(UpdateEmployeeRequest updateEmployeeRequest, Long id);
@@ -0,0 +1,12 @@
+package com.example.grocery.business.abstracts;
+
+import java.util.Map;
+
+public interface InventoryService {
+
+    void reserve(Map<Long, Integer> quantities);
+
+    void release(Map<Long, Integer> quantities);
+
+    void adjust(Map<Long, Integer> released, Map<Long, Integer> reserved);
+}
@@ -4,11 +4,14 @@ import java.util.List;
 
 import com.example.grocery.core.utilities.results.DataResult;
 import com.example.grocery.core.utilities.results.Result;
+import com.example.grocery.webApi.requests.order.BulkUpdateOrderStatusRequest;
 import com.example.grocery.webApi.requests.order.CreateOrderRequest;
 import com.example.grocery.webApi.requests.order.DeleteOrderRequest;
 import com.example.grocery.webApi.requests.order.UpdateOrderRequest;
+import com.example.grocery.webApi.requests.order.UpdateOrderStatusRequest;
 import com.example.grocery.webApi.responses.order.GetAllOrderResponse;
 import com.example.grocery.webApi.responses.order.GetByIdOrderResponse;
+import com.example.grocery.webApi.responses.order.UpdateOrderStatusResponse;
 
 public interface OrderService {
 
@@ -18,6 +21,12 @@ public interface OrderService {
 
     Result update(UpdateOrderRequest updateOrderRequest, Long id);
 
+    Result cancel(Long id);
+
+    Result updateStatus(Long id, UpdateOrderStatusRequest updateOrderStatusRequest);
+
+    DataResult<UpdateOrderStatusResponse> bulkUpdateStatus(BulkUpdateOrderStatusRequest bulkUpdateOrderStatusRequest);
+
     DataResult<List<GetAllOrderResponse>> getAll();
 
     DataResult<GetByIdOrderResponse> getById(Long id);
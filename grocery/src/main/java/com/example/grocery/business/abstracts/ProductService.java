@@ -2,14 +2,19 @@ package com.example.grocery.business.abstracts;
 
 import java.util.List;
 
+import com.example.grocery.core.trending.TrendingWindow;
 import com.example.grocery.core.utilities.results.DataResult;
 import com.example.grocery.core.utilities.results.Result;
 import com.example.grocery.entity.concretes.Product;
 import com.example.grocery.webApi.requests.product.CreateProductRequest;
 import com.example.grocery.webApi.requests.product.DeleteProductRequest;
+import com.example.grocery.webApi.requests.product.FilterProductRequest;
 import com.example.grocery.webApi.requests.product.UpdateProductRequest;
+import com.example.grocery.webApi.responses.product.FilterProductPageResponse;
 import com.example.grocery.webApi.responses.product.GetAllProductResponse;
 import com.example.grocery.webApi.responses.product.GetByIdProductResponse;
+import com.example.grocery.webApi.responses.product.SearchProductPageResponse;
+import com.example.grocery.webApi.responses.product.TrendingProductResponse;
 
 public interface ProductService {
 
@@ -29,6 +34,14 @@ public interface ProductService {
 
     DataResult<List<GetAllProductResponse>> getListByPaginationAndSorting(int pageNo, int pageSize, String sortBy);
 
+    DataResult<List<TrendingProductResponse>> getTrending(TrendingWindow window, int limit);
+
+    DataResult<SearchProductPageResponse> search(String query, int pageNo, int pageSize);
+
+    Result rebuildSearchIndex();
+
+    DataResult<FilterProductPageResponse> filter(FilterProductRequest filterProductRequest);
+
     Product getProductById(Long id);
 
     List<Product> getProductsByIds(Long[] productId);
@@ -4,6 +4,7 @@ import com.example.grocery.business.abstracts.CategoryService;
 import com.example.grocery.business.constants.Messages.*;
 import com.example.grocery.business.constants.Messages.LogMessages.LogInfoMessages;
 import com.example.grocery.business.constants.Messages.LogMessages.LogWarnMessages;
+import com.example.grocery.business.events.CategoryChangedEvent;
 import com.example.grocery.core.utilities.business.BusinessRules;
 import com.example.grocery.core.utilities.exceptions.BusinessException;
 import com.example.grocery.core.utilities.mapper.MapperService;
@@ -21,9 +22,11 @@ import com.example.grocery.webApi.responses.category.GetByIdCategoryResponse;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -36,6 +39,8 @@ public class CategoryManager implements CategoryService {
     private CategoryRepository categoryRepository;
     @Autowired
     private MapperService mapperService;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     @Override
     public Result add(CreateCategoryRequest createCategoryRequest) {
@@ -46,6 +51,7 @@ public class CategoryManager implements CategoryService {
 
         Category category = mapperService.getModelMapper().map(createCategoryRequest, Category.class);
         categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(category.getId(), false));
         log.info(LogInfoMessages.CATEGORY_ADDED, createCategoryRequest.getName());
         return new SuccessResult(CreateMessages.CATEGORY_CREATED);
     }
@@ -60,6 +66,7 @@ public class CategoryManager implements CategoryService {
         Category category = mapperService.getModelMapper().map(deleteCategoryRequest, Category.class);
         log.info(LogInfoMessages.CATEGORY_DELETED, getCategoryById(deleteCategoryRequest.getId()).getName());
         categoryRepository.delete(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(deleteCategoryRequest.getId(), true));
         return new SuccessResult(DeleteMessages.CATEGORY_DELETED);
     }
 
@@ -75,11 +82,13 @@ public class CategoryManager implements CategoryService {
         Category category = mapperService.getModelMapper().map(updateCategoryRequest, Category.class);
         category.setId(inDbCategory.getId());
         categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(id, false));
         log.info(LogInfoMessages.CATEGORY_UPDATED, updateCategoryRequest.getName());
         return new SuccessResult(UpdateMessages.CATEGORY_MODIFIED);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllCategoryResponse>> getAll() {
         List<Category> categories = categoryRepository.findAll();
         List<GetAllCategoryResponse> returnList = categories.stream()
@@ -89,6 +98,7 @@ public class CategoryManager implements CategoryService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<GetByIdCategoryResponse> getById(Long id) {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorMessages.ID_NOT_FOUND));
@@ -98,6 +108,7 @@ public class CategoryManager implements CategoryService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllCategoryResponse>> getListBySorting(String sortBy) {
         isValidSortParameter(sortBy);
 
@@ -108,6 +119,7 @@ public class CategoryManager implements CategoryService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllCategoryResponse>> getListByPagination(int pageNo, int pageSize) {
         isPageNumberValid(pageNo);
         isPageSizeValid(pageSize);
@@ -120,6 +132,7 @@ public class CategoryManager implements CategoryService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllCategoryResponse>> getListByPaginationAndSorting(int pageNo, int pageSize,
             String sortBy) {
         isPageNumberValid(pageNo);
@@ -137,6 +150,7 @@ public class CategoryManager implements CategoryService {
     // ProductManager sınıfımızda bağımlılığı kontrol altına alma adına kullanılmak
     // üzere tasarlandı.
     @Override
+    @Transactional(readOnly = true)
     public Category getCategoryById(Long id) {
         return categoryRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorMessages.CATEGORY_ID_NOT_FOUND));
@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.grocery.business.abstracts.CorporateCustomerService;
 import com.example.grocery.business.abstracts.PhotoService;
@@ -34,7 +35,6 @@ import com.example.grocery.webApi.requests.corporateCustomer.UpdateCorporateCust
 import com.example.grocery.webApi.responses.corporateCustomer.GetAllCorporateCustomerResponse;
 import com.example.grocery.webApi.responses.corporateCustomer.GetByIdCorporateCustomerResponse;
 
-import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
@@ -106,6 +106,7 @@ public class CorporateCustomerManager implements CorporateCustomerService {
         }
 
         @Override
+        @Transactional(readOnly = true)
         public DataResult<List<GetAllCorporateCustomerResponse>> getAll() {
                 List<CorporateCustomer> corporateCustomers = corporateCustomerRepository.findAll();
                 List<GetAllCorporateCustomerResponse> returnList = new ArrayList<>();
@@ -121,6 +122,7 @@ public class CorporateCustomerManager implements CorporateCustomerService {
         }
 
         @Override
+        @Transactional(readOnly = true)
         public DataResult<GetByIdCorporateCustomerResponse> getById(Long id) {
                 CorporateCustomer inDbCorporateCustomer = corporateCustomerRepository.findById(id)
                                 .orElseThrow(() -> new BusinessException(ErrorMessages.ID_NOT_FOUND));
@@ -133,6 +135,7 @@ public class CorporateCustomerManager implements CorporateCustomerService {
         }
 
         @Override
+        @Transactional(readOnly = true)
         public DataResult<List<GetAllCorporateCustomerResponse>> getListBySorting(String sortBy) {
                 isValidSortParameter(sortBy);
 
@@ -151,6 +154,7 @@ public class CorporateCustomerManager implements CorporateCustomerService {
         }
 
         @Override
+        @Transactional(readOnly = true)
         public DataResult<List<GetAllCorporateCustomerResponse>> getListByPagination(int pageNo, int pageSize) {
                 isPageNumberValid(pageNo);
                 isPageSizeValid(pageSize);
@@ -170,6 +174,7 @@ public class CorporateCustomerManager implements CorporateCustomerService {
         }
 
         @Override
+        @Transactional(readOnly = true)
         public DataResult<List<GetAllCorporateCustomerResponse>> getListByPaginationAndSorting(int pageNo, int pageSize,
                         String sortBy) {
                 isPageNumberValid(pageNo);
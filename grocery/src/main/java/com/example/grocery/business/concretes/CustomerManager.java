@@ -1,5 +1,6 @@
 package com.example.grocery.business.concretes;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -7,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.grocery.business.abstracts.CustomerService;
 import com.example.grocery.business.constants.Messages.ErrorMessages;
@@ -18,9 +20,13 @@ import com.example.grocery.core.utilities.mapper.MapperService;
 import com.example.grocery.core.utilities.results.DataResult;
 import com.example.grocery.core.utilities.results.SuccessDataResult;
 import com.example.grocery.dataAccess.abstracts.CustomerRepository;
+import com.example.grocery.dataAccess.abstracts.OrderRepository;
+import com.example.grocery.dataAccess.abstracts.OrderRepository.CustomerOrderView;
 import com.example.grocery.entity.concretes.Customer;
 import com.example.grocery.webApi.responses.customer.GetAllCustomerResponse;
 import com.example.grocery.webApi.responses.customer.GetByIdCustomerResponse;
+import com.example.grocery.webApi.responses.customer.GetCustomerOrderResponse;
+import com.example.grocery.webApi.responses.customer.GetCustomerOrdersPageResponse;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -28,12 +34,17 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class CustomerManager implements CustomerService {
 
+    private static final int MAX_ORDER_PAGE_SIZE = 100;
+
     @Autowired
     private CustomerRepository customerRepository;
     @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
     private MapperService mapperService;
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllCustomerResponse>> getAll() {
         List<Customer> inDbCustomers = customerRepository.findAll();
         List<GetAllCustomerResponse> returnList = new ArrayList<>();
@@ -48,6 +59,7 @@ public class CustomerManager implements CustomerService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<GetByIdCustomerResponse> getById(Long id) {
         Customer inDbCustomer = customerRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorMessages.ID_NOT_FOUND));
@@ -59,6 +71,7 @@ public class CustomerManager implements CustomerService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllCustomerResponse>> getListBySorting(String sortBy) {
         isValidSortParameter(sortBy);
 
@@ -75,6 +88,7 @@ public class CustomerManager implements CustomerService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllCustomerResponse>> getListByPagination(int pageNo, int pageSize) {
         isPageNumberValid(pageNo);
         isPageSizeValid(pageSize);
@@ -92,6 +106,7 @@ public class CustomerManager implements CustomerService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllCustomerResponse>> getListByPaginationAndSorting(int pageNo, int pageSize,
             String sortBy) {
         isPageNumberValid(pageNo);
@@ -111,8 +126,41 @@ public class CustomerManager implements CustomerService {
         return new SuccessDataResult<>(returnList, GetListMessages.CUSTOMERS_PAGINATED_AND_SORTED + sortBy);
     }
 
+    // Offset yerine son görülen (created_date, order_id) ile sayfalanır; derin
+    // sayfalar da indeks üzerinde yalnızca pageSize kadar satır okur.
+    @Override
+    @Transactional(readOnly = true)
+    public DataResult<GetCustomerOrdersPageResponse> getOrders(Long id, LocalDateTime beforeDate, Long beforeId,
+            int pageSize) {
+        isPageSizeValid(pageSize);
+        isOrderPageSizeValid(pageSize);
+        if ((beforeDate == null) != (beforeId == null))
+            throw new BusinessException(ErrorMessages.ORDER_CURSOR_NOT_VALID);
+        if (!customerRepository.existsById(id))
+            throw new BusinessException(ErrorMessages.CUSTOMER_ID_NOT_FOUND);
+
+        // Bir fazla satır okunarak sonraki sayfanın olup olmadığı ayrıca sayılmadan anlaşılır.
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<CustomerOrderView> views = beforeDate == null
+                ? orderRepository.findCustomerOrders(id, limit)
+                : orderRepository.findCustomerOrdersBefore(id, beforeDate, beforeId, limit);
+
+        boolean hasMore = views.size() > pageSize;
+        List<GetCustomerOrderResponse> orders = new ArrayList<>();
+        for (CustomerOrderView view : hasMore ? views.subList(0, pageSize) : views) {
+            orders.add(new GetCustomerOrderResponse(view.getId(), view.getCreatedDate(), view.getDeliveredDate(),
+                    view.getOrderStatus(), view.getPaymentId(), view.getLineCount(), view.getItemCount(),
+                    view.getTotalPrice()));
+        }
+        GetCustomerOrderResponse last = hasMore ? orders.get(orders.size() - 1) : null;
+        return new SuccessDataResult<>(new GetCustomerOrdersPageResponse(orders,
+                last == null ? null : last.getCreatedDate(), last == null ? null : last.getId()),
+                GetListMessages.CUSTOMER_ORDERS_LISTED);
+    }
+
     // Bağımlılığı kontrol altına almak için tasarlandı
     @Override
+    @Transactional(readOnly = true)
     public Customer getCustomerById(Long id) {
         return customerRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorMessages.CUSTOMER_ID_NOT_FOUND));
@@ -132,6 +180,13 @@ public class CustomerManager implements CustomerService {
         }
     }
 
+    private void isOrderPageSizeValid(int pageSize) {
+        if (pageSize > MAX_ORDER_PAGE_SIZE) {
+            log.warn(LogWarnMessages.PAGE_SIZE_TOO_LARGE, pageSize);
+            throw new BusinessException(ErrorMessages.PAGE_SIZE_TOO_LARGE + MAX_ORDER_PAGE_SIZE);
+        }
+    }
+
     private void isValidSortParameter(String sortBy) {
         Customer checkField = new Customer();
         if (!checkField.toString().contains(sortBy)) {
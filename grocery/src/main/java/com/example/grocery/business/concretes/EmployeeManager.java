@@ -3,6 +3,7 @@ package com.example.grocery.business.concretes;
 import com.example.grocery.business.abstracts.EmployeeService;
 import com.example.grocery.business.abstracts.PhotoService;
 import com.example.grocery.business.constants.Messages.*;
+import com.example.grocery.business.constants.Messages.LogMessages.LogErrorMessages;
 import com.example.grocery.business.constants.Messages.LogMessages.LogInfoMessages;
 import com.example.grocery.business.constants.Messages.LogMessages.LogWarnMessages;
 import com.example.grocery.core.security.services.UserService;
@@ -17,23 +18,29 @@ import com.example.grocery.core.validation.mernisValidation.MernisValidationServ
 import com.example.grocery.dataAccess.abstracts.EmployeeRepository;
 import com.example.grocery.entity.concretes.Employee;
 import com.example.grocery.entity.enums.Nationality;
+import com.example.grocery.webApi.requests.employee.CreateAllEmployeeRequest;
 import com.example.grocery.webApi.requests.employee.CreateEmployeeRequest;
 import com.example.grocery.webApi.requests.employee.DeleteEmployeeRequest;
 import com.example.grocery.webApi.requests.employee.UpdateEmployeeRequest;
+import com.example.grocery.webApi.responses.employee.AddAllEmployeeResponse;
 import com.example.grocery.webApi.responses.employee.GetAllEmployeeResponse;
 import com.example.grocery.webApi.responses.employee.GetByIdEmployeeResponse;
 
-import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.Period;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 @Slf4j
@@ -71,6 +78,70 @@ public class EmployeeManager implements EmployeeService {
         return new SuccessResult(CreateMessages.EMPLOYEE_CREATED);
     }
 
+    // Mağaza açılışlarında toplu personel aktarımı için tasarlandı. Mernis
+    // doğrulamaları paralel yürütülür, sonuçlar kayıt bazında döner. Mernis
+    // yanıtları beklenirken transaction ve bağlantı tutulmaz; kabul edilen
+    // kayıtlar saveAll ile tek transaction'da yazılır.
+    @Override
+    public DataResult<List<AddAllEmployeeResponse>> addAll(CreateAllEmployeeRequest createAllEmployeeRequest) {
+        List<AddAllEmployeeResponse> returnList = new ArrayList<>();
+        List<AddAllEmployeeResponse> acceptedResponses = new ArrayList<>();
+        List<Employee> acceptedEmployees = new ArrayList<>();
+        List<CompletableFuture<Result>> validations = new ArrayList<>();
+        Set<String> nationalIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> imageIds = new HashSet<>();
+
+        for (CreateEmployeeRequest createEmployeeRequest : createAllEmployeeRequest.getEmployees()) {
+            AddAllEmployeeResponse response = new AddAllEmployeeResponse(createEmployeeRequest.getNationalIdentity(),
+                    createEmployeeRequest.getFirstName(), createEmployeeRequest.getLastName(), null, false, null);
+            returnList.add(response);
+            try {
+                BusinessRules.run(isExistNationalId(createEmployeeRequest.getNationalIdentity()),
+                        isPermissibleAge(createEmployeeRequest.getYearOfBirth()),
+                        isExistUserId(createEmployeeRequest.getUserId()),
+                        isExistImageId(createEmployeeRequest.getImageId()),
+                        isRepeatedInImport(createEmployeeRequest, nationalIds, userIds, imageIds));
+
+                Employee employee = mapperService.getModelMapper().map(createEmployeeRequest, Employee.class);
+                employee.setUser(userService.getUserById(createEmployeeRequest.getUserId()));
+                employee.setImage(photoService.getImageById(createEmployeeRequest.getImageId()));
+
+                acceptedEmployees.add(employee);
+                acceptedResponses.add(response);
+                validations.add(mernisValidationService.validateAsync(employee));
+            } catch (BusinessException e) {
+                log.warn(LogWarnMessages.EMPLOYEE_IMPORT_REJECTED, createEmployeeRequest.getNationalIdentity(),
+                        e.getMessage());
+                response.setMessage(e.getMessage());
+            }
+        }
+
+        List<Employee> validatedEmployees = new ArrayList<>();
+        for (int i = 0; i < acceptedEmployees.size(); i++) {
+            Employee employee = acceptedEmployees.get(i);
+            AddAllEmployeeResponse response = acceptedResponses.get(i);
+            try {
+                Result validation = validations.get(i).join();
+                employee.setNationality(validation.isSuccess() ? Nationality.TURKISH : Nationality.OTHER);
+            } catch (CompletionException e) {
+                log.error(LogErrorMessages.MERNIS_VALIDATION_FAILED, employee.getNationalIdentity(),
+                        e.getCause().getMessage());
+                response.setMessage(e.getCause().getMessage());
+                continue;
+            }
+            response.setNationality(employee.getNationality());
+            response.setSuccess(true);
+            response.setMessage(CreateMessages.EMPLOYEE_CREATED);
+            validatedEmployees.add(employee);
+        }
+
+        employeeRepository.saveAll(validatedEmployees);
+        log.info(LogInfoMessages.EMPLOYEES_IMPORTED, validatedEmployees.size(),
+                createAllEmployeeRequest.getEmployees().size());
+        return new SuccessDataResult<>(returnList, CreateMessages.EMPLOYEES_IMPORTED);
+    }
+
     @Override
     @Transactional
     public Result delete(DeleteEmployeeRequest deleteEmployeeRequest) {
@@ -112,6 +183,7 @@ public class EmployeeManager implements EmployeeService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllEmployeeResponse>> getAll() {
         List<Employee> employeeList = employeeRepository.findAll();
         List<GetAllEmployeeResponse> returnList = new ArrayList<>();
@@ -126,6 +198,7 @@ public class EmployeeManager implements EmployeeService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<GetByIdEmployeeResponse> getById(Long id) {
         Employee inDbEmployee = employeeRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorMessages.ID_NOT_FOUND));
@@ -137,6 +210,7 @@ public class EmployeeManager implements EmployeeService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllEmployeeResponse>> getListBySorting(String sortBy) {
         isValidSortParameter(sortBy);
 
@@ -153,6 +227,7 @@ public class EmployeeManager implements EmployeeService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllEmployeeResponse>> getListByPagination(int pageNo, int pageSize) {
         isPageNumberValid(pageNo);
         isPageSizeValid(pageSize);
@@ -170,6 +245,7 @@ public class EmployeeManager implements EmployeeService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllEmployeeResponse>> getListByPaginationAndSorting(int pageNo, int pageSize,
             String sortBy) {
         isPageNumberValid(pageNo);
@@ -220,6 +296,20 @@ public class EmployeeManager implements EmployeeService {
         return new SuccessResult();
     }
 
+    private Result isRepeatedInImport(CreateEmployeeRequest createEmployeeRequest, Set<String> nationalIds,
+            Set<Long> userIds, Set<Long> imageIds) {
+        if (!nationalIds.add(createEmployeeRequest.getNationalIdentity())) {
+            throw new BusinessException(ErrorMessages.NATIONAL_IDENTITY_REPEATED);
+        }
+        if (!userIds.add(createEmployeeRequest.getUserId())) {
+            throw new BusinessException(ErrorMessages.USER_ID_REPEATED);
+        }
+        if (createEmployeeRequest.getImageId() != null && !imageIds.add(createEmployeeRequest.getImageId())) {
+            throw new BusinessException(ErrorMessages.IMAGE_ID_REPEATED);
+        }
+        return new SuccessResult();
+    }
+
     private Result isPermissibleAge(LocalDate birthYear) {
         LocalDate today = LocalDate.now();
         Period period = Period.between(birthYear, today);
@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.grocery.business.abstracts.IndividualCustomerService;
 import com.example.grocery.business.abstracts.PhotoService;
@@ -34,7 +35,6 @@ import com.example.grocery.webApi.requests.individualCustomer.UpdateIndividualCu
 import com.example.grocery.webApi.responses.individualCustomer.GetAllIndividualCustomerResponse;
 import com.example.grocery.webApi.responses.individualCustomer.GetByIdIndividualCustomerResponse;
 
-import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
@@ -113,6 +113,7 @@ public class IndividualCustomerManager implements IndividualCustomerService {
         }
 
         @Override
+        @Transactional(readOnly = true)
         public DataResult<List<GetAllIndividualCustomerResponse>> getAll() {
                 List<IndividualCustomer> individualCustomers = individualCustomerRepository.findAll();
                 List<GetAllIndividualCustomerResponse> returnList = new ArrayList<>();
@@ -128,6 +129,7 @@ public class IndividualCustomerManager implements IndividualCustomerService {
         }
 
         @Override
+        @Transactional(readOnly = true)
         public DataResult<GetByIdIndividualCustomerResponse> getById(Long id) {
                 IndividualCustomer inDbIndividualCustomer = individualCustomerRepository.findById(id)
                                 .orElseThrow(() -> new BusinessException(ErrorMessages.ID_NOT_FOUND));
@@ -141,6 +143,7 @@ public class IndividualCustomerManager implements IndividualCustomerService {
         }
 
         @Override
+        @Transactional(readOnly = true)
         public DataResult<List<GetAllIndividualCustomerResponse>> getListBySorting(String sortBy) {
                 isValidSortParameter(sortBy);
 
@@ -159,6 +162,7 @@ public class IndividualCustomerManager implements IndividualCustomerService {
         }
 
         @Override
+        @Transactional(readOnly = true)
         public DataResult<List<GetAllIndividualCustomerResponse>> getListByPagination(int pageNo, int pageSize) {
                 isPageNumberValid(pageNo);
                 isPageSizeValid(pageSize);
@@ -178,6 +182,7 @@ public class IndividualCustomerManager implements IndividualCustomerService {
         }
 
         @Override
+        @Transactional(readOnly = true)
         public DataResult<List<GetAllIndividualCustomerResponse>> getListByPaginationAndSorting(int pageNo,
                         int pageSize, String sortBy) {
                 isPageNumberValid(pageNo);
@@ -0,0 +1,72 @@
+package com.example.grocery.business.concretes;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.grocery.business.abstracts.InventoryService;
+import com.example.grocery.business.constants.Messages.ErrorMessages;
+import com.example.grocery.business.constants.Messages.LogMessages.LogInfoMessages;
+import com.example.grocery.business.constants.Messages.LogMessages.LogWarnMessages;
+import com.example.grocery.core.utilities.exceptions.BusinessException;
+import com.example.grocery.dataAccess.abstracts.ProductRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class InventoryManager implements InventoryService {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    // Stoğu yetmeyen ürün varsa exception ile siparişin transaction'ı geri alınır,
+    // düşülen satırlar da geri döner.
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserve(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty())
+            return;
+
+        List<Long> insufficient = productRepository.reserveStock(quantities);
+        if (!insufficient.isEmpty()) {
+            log.warn(LogWarnMessages.INSUFFICIENT_STOCK, insufficient);
+            throw new BusinessException(ErrorMessages.INSUFFICIENT_STOCK + insufficient);
+        }
+        log.info(LogInfoMessages.STOCK_RESERVED, quantities);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty())
+            return;
+
+        productRepository.releaseStock(quantities);
+        log.info(LogInfoMessages.STOCK_RELEASED, quantities);
+    }
+
+    // Sipariş güncellemesinde ürün başına net fark tek batch ile uygulanır. Ayrı iade
+    // ve düşüm batch'leri satırları iki kez, farklı sırada kilitleyip deadlock yaratabilir.
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void adjust(Map<Long, Integer> released, Map<Long, Integer> reserved) {
+        Map<Long, Integer> deltas = new HashMap<>(reserved);
+        released.forEach((productId, quantity) -> deltas.merge(productId, -quantity, Integer::sum));
+        deltas.values().removeIf(delta -> delta == 0);
+        if (deltas.isEmpty())
+            return;
+
+        List<Long> insufficient = productRepository.adjustStock(deltas);
+        if (!insufficient.isEmpty()) {
+            log.warn(LogWarnMessages.INSUFFICIENT_STOCK, insufficient);
+            throw new BusinessException(ErrorMessages.INSUFFICIENT_STOCK + insufficient);
+        }
+        log.info(LogInfoMessages.STOCK_ADJUSTED, deltas);
+    }
+}
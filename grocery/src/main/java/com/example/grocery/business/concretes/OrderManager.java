@@ -1,12 +1,15 @@
 package com.example.grocery.business.concretes;
 
 import com.example.grocery.business.abstracts.CustomerService;
+import com.example.grocery.business.abstracts.InventoryService;
 import com.example.grocery.business.abstracts.OrderService;
 import com.example.grocery.business.abstracts.PaymentService;
 import com.example.grocery.business.abstracts.ProductService;
 import com.example.grocery.business.constants.Messages.*;
 import com.example.grocery.business.constants.Messages.LogMessages.LogInfoMessages;
 import com.example.grocery.business.constants.Messages.LogMessages.LogWarnMessages;
+import com.example.grocery.business.events.OrderPlacedEvent;
+import com.example.grocery.core.analytics.service.SalesReportService;
 import com.example.grocery.core.utilities.business.BusinessRules;
 import com.example.grocery.core.utilities.exceptions.BusinessException;
 import com.example.grocery.core.utilities.mapper.MapperService;
@@ -14,34 +17,60 @@ import com.example.grocery.core.utilities.results.DataResult;
 import com.example.grocery.core.utilities.results.Result;
 import com.example.grocery.core.utilities.results.SuccessDataResult;
 import com.example.grocery.core.utilities.results.SuccessResult;
+import com.example.grocery.dataAccess.abstracts.OrderLineRepository;
+import com.example.grocery.dataAccess.abstracts.OrderLineRepository.OrderLineView;
+import com.example.grocery.dataAccess.abstracts.OrderLineRepository.OrderTotalView;
 import com.example.grocery.dataAccess.abstracts.OrderRepository;
 import com.example.grocery.entity.concretes.Order;
+import com.example.grocery.entity.concretes.OrderLine;
 import com.example.grocery.entity.concretes.Product;
+import com.example.grocery.entity.enums.OrderStatus;
+import com.example.grocery.webApi.requests.order.BulkUpdateOrderStatusRequest;
 import com.example.grocery.webApi.requests.order.CreateOrderRequest;
 import com.example.grocery.webApi.requests.order.DeleteOrderRequest;
+import com.example.grocery.webApi.requests.order.OrderLineRequest;
 import com.example.grocery.webApi.requests.order.UpdateOrderRequest;
+import com.example.grocery.webApi.requests.order.UpdateOrderStatusRequest;
 import com.example.grocery.webApi.responses.order.GetAllOrderResponse;
 import com.example.grocery.webApi.responses.order.GetByIdOrderResponse;
-import jakarta.transaction.Transactional;
+import com.example.grocery.webApi.responses.order.OrderLineResponse;
+import com.example.grocery.webApi.responses.order.UpdateOrderStatusResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @Slf4j
 public class OrderManager implements OrderService {
 
+    // IN listesi veritabanının parametre sınırını aşmasın diye toplu güncelleme parçalanır.
+    private static final int STATUS_UPDATE_CHUNK = 1000;
+
     @Autowired
     private OrderRepository orderRepository;
     @Autowired
+    private OrderLineRepository orderLineRepository;
+    @Autowired
     private MapperService mapperService;
     @Autowired
     private CustomerService customerService;
@@ -49,10 +78,19 @@ public class OrderManager implements OrderService {
     private PaymentService paymentService;
     @Autowired
     private ProductService productService;
+    @Autowired
+    private InventoryService inventoryService;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private SalesReportService salesReportService;
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
 
     @Override
     @Transactional
-    @CacheEvict(cacheNames = "order", allEntries = true)
+    @Caching(evict = { @CacheEvict(cacheNames = "order", allEntries = true),
+            @CacheEvict(cacheNames = "product", allEntries = true) })
     public Result add(CreateOrderRequest createOrderRequest) {
 
         Result rules = BusinessRules.run(isExistCustomerId(createOrderRequest.getCustomerId()),
@@ -63,16 +101,23 @@ public class OrderManager implements OrderService {
         Order order = mapperService.getModelMapper().map(createOrderRequest, Order.class);
         order.setCustomer(customerService.getCustomerById(createOrderRequest.getCustomerId()));
         order.setPayment(paymentService.getPaymentById(createOrderRequest.getPaymentId()));
-        order.setProducts(productService.getProductsByIds(createOrderRequest.getProductIds()));
+        // Yeni sipariş her zaman ORDER_TAKEN ile başlar ve stoğunu ayırır.
+        order.setOrderStatus(OrderStatus.ORDER_TAKEN);
+        Map<Long, Integer> quantities = quantities(createOrderRequest.getLines());
+        order.setOrderLines(toOrderLines(order, quantities));
+        inventoryService.reserve(quantities);
         orderRepository.save(order);
+        salesReportService.markDirty(order.getCreatedDate());
+        applicationEventPublisher.publishEvent(new OrderPlacedEvent(order.getId(), quantities));
         log.info(LogInfoMessages.ORDER_CREATED, createOrderRequest.getCustomerId(), createOrderRequest.getPaymentId(),
-                createOrderRequest.getProductIds());
+                quantities);
         return new SuccessResult(CreateMessages.ORDER_CREATED);
     }
 
     @Override
     @Transactional
-    @CacheEvict(cacheNames = "order", key = "#deleteOrderRequest.id")
+    @Caching(evict = { @CacheEvict(cacheNames = "order", key = "#deleteOrderRequest.id"),
+            @CacheEvict(cacheNames = "product", allEntries = true) })
     public Result delete(DeleteOrderRequest deleteOrderRequest) {
 
         Result rules = BusinessRules.run(isExistId(deleteOrderRequest.getId()));
@@ -82,15 +127,20 @@ public class OrderManager implements OrderService {
         Order orderForLogging = orderRepository.findById(deleteOrderRequest.getId())
                 .orElseThrow(() -> new BusinessException(ErrorMessages.ID_NOT_FOUND));
 
-        Order order = mapperService.getModelMapper().map(deleteOrderRequest, Order.class);
+        if (holdsStock(orderForLogging.getOrderStatus()))
+            inventoryService.release(quantities(orderForLogging));
+
+        // Satırlar siparişle birlikte cascade ile silinir.
         log.info(LogInfoMessages.ORDER_DELETED, orderForLogging.getId());
-        orderRepository.delete(order);
+        orderRepository.delete(orderForLogging);
+        salesReportService.markDirty(orderForLogging.getCreatedDate());
         return new SuccessResult(DeleteMessages.ORDER_DELETED);
     }
 
     @Override
     @Transactional
     @CachePut(cacheNames = "order", key = "#id")
+    @CacheEvict(cacheNames = "product", allEntries = true)
     public Result update(UpdateOrderRequest updateOrderRequest, Long id) {
         Order inDbOrder = orderRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorMessages.ID_NOT_FOUND));
@@ -103,39 +153,85 @@ public class OrderManager implements OrderService {
         Order order = mapperService.getModelMapper().map(updateOrderRequest, Order.class);
         order.setCustomer(customerService.getCustomerById(updateOrderRequest.getCustomerId()));
         order.setPayment(paymentService.getPaymentById(updateOrderRequest.getPaymentId()));
-        order.setProducts(productService.getProductsByIds(updateOrderRequest.getProductIds()));
         order.setId(inDbOrder.getId());
+        // Durum yalnızca updateStatus/cancel ile değişir; kayıtlı durum korunur.
+        order.setOrderStatus(inDbOrder.getOrderStatus());
+        Map<Long, Integer> quantities = quantities(updateOrderRequest.getLines());
+        order.setOrderLines(toOrderLines(order, quantities));
+        // Eski ve yeni satırların ürün başına farkı düşülür; yetmezse hiçbiri uygulanmaz.
+        if (holdsStock(inDbOrder.getOrderStatus()))
+            inventoryService.adjust(quantities(inDbOrder), quantities);
         orderRepository.save(order);
+        salesReportService.markDirty(inDbOrder.getCreatedDate(), order.getCreatedDate());
         log.info(LogInfoMessages.ORDER_UPDATED, id, updateOrderRequest.getCustomerId(),
-                updateOrderRequest.getPaymentId(),
-                updateOrderRequest.getProductIds());
+                updateOrderRequest.getPaymentId(), quantities);
         return new SuccessResult(UpdateMessages.ORDER_UPDATED);
     }
 
+    @Override
+    @Transactional
+    @Caching(evict = { @CacheEvict(cacheNames = "order", allEntries = true),
+            @CacheEvict(cacheNames = "product", allEntries = true) })
+    public Result cancel(Long id) {
+        Order order = orderRepository.findById(id)
+                .orElseThrow(() -> new BusinessException(ErrorMessages.ID_NOT_FOUND));
+        if (order.getOrderStatus() == OrderStatus.CANCELLED)
+            throw new BusinessException(ErrorMessages.ORDER_ALREADY_CANCELLED);
+        isValidTransition(order.getOrderStatus(), OrderStatus.CANCELLED);
+
+        inventoryService.release(quantities(order));
+        order.setOrderStatus(OrderStatus.CANCELLED);
+        orderRepository.save(order);
+        salesReportService.markDirty(order.getCreatedDate());
+        log.info(LogInfoMessages.ORDER_CANCELLED, id);
+        return new SuccessResult(UpdateMessages.ORDER_CANCELLED);
+    }
+
+    @Override
+    @Transactional
+    public Result updateStatus(Long id, UpdateOrderStatusRequest updateOrderStatusRequest) {
+        OrderStatus target = updateOrderStatusRequest.getStatus();
+        isNotCancellation(target);
+        OrderStatus current = orderRepository.findStatusById(id)
+                .orElseThrow(() -> new BusinessException(ErrorMessages.ID_NOT_FOUND));
+        isValidTransition(current, target);
+
+        // Okuma ile güncelleme arasında durum değiştiyse UPDATE satırı atlar.
+        if (applyStatus(List.of(id), target) == 0)
+            isValidTransition(orderRepository.findStatusById(id).orElse(null), target);
+        log.info(LogInfoMessages.ORDER_STATUS_UPDATED, id, current, target);
+        return new SuccessResult(UpdateMessages.ORDER_STATUS_UPDATED);
+    }
+
+    @Override
+    @Transactional
+    public DataResult<UpdateOrderStatusResponse> bulkUpdateStatus(
+            BulkUpdateOrderStatusRequest bulkUpdateOrderStatusRequest) {
+        OrderStatus target = bulkUpdateOrderStatusRequest.getStatus();
+        isNotCancellation(target);
+        List<Long> ids = bulkUpdateOrderStatusRequest.getIds();
+        if (ids == null || ids.isEmpty())
+            return updateStatusByFilter(bulkUpdateOrderStatusRequest);
+
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        int updated = applyStatus(distinctIds, target);
+        log.info(LogInfoMessages.ORDERS_STATUS_UPDATED, updated, distinctIds.size(), target);
+        return new SuccessDataResult<>(new UpdateOrderStatusResponse(target, distinctIds.size(), updated),
+                UpdateMessages.ORDERS_STATUS_UPDATED);
+    }
+
     @Override
     @Cacheable(value = "order")
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllOrderResponse>> getAll() {
-        List<GetAllOrderResponse> returnList = new ArrayList<>();
         List<Order> orderList = orderRepository.findAll();
-        for (Order order : orderList) {
-            Order order1 = orderRepository.findById(order.getId())
-                    .orElseThrow(() -> new BusinessException(ErrorMessages.ID_NOT_FOUND));
-            GetAllOrderResponse addFields = mapperService.getModelMapper().map(order,
-                    GetAllOrderResponse.class);
-            addFields.setCustomerId(order1.getCustomer().getId());
-            addFields.setPaymentId(order1.getPayment().getId());
-            List<Long> ids = new ArrayList<>();
-            for (Product x : order.getProducts()) {
-                ids.add(x.getId());
-            }
-            addFields.setProductIds(ids);
-            returnList.add(addFields);
-        }
+        List<GetAllOrderResponse> returnList = toResponses(orderList);
         return new SuccessDataResult<>(returnList, GetListMessages.ORDERS_LISTED);
     }
 
     @Override
     @Cacheable(value = "order", key = "#id")
+    @Transactional(readOnly = true)
     public DataResult<GetByIdOrderResponse> getById(Long id) {
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorMessages.ID_NOT_FOUND));
@@ -143,87 +239,191 @@ public class OrderManager implements OrderService {
                 GetByIdOrderResponse.class);
         getByIdOrderResponse.setCustomerId(order.getCustomer().getId());
         getByIdOrderResponse.setPaymentId(order.getPayment().getId());
-        List<Long> ids = new ArrayList<>();
-        for (Product x : order.getProducts()) {
-            ids.add(x.getId());
-        }
-        getByIdOrderResponse.setProductIds(ids);
+        getByIdOrderResponse.setLines(linesByOrderId(List.of(id)).getOrDefault(id, List.of()));
+        getByIdOrderResponse.setTotalPrice(orderLineRepository.sumTotalByOrderId(id));
         return new SuccessDataResult<>(getByIdOrderResponse, GetByIdMessages.ORDER_LISTED);
     }
 
     @Override
     @Cacheable(value = "order", key = "#sortBy")
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllOrderResponse>> getListBySorting(String sortBy) {
         isValidSortParameter(sortBy);
 
-        List<GetAllOrderResponse> returnList = new ArrayList<>();
         List<Order> orderList = orderRepository.findAll(Sort.by(Sort.Direction.ASC, sortBy));
-        for (Order order : orderList) {
-            Order order1 = orderRepository.findById(order.getId())
-                    .orElseThrow(() -> new BusinessException(ErrorMessages.ID_NOT_FOUND));
-            GetAllOrderResponse addFields = mapperService.getModelMapper().map(order,
-                    GetAllOrderResponse.class);
-            addFields.setCustomerId(order1.getCustomer().getId());
-            addFields.setPaymentId(order1.getPayment().getId());
-            List<Long> ids = new ArrayList<>();
-            for (Product x : order.getProducts()) {
-                ids.add(x.getId());
-            }
-            addFields.setProductIds(ids);
-            returnList.add(addFields);
-        }
+        List<GetAllOrderResponse> returnList = toResponses(orderList);
         return new SuccessDataResult<>(returnList, GetListMessages.ORDERS_SORTED + sortBy);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllOrderResponse>> getListByPagination(int pageNo, int pageSize) {
         isPageNumberValid(pageNo);
         isPageSizeValid(pageSize);
 
-        List<GetAllOrderResponse> returnList = new ArrayList<>();
         List<Order> orderList = orderRepository.findAll(PageRequest.of(pageNo, pageSize)).toList();
-        for (Order order : orderList) {
-            Order order1 = orderRepository.findById(order.getId())
-                    .orElseThrow(() -> new BusinessException(ErrorMessages.ID_NOT_FOUND));
-            GetAllOrderResponse addFields = mapperService.getModelMapper().map(order,
-                    GetAllOrderResponse.class);
-            addFields.setCustomerId(order1.getCustomer().getId());
-            addFields.setPaymentId(order1.getPayment().getId());
-            List<Long> ids = new ArrayList<>();
-            for (Product x : order.getProducts()) {
-                ids.add(x.getId());
-            }
-            addFields.setProductIds(ids);
-            returnList.add(addFields);
-        }
+        List<GetAllOrderResponse> returnList = toResponses(orderList);
         return new SuccessDataResult<>(returnList, GetListMessages.ORDERS_PAGINATED);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllOrderResponse>> getListByPaginationAndSorting(int pageNo, int pageSize,
             String sortBy) {
         isPageNumberValid(pageNo);
         isPageSizeValid(pageSize);
         isValidSortParameter(sortBy);
 
-        List<GetAllOrderResponse> returnList = new ArrayList<>();
         List<Order> orderList = orderRepository.findAll(PageRequest.of(pageNo, pageSize).withSort(Sort.by(sortBy)))
                 .toList();
+        List<GetAllOrderResponse> returnList = toResponses(orderList);
+        return new SuccessDataResult<>(returnList, GetListMessages.ORDERS_PAGINATED_AND_SORTED + sortBy);
+    }
+
+    // Aynı ürün birden fazla satırda gelirse adetleri tek satırda toplanır.
+    private Map<Long, Integer> quantities(List<OrderLineRequest> lines) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (OrderLineRequest line : lines) {
+            quantities.merge(line.getProductId(), line.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    private Map<Long, Integer> quantities(Order order) {
+        Map<Long, Integer> quantities = new HashMap<>();
+        for (OrderLine line : order.getOrderLines()) {
+            quantities.merge(line.getProduct().getId(), line.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    // Birim fiyat sipariş anındaki ürün fiyatından kopyalanır.
+    private List<OrderLine> toOrderLines(Order order, Map<Long, Integer> quantities) {
+        List<OrderLine> lines = new ArrayList<>();
+        for (Product product : productService.getProductsByIds(quantities.keySet().toArray(Long[]::new))) {
+            lines.add(new OrderLine(null, order, product, quantities.get(product.getId()), product.getPrice()));
+        }
+        return lines;
+    }
+
+    // Sayfadaki siparişlerin satırları ve toplamları, sipariş sayısından bağımsız
+    // olarak iki sorguda okunur.
+    private List<GetAllOrderResponse> toResponses(List<Order> orderList) {
+        if (orderList.isEmpty())
+            return new ArrayList<>();
+
+        List<Long> orderIds = orderList.stream().map(Order::getId).toList();
+        Map<Long, List<OrderLineResponse>> lines = linesByOrderId(orderIds);
+        Map<Long, Double> totals = new HashMap<>();
+        for (OrderTotalView total : orderLineRepository.sumTotalsByOrderIds(orderIds)) {
+            totals.put(total.getOrderId(), total.getTotalPrice());
+        }
+
+        List<GetAllOrderResponse> returnList = new ArrayList<>();
         for (Order order : orderList) {
-            Order order1 = orderRepository.findById(order.getId())
-                    .orElseThrow(() -> new BusinessException(ErrorMessages.ID_NOT_FOUND));
-            GetAllOrderResponse addFields = mapperService.getModelMapper().map(order,
-                    GetAllOrderResponse.class);
-            addFields.setCustomerId(order1.getCustomer().getId());
-            addFields.setPaymentId(order1.getPayment().getId());
-            List<Long> ids = new ArrayList<>();
-            for (Product x : order.getProducts()) {
-                ids.add(x.getId());
-            }
-            addFields.setProductIds(ids);
+            GetAllOrderResponse addFields = mapperService.getModelMapper().map(order, GetAllOrderResponse.class);
+            addFields.setCustomerId(order.getCustomer().getId());
+            addFields.setPaymentId(order.getPayment().getId());
+            addFields.setLines(lines.getOrDefault(order.getId(), List.of()));
+            addFields.setTotalPrice(totals.getOrDefault(order.getId(), 0.0));
             returnList.add(addFields);
         }
-        return new SuccessDataResult<>(returnList, GetListMessages.ORDERS_PAGINATED_AND_SORTED + sortBy);
+        return returnList;
+    }
+
+    private Map<Long, List<OrderLineResponse>> linesByOrderId(List<Long> orderIds) {
+        Map<Long, List<OrderLineResponse>> lines = new HashMap<>();
+        for (OrderLineView line : orderLineRepository.findViewsByOrderIds(orderIds)) {
+            lines.computeIfAbsent(line.getOrderId(), key -> new ArrayList<>())
+                    .add(new OrderLineResponse(line.getProductId(), line.getQuantity(), line.getUnitPrice()));
+        }
+        return lines;
+    }
+
+    // Güncellenen id'ler bilinmediği için sipariş önbelleğinin tamamı commit sonrası silinir.
+    private DataResult<UpdateOrderStatusResponse> updateStatusByFilter(
+            BulkUpdateOrderStatusRequest bulkUpdateOrderStatusRequest) {
+        OrderStatus current = bulkUpdateOrderStatusRequest.getCurrentStatus();
+        OrderStatus target = bulkUpdateOrderStatusRequest.getStatus();
+        if (current == null)
+            throw new BusinessException(ErrorMessages.ORDER_STATUS_FILTER_REQUIRED);
+        isValidTransition(current, target);
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = bulkUpdateOrderStatusRequest.getCreatedBefore() == null
+                ? orderRepository.updateStatusByCurrentStatus(current, target, now)
+                : orderRepository.updateStatusByCurrentStatusAndCreatedBefore(current,
+                        bulkUpdateOrderStatusRequest.getCreatedBefore(), target, now);
+        evictAllOrdersAfterCommit();
+        log.info(LogInfoMessages.ORDERS_STATUS_UPDATED, updated, updated, target);
+        return new SuccessDataResult<>(new UpdateOrderStatusResponse(target, updated, updated),
+                UpdateMessages.ORDERS_STATUS_UPDATED);
+    }
+
+    // Siparişler yüklenmeden yalnızca order_status ve delivered_date güncellenir.
+    private int applyStatus(List<Long> ids, OrderStatus target) {
+        Set<OrderStatus> sources = OrderStatus.sourcesOf(target);
+        LocalDateTime deliveredDate = LocalDateTime.now();
+        int updated = 0;
+        for (int from = 0; from < ids.size(); from += STATUS_UPDATE_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + STATUS_UPDATE_CHUNK));
+            updated += target == OrderStatus.WAS_DELIVERED
+                    ? orderRepository.updateStatusAndDeliveredDate(chunk, sources, target, deliveredDate)
+                    : orderRepository.updateStatus(chunk, sources, target);
+        }
+        evictOrdersAfterCommit(ids);
+        return updated;
+    }
+
+    // Commit'ten önce silinen kayıt eş zamanlı bir okuma ile eski haliyle yeniden
+    // önbelleğe girebileceği için silme commit sonrasına bırakılır.
+    private void evictOrdersAfterCommit(List<Long> ids) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictOrders(ids);
+            }
+        });
+    }
+
+    private void evictAllOrdersAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                Cache cache = cacheManager.getCache("order");
+                if (cache != null)
+                    cache.clear();
+            }
+        });
+    }
+
+    // Yalnızca güncellenen siparişlerin id kayıtları ve durum bilgisini içeren liste
+    // sonuçları silinir; diğer siparişlerin getById kayıtları önbellekte kalır.
+    private void evictOrders(List<Long> ids) {
+        Cache cache = cacheManager.getCache("order");
+        if (cache == null)
+            return;
+        ids.forEach(cache::evict);
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)
+            nativeCache.asMap().keySet().removeIf(key -> !(key instanceof Long));
+    }
+
+    private void isValidTransition(OrderStatus current, OrderStatus target) {
+        if (current == null || !current.canTransitionTo(target)) {
+            log.warn(LogWarnMessages.INVALID_STATUS_TRANSITION, current, target);
+            throw new BusinessException(ErrorMessages.INVALID_STATUS_TRANSITION + current + " -> " + target);
+        }
+    }
+
+    // İptal stok iadesi gerektirdiği için yalnızca cancel üzerinden yapılır.
+    private void isNotCancellation(OrderStatus target) {
+        if (target == OrderStatus.CANCELLED)
+            throw new BusinessException(ErrorMessages.CANCEL_REQUIRES_STOCK_RELEASE);
+    }
+
+    // İptal edilen siparişin stoğu iade edilmiştir, teslim edilenin stoğu ise tüketilmiştir.
+    private boolean holdsStock(OrderStatus orderStatus) {
+        return orderStatus != OrderStatus.CANCELLED && orderStatus != OrderStatus.WAS_DELIVERED;
     }
 
     private Result isExistId(Long id) {
@@ -19,12 +19,12 @@ import com.example.grocery.webApi.requests.payment.DeletePaymentRequest;
 import com.example.grocery.webApi.requests.payment.UpdatePaymentRequest;
 import com.example.grocery.webApi.responses.payment.GetAllPaymentResponse;
 import com.example.grocery.webApi.responses.payment.GetByIdPaymentResponse;
-import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -95,6 +95,7 @@ public class PaymentManager implements PaymentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllPaymentResponse>> getAll() {
         List<Payment> payments = paymentRepository.findAll();
         List<GetAllPaymentResponse> returnList = payments.stream()
@@ -104,6 +105,7 @@ public class PaymentManager implements PaymentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<GetByIdPaymentResponse> getById(Long id) {
         Payment payment = paymentRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorMessages.ID_NOT_FOUND));
@@ -113,6 +115,7 @@ public class PaymentManager implements PaymentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllPaymentResponse>> getListBySorting(String sortBy) {
         isValidSortParameter(sortBy);
 
@@ -124,6 +127,7 @@ public class PaymentManager implements PaymentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllPaymentResponse>> getListByPagination(int pageNo, int pageSize) {
         isPageNumberValid(pageNo);
         isPageSizeValid(pageSize);
@@ -136,6 +140,7 @@ public class PaymentManager implements PaymentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllPaymentResponse>> getListByPaginationAndSorting(int pageNo, int pageSize,
             String sortBy) {
         isPageNumberValid(pageNo);
@@ -152,6 +157,7 @@ public class PaymentManager implements PaymentService {
 
     // Bağımlılığın kontrol altına alınması için tasarlandı
     @Override
+    @Transactional(readOnly = true)
     public Payment getPaymentById(Long id) {
         return paymentRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorMessages.PAYMENT_ID_NOT_FOUND));
@@ -8,6 +8,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.grocery.business.abstracts.PhotoService;
 import com.example.grocery.business.constants.Messages.CreateMessages;
@@ -33,7 +34,6 @@ import com.example.grocery.webApi.responses.image.GetAllImageResponse;
 import com.example.grocery.webApi.responses.image.GetByIdImageResponse;
 import com.example.grocery.webApi.responses.image.GetByUrlImageResponse;
 
-import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
@@ -91,6 +91,7 @@ public class PhotoManager implements PhotoService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllImageResponse>> getAll() {
         List<Image> images = imageRepository.findAll();
         List<GetAllImageResponse> responseList = images.stream()
@@ -99,6 +100,7 @@ public class PhotoManager implements PhotoService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<GetByIdImageResponse> getById(Long id) {
         Image image = imageRepository.findById(id).orElseThrow(() -> new BusinessException(ErrorMessages.ID_NOT_FOUND));
         GetByIdImageResponse response = mapperService.getModelMapper().map(image, GetByIdImageResponse.class);
@@ -106,6 +108,7 @@ public class PhotoManager implements PhotoService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<GetByUrlImageResponse> getByUrl(String imageUrl) {
         Image image = imageRepository.findByUrl(imageUrl)
                 .orElseThrow(() -> new BusinessException(ErrorMessages.IMAGE_URL_NOT_FOUND));
@@ -114,6 +117,7 @@ public class PhotoManager implements PhotoService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllImageResponse>> getListBySorting(String sortBy) {
         isValidSortParameter(sortBy);
 
@@ -124,6 +128,7 @@ public class PhotoManager implements PhotoService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllImageResponse>> getListByPagination(int pageNo, int pageSize) {
         isPageNumberValid(pageNo);
         isPageSizeValid(pageSize);
@@ -135,6 +140,7 @@ public class PhotoManager implements PhotoService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllImageResponse>> getListByPaginationAndSorting(int pageNo, int pageSize,
             String sortBy) {
         isPageNumberValid(pageNo);
@@ -150,11 +156,13 @@ public class PhotoManager implements PhotoService {
 
     // bağımlılığın kontrol altına alınması adına tasarlandı
     @Override
+    @Transactional(readOnly = true)
     public Image getImageById(Long id) {
         return imageRepository.findById(id).orElseThrow(() -> new BusinessException(ErrorMessages.IMAGE_ID_NOT_FOUND));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Image> getImagesByIds(Long[] imageIds) {
         List<Image> resultList = new ArrayList<>();
         for (Long forEachId : imageIds) {
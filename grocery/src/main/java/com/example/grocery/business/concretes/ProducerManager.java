@@ -6,6 +6,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.grocery.business.abstracts.ProducerService;
 import com.example.grocery.business.constants.Messages.CreateMessages;
@@ -85,6 +86,7 @@ public class ProducerManager implements ProducerService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllProducerResponse>> getAll() {
         List<Producer> producers = producerRepository.findAll();
         List<GetAllProducerResponse> returnList = producers.stream()
@@ -93,6 +95,7 @@ public class ProducerManager implements ProducerService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<GetByIdProducerResponse> getById(Long id) {
         Producer producer = producerRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorMessages.ID_NOT_FOUND));
@@ -102,6 +105,7 @@ public class ProducerManager implements ProducerService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllProducerResponse>> getListBySorting(String sortBy) {
         isValidSortParameter(sortBy);
 
@@ -112,6 +116,7 @@ public class ProducerManager implements ProducerService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllProducerResponse>> getListByPagination(int pageNo, int pageSize) {
         isPageNumberValid(pageNo);
         isPageSizeValid(pageSize);
@@ -123,6 +128,7 @@ public class ProducerManager implements ProducerService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllProducerResponse>> getListByPaginationAndSorting(int pageNo, int pageSize,
             String sortBy) {
         isPageNumberValid(pageNo);
@@ -139,6 +145,7 @@ public class ProducerManager implements ProducerService {
     // ProductManager sınıfımızda bağımlılığı kontrol altına alma adına kullanılmak
     // üzere tasarlandı.
     @Override
+    @Transactional(readOnly = true)
     public Producer getProducerById(Long id) {
         return producerRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorMessages.PRODUCER_ID_NOT_FOUND));
@@ -2,8 +2,14 @@ package com.example.grocery.business.concretes;
 
 import com.example.grocery.business.abstracts.*;
 import com.example.grocery.business.constants.Messages.*;
+import com.example.grocery.business.constants.Messages.LogMessages.LogErrorMessages;
 import com.example.grocery.business.constants.Messages.LogMessages.LogInfoMessages;
 import com.example.grocery.business.constants.Messages.LogMessages.LogWarnMessages;
+import com.example.grocery.business.events.ProductChangedEvent;
+import com.example.grocery.core.search.ProductSearchIndex;
+import com.example.grocery.core.search.ProductSearchIndexer;
+import com.example.grocery.core.trending.TrendingProductTracker;
+import com.example.grocery.core.trending.TrendingWindow;
 import com.example.grocery.core.utilities.business.BusinessRules;
 import com.example.grocery.core.utilities.exceptions.BusinessException;
 import com.example.grocery.core.utilities.mapper.MapperService;
@@ -12,31 +18,51 @@ import com.example.grocery.core.utilities.results.Result;
 import com.example.grocery.core.utilities.results.SuccessDataResult;
 import com.example.grocery.core.utilities.results.SuccessResult;
 import com.example.grocery.dataAccess.abstracts.ProductRepository;
+import com.example.grocery.dataAccess.abstracts.ProductFilterRepository.Facet;
+import com.example.grocery.dataAccess.concretes.ProductSpecifications;
 import com.example.grocery.entity.concretes.Image;
 import com.example.grocery.entity.concretes.Product;
 import com.example.grocery.webApi.requests.product.CreateProductRequest;
 import com.example.grocery.webApi.requests.product.DeleteProductRequest;
+import com.example.grocery.webApi.requests.product.FilterProductRequest;
 import com.example.grocery.webApi.requests.product.UpdateProductRequest;
+import com.example.grocery.webApi.responses.product.FilterProductPageResponse;
+import com.example.grocery.webApi.responses.product.FilterProductResponse;
 import com.example.grocery.webApi.responses.product.GetAllProductResponse;
 import com.example.grocery.webApi.responses.product.GetByIdProductResponse;
-import jakarta.transaction.Transactional;
+import com.example.grocery.webApi.responses.product.SearchProductPageResponse;
+import com.example.grocery.webApi.responses.product.TrendingProductResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @Slf4j
 public class ProductManager implements ProductService {
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
+    // Lucene sayfanın sonuna kadar tüm sonuçları sıralar; derin sayfalar engellenir.
+    private static final int MAX_SEARCH_RESULTS = 1000;
+    private static final int MAX_FILTER_PAGE_SIZE = 100;
+    private static final Set<String> FILTER_SORT_FIELDS = Set.of("id", "name", "price", "stock", "expirationDate");
+
     @Autowired
     private ProductRepository productRepository;
     @Autowired
@@ -49,6 +75,14 @@ public class ProductManager implements ProductService {
     private MapperService mapperService;
     @Autowired
     private PhotoService photoService;
+    @Autowired
+    private TrendingProductTracker trendingProductTracker;
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+    @Autowired
+    private ProductSearchIndexer productSearchIndexer;
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
 
     @Override
     @Transactional
@@ -66,6 +100,7 @@ public class ProductManager implements ProductService {
         addProduct.setSupplier(supplierService.getSupplierById(createProductRequest.getSupplierId()));
         addProduct.setImages(photoService.getImagesByIds(createProductRequest.getImageIds()));
         productRepository.save((addProduct));
+        applicationEventPublisher.publishEvent(new ProductChangedEvent(addProduct.getId(), false));
         log.info(LogInfoMessages.PRODUCT_ADDED, createProductRequest.getName());
         return new SuccessResult(CreateMessages.PRODUCT_CREATED);
     }
@@ -93,6 +128,7 @@ public class ProductManager implements ProductService {
         product.setImages(photoService.getImagesByIds(updateProductRequest.getImageIds()));
         log.info(LogInfoMessages.PRODUCT_UPDATED, updateProductRequest.getName());
         productRepository.save(product);
+        applicationEventPublisher.publishEvent(new ProductChangedEvent(product.getId(), false));
 
         return new SuccessResult(UpdateMessages.PRODUCT_MODIFIED);
     }
@@ -114,12 +150,14 @@ public class ProductManager implements ProductService {
                 .orElseThrow(() -> new BusinessException(ErrorMessages.ID_NOT_FOUND));
         log.info(LogInfoMessages.PRODUCT_DELETED, productForLog.getName());
         productRepository.delete(product);
+        applicationEventPublisher.publishEvent(new ProductChangedEvent(deleteProductRequest.getId(), true));
 
         return new SuccessResult(DeleteMessages.PRODUCT_DELETED);
     }
 
     @Override
     @Cacheable(value = "product")
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllProductResponse>> getAll() {
         List<GetAllProductResponse> returnList = new ArrayList<>();
         List<Product> productList = productRepository.findAll();
@@ -143,6 +181,7 @@ public class ProductManager implements ProductService {
 
     @Override
     @Cacheable(value = "product", key = "#id")
+    @Transactional(readOnly = true)
     public DataResult<GetByIdProductResponse> getById(Long id) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorMessages.ID_NOT_FOUND));
@@ -161,6 +200,7 @@ public class ProductManager implements ProductService {
 
     @Override
     @Cacheable(value = "product", key = "#id")
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllProductResponse>> getListBySorting(String sortBy) {
         isValidSortParameter(sortBy);
 
@@ -185,6 +225,7 @@ public class ProductManager implements ProductService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllProductResponse>> getListByPagination(int pageNo, int pageSize) {
         isPageNumberValid(pageNo);
         isPageSizeValid(pageSize);
@@ -210,6 +251,7 @@ public class ProductManager implements ProductService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllProductResponse>> getListByPaginationAndSorting(int pageNo, int pageSize,
             String sortBy) {
         isPageNumberValid(pageNo);
@@ -237,21 +279,97 @@ public class ProductManager implements ProductService {
         return new SuccessDataResult<>(returnList, GetListMessages.PRODUCTS_PAGINATED_AND_SORTED + sortBy);
     }
 
+    // Sorgu atılmaz; hazır listenin ilk limit elemanı döner.
+    @Override
+    public DataResult<List<TrendingProductResponse>> getTrending(TrendingWindow window, int limit) {
+        isPageSizeValid(limit);
+        return new SuccessDataResult<>(trendingProductTracker.top(window, limit),
+                GetListMessages.TRENDING_PRODUCTS_LISTED + window);
+    }
+
+    // Arama Lucene indeksinden yanıtlanır; veritabanına sorgu atılmaz.
+    @Override
+    public DataResult<SearchProductPageResponse> search(String query, int pageNo, int pageSize) {
+        isPageNumberValid(pageNo);
+        isPageSizeValid(pageSize);
+        if (pageSize > MAX_SEARCH_PAGE_SIZE) {
+            log.warn(LogWarnMessages.PAGE_SIZE_TOO_LARGE, pageSize);
+            throw new BusinessException(ErrorMessages.PAGE_SIZE_TOO_LARGE + MAX_SEARCH_PAGE_SIZE);
+        }
+        if ((long) (pageNo + 1) * pageSize > MAX_SEARCH_RESULTS) {
+            log.warn(LogWarnMessages.SEARCH_RESULT_WINDOW_TOO_LARGE, pageNo, pageSize);
+            throw new BusinessException(ErrorMessages.SEARCH_RESULT_WINDOW_TOO_LARGE + MAX_SEARCH_RESULTS);
+        }
+        if (query == null || query.isBlank())
+            throw new BusinessException(ErrorMessages.SEARCH_QUERY_EMPTY);
+
+        return new SuccessDataResult<>(productSearchIndex.search(query, pageNo, pageSize),
+                GetListMessages.PRODUCTS_SEARCHED + query);
+    }
+
+    @Override
+    public Result rebuildSearchIndex() {
+        try {
+            return new SuccessResult(UpdateMessages.SEARCH_INDEX_REBUILT + productSearchIndexer.rebuild());
+        } catch (IOException e) {
+            log.error(LogErrorMessages.SEARCH_INDEX_REBUILD_FAILED, e.getMessage());
+            throw new BusinessException(ErrorMessages.SEARCH_INDEX_REBUILD_FAILED);
+        }
+    }
+
+    // READ COMMITTED'da her sorgu kendi snapshot'ını alır; REPEATABLE_READ ile sayfa, toplam
+    // ve facet sayıları transaction'ın ilk sorgusundaki tek snapshot'tan okunur.
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public DataResult<FilterProductPageResponse> filter(FilterProductRequest filterProductRequest) {
+        isPageNumberValid(filterProductRequest.getPageNo());
+        isPageSizeValid(filterProductRequest.getPageSize());
+        if (filterProductRequest.getPageSize() > MAX_FILTER_PAGE_SIZE) {
+            log.warn(LogWarnMessages.PAGE_SIZE_TOO_LARGE, filterProductRequest.getPageSize());
+            throw new BusinessException(ErrorMessages.PAGE_SIZE_TOO_LARGE + MAX_FILTER_PAGE_SIZE);
+        }
+        if (!FILTER_SORT_FIELDS.contains(filterProductRequest.getSortBy())) {
+            log.warn(LogWarnMessages.SORT_PARAMETER_NOT_VALID);
+            throw new BusinessException(ErrorMessages.SORT_PARAMETER_NOT_VALID);
+        }
+        isValidPriceRange(filterProductRequest.getMinPrice(), filterProductRequest.getMaxPrice());
+
+        LocalDate today = LocalDate.now();
+        Specification<Product> specification = ProductSpecifications.filter(filterProductRequest, null, today);
+        // Eşit değerlerde sayfalar arası sıra id ile sabitlenir.
+        PageRequest pageRequest = PageRequest.of(filterProductRequest.getPageNo(), filterProductRequest.getPageSize(),
+                Sort.by(filterProductRequest.getSortBy()).and(Sort.by("id")));
+
+        List<FilterProductResponse> products = productRepository.findFiltered(specification, pageRequest);
+        FilterProductPageResponse response = new FilterProductPageResponse(
+                productRepository.countFiltered(specification), filterProductRequest.getPageNo(),
+                filterProductRequest.getPageSize(), products,
+                productRepository.countByFacet(
+                        ProductSpecifications.filter(filterProductRequest, Facet.CATEGORY, today), Facet.CATEGORY),
+                productRepository.countByFacet(
+                        ProductSpecifications.filter(filterProductRequest, Facet.PRODUCER, today), Facet.PRODUCER),
+                productRepository.countByFacet(
+                        ProductSpecifications.filter(filterProductRequest, Facet.SUPPLIER, today), Facet.SUPPLIER),
+                productRepository.countFiltered(specification.and(ProductSpecifications.inStock())));
+        return new SuccessDataResult<>(response, GetListMessages.PRODUCTS_FILTERED);
+    }
+
     // bağımlılğı kontrol altına almak üzere tasarlandı
     @Override
+    @Transactional(readOnly = true)
     public Product getProductById(Long id) {
         return productRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorMessages.PRODUCT_ID_NOT_FOUND));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Product> getProductsByIds(Long[] productsId) {
-        List<Product> resultList = new ArrayList<>();
-        for (Long forEachId : productsId) {
-            Product findProductById = productRepository.findById(forEachId)
-                    .orElseThrow(() -> new BusinessException(ErrorMessages.ID_NOT_FOUND));
-            resultList.add(findProductById);
-        }
+        // Tüm ürünler tek bir IN sorgusuyla okunur; eksik id varsa sipariş reddedilir.
+        List<Long> ids = Arrays.stream(productsId).distinct().toList();
+        List<Product> resultList = productRepository.findAllById(ids);
+        if (resultList.size() != ids.size())
+            throw new BusinessException(ErrorMessages.ID_NOT_FOUND);
         return resultList;
     }
 
@@ -259,6 +377,7 @@ public class ProductManager implements ProductService {
         for (Product product : productRepository.findAll()) {
             if (product.getExpirationDate().isBefore(LocalDate.now())) {
                 productRepository.delete(product);
+                applicationEventPublisher.publishEvent(new ProductChangedEvent(product.getId(), true));
             }
         }
     }
@@ -313,6 +432,13 @@ public class ProductManager implements ProductService {
         }
     }
 
+    private void isValidPriceRange(Double minPrice, Double maxPrice) {
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            log.warn(LogWarnMessages.PRICE_RANGE_NOT_VALID, minPrice, maxPrice);
+            throw new BusinessException(ErrorMessages.PRICE_RANGE_NOT_VALID);
+        }
+    }
+
     private void isValidSortParameter(String sortBy) {
         Product checkField = new Product();
         if (!checkField.toString().contains(sortBy)) {
@@ -6,6 +6,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.grocery.business.abstracts.SupplierService;
 import com.example.grocery.business.constants.Messages.CreateMessages;
@@ -90,6 +91,7 @@ public class SupplierManager implements SupplierService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllSupplierResponse>> getAll() {
         List<Supplier> suppliers = supplierRepository.findAll();
         List<GetAllSupplierResponse> returnList = suppliers.stream()
@@ -98,6 +100,7 @@ public class SupplierManager implements SupplierService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<GetByIdSupplierResponse> getById(Long id) {
         Supplier supplier = supplierRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorMessages.ID_NOT_FOUND));
@@ -107,6 +110,7 @@ public class SupplierManager implements SupplierService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllSupplierResponse>> getListBySorting(String sortBy) {
         isValidSortParameter(sortBy);
 
@@ -117,6 +121,7 @@ public class SupplierManager implements SupplierService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllSupplierResponse>> getListByPagination(int pageNo, int pageSize) {
         isPageNumberValid(pageNo);
         isPageSizeValid(pageSize);
@@ -128,6 +133,7 @@ public class SupplierManager implements SupplierService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllSupplierResponse>> getListByPaginationAndSorting(int pageNo, int pageSize,
             String sortBy) {
         isPageNumberValid(pageNo);
@@ -144,6 +150,7 @@ public class SupplierManager implements SupplierService {
     // ProductManager sınıfımızda bağımlılığı kontrol altına alma adına kullanılmak
     // üzere tasarlandı.
     @Override
+    @Transactional(readOnly = true)
     public Supplier getSupplierById(Long id) {
         return supplierRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorMessages.SUPPLIER_ID_NOT_FOUND));
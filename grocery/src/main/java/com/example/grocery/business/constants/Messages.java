@@ -15,6 +15,19 @@ public class Messages {
         public static final String PRODUCT_ID_NOT_FOUND = "Entered product id not found in DB";
         public static final String CUSTOMER_ID_NOT_FOUND = "Entered customer id not found in DB";
         public static final String PAYMENT_ID_NOT_FOUND = "Entered payment id not found in DB";
+        public static final String INSUFFICIENT_STOCK = "Not enough stock for product ids: ";
+        public static final String ORDER_ALREADY_CANCELLED = "Order is already cancelled!";
+        public static final String INVALID_STATUS_TRANSITION = "Order status cannot change: ";
+        public static final String CANCEL_REQUIRES_STOCK_RELEASE = "Orders must be cancelled through the cancel endpoint so their stock is released!";
+        public static final String ORDER_STATUS_FILTER_REQUIRED = "Either order ids or current status must be given!";
+        public static final String REPORT_RANGE_NOT_VALID = "Report start date must not be after end date!";
+        public static final String SEARCH_QUERY_EMPTY = "Search query must contain at least one word!";
+        public static final String SEARCH_INDEX_REBUILD_FAILED = "Product search index could not be rebuilt!";
+        public static final String SEARCH_RESULT_WINDOW_TOO_LARGE = "Search results are limited to the first: ";
+        public static final String PRICE_RANGE_NOT_VALID = "Minimum price must not be greater than maximum price!";
+        public static final String IDEMPOTENCY_KEY_NOT_VALID = "Idempotency-Key must be between 1 and 255 characters!";
+        public static final String IDEMPOTENT_REQUEST_IN_PROGRESS = "A request with the same Idempotency-Key is still in progress, retry later!";
+        public static final String IDEMPOTENCY_KEY_REUSED = "Idempotency-Key was already used with a different request body!";
 
         public static final String CATEGORY_NAME_REPEATED = "Category name can not be repeat!";
         public static final String PRODUCT_NAME_REPEATED = "Product name can not be repeat!";
@@ -38,10 +51,18 @@ public class Messages {
         public static final String FILE_IS_NULL = "Sending file is null!";
         public static final String PAGE_NUMBER_NEGATIVE = "Page number value must be positive number or zero!";
         public static final String PAGE_SIZE_NEGATIVE = "Page size number must be greater than 0!";
+        public static final String PAGE_SIZE_TOO_LARGE = "Page size number must not be greater than: ";
+        public static final String ORDER_CURSOR_NOT_VALID = "beforeDate and beforeId must be given together!";
         public static final String SORT_PARAMETER_NOT_VALID = "Entered sort parameter not valid!";
         public static final String EMAIL_NOT_VERIFIED = "Email could not verified!";
         public static final String USER_ID_REPEATED = "User id can not be repeat!";
         public static final String IMAGE_ID_REPEATED = "Image id can not be repeat!";
+        public static final String CAMPAIGN_ID_NOT_FOUND = "Entered campaign id not found in DB!";
+        public static final String CAMPAIGN_ALREADY_COMPLETED = "Campaign already completed!";
+        public static final String CAMPAIGN_ALREADY_RUNNING = "Campaign is already running!";
+        public static final String VERIFICATION_CODE_NOT_FOUND = "Verification code not found or expired!";
+        public static final String VERIFICATION_CODE_NOT_VALID = "Verification code not valid!";
+        public static final String VERIFICATION_CODE_RATE_LIMITED = "Verification code already sent, please wait before requesting again!";
 
     }
 
@@ -53,10 +74,19 @@ public class Messages {
         public static final String USERS_LISTED = "Users listed!";
         public static final String SUPPLIERS_LISTED = "Suppliers listed!";
         public static final String PRODUCTS_LISTED = "Products listed!";
+        public static final String TRENDING_PRODUCTS_LISTED = "Trending products listed for window: ";
+        public static final String PRODUCTS_SEARCHED = "Products searched for: ";
+        public static final String SUGGESTIONS_LISTED = "Suggestions listed for prefix: ";
+        public static final String PRODUCTS_FILTERED = "Products filtered!";
         public static final String PRODUCERS_LISTED = "Producers listed!";
         public static final String INDIVIDUAL_CUSTOMERS_LISTED = "Individual customers listed!";
         public static final String EMPLOYEES_LISTED = "Employees listed!";
         public static final String CUSTOMERS_LISTED = "Customers listed!";
+        public static final String CUSTOMER_ORDERS_LISTED = "Customer orders listed!";
+        public static final String DAILY_SALES_LISTED = "Daily sales listed!";
+        public static final String PRODUCT_SALES_LISTED = "Product sales listed!";
+        public static final String CATEGORY_SALES_LISTED = "Category sales listed!";
+        public static final String CUSTOMER_TYPE_SALES_LISTED = "Customer type sales listed!";
         public static final String CORPORATE_CUSTOMERS_LISTED = "Corporate customers listed!";
         public static final String CATEGORIES_LISTED = "Categories listed!";
         public static final String PAYMENTS_LISTED = "Debit cards listed!";
@@ -117,6 +147,7 @@ public class Messages {
         public static final String PAYMENT_LISTED = "Debit card listed by entered id!";
         public static final String ORDER_LISTED = "Order listed by entered id!";
         public static final String IMAGE_LISTED = "Image listed by entered id!";
+        public static final String CAMPAIGN_LISTED = "Campaign listed by entered id!";
     }
 
     public class CreateMessages {
@@ -129,12 +160,17 @@ public class Messages {
         public static final String SUPPLIER_CREATED = "Supplier saved to DB!";
         public static final String CATEGORY_CREATED = "Category saved to DB!";
         public static final String EMPLOYEE_CREATED = "Employee saved to DB!";
+        public static final String EMPLOYEES_IMPORTED = "Employee import completed, see results per record!";
         public static final String INDIVIDUAL_CUSTOMER_CREATED = "Individual customer saved to DB!";
         public static final String CORPORATE_CUSTOMER_CREATED = "Corporate customer saved to DB!";
         public static final String USER_CREATED = "User saved to DB!";
         public static final String PAYMENT_CREATED = "Debit card information saved to DB";
         public static final String ORDER_CREATED = "Order saved to DB!";
         public static final String IMAGE_UPLOADED_AND_ADDED = "Image uploaded and saved to DB!";
+        public static final String CAMPAIGN_CREATED = "Campaign saved to DB!";
+        public static final String CAMPAIGN_STARTED = "Campaign started!";
+        public static final String VERIFICATION_CODE_SENT = "Verification code sent!";
+        public static final String EMAIL_VERIFIED = "Email verified!";
     }
 
     public class DeleteMessages {
@@ -171,8 +207,14 @@ public class Messages {
         public static final String USER_MODIFIED = "User updated!";
         public static final String PAYMENT_UPDATED = "Debit card updated!";
         public static final String ORDER_UPDATED = "Order updated!";
+        public static final String ORDER_CANCELLED = "Order cancelled, stock released!";
+        public static final String ORDER_STATUS_UPDATED = "Order status updated!";
+        public static final String ORDERS_STATUS_UPDATED = "Order statuses updated!";
+        public static final String SALES_ROLLUPS_REBUILT = "Sales rollups rebuilt!";
+        public static final String SEARCH_INDEX_REBUILT = "Product search index rebuilt with products: ";
         public static final String IMAGE_UPDATED_AND_ADDED = "Image updated and saved to DB!";
         public static final String USER_UPDATED = "User: {} updated!";
+        public static final String ROLES_REFRESHED = "Role registry refreshed!";
     }
 
     public class GetByUrlMessages {
@@ -209,15 +251,28 @@ public class Messages {
             public static final String EMPLOYEE_ADDED = "Employee: {} {} added!";
             public static final String EMPLOYEE_DELETED = "Employee: {} {} deleted!";
             public static final String EMPLOYEE_UPDATED = "Employee: {} {} updated!";
+            public static final String EMPLOYEES_IMPORTED = "Employee import: {} of {} records saved!";
             public static final String INDIVIDUAL_CUSTOMER_ADDED = "Individual customer: {} {} added!";
             public static final String INDIVIDUAL_CUSTOMER_DELETED = "Individual customer: {} {} deleted!";
             public static final String INDIVIDUAL_CUSTOMER_UPDATED = "Individual customer: {} {} updated!";
             public static final String CORPORATE_CUSTOMER_ADDED = "Corporate customer: {} added!";
             public static final String CORPORATE_CUSTOMER_DELETED = "Corporate customer: {} deleted!";
             public static final String CORPORATE_CUSTOMER_UPDATED = "Corporate customer: {} updated!";
-            public static final String ORDER_CREATED = "Order= Customer id: {}, Payment id: {}, Product ids: {} saved to DB";
+            public static final String ORDER_CREATED = "Order= Customer id: {}, Payment id: {}, Product id -> quantity: {} saved to DB";
             public static final String ORDER_DELETED = "Order id: {} removed from DB";
-            public static final String ORDER_UPDATED = "Order id: {} -> Order= Customer id: {}, Payment id: {}, Product ids: {} updated";
+            public static final String ORDER_UPDATED = "Order id: {} -> Order= Customer id: {}, Payment id: {}, Product id -> quantity: {} updated";
+            public static final String ORDER_CANCELLED = "Order id: {} cancelled";
+            public static final String ORDER_STATUS_UPDATED = "Order id: {} status {} -> {}";
+            public static final String ORDERS_STATUS_UPDATED = "{} of {} orders moved to status: {}";
+            public static final String SALES_ROLLUPS_REFRESHED = "Sales rollups refreshed for days: {}";
+            public static final String SALES_ROLLUPS_REBUILT = "Sales rollups rebuilt from {} to {} in {} ms";
+            public static final String TRENDING_SNAPSHOT_LOADED = "Trending products restored from snapshot: {}";
+            public static final String SEARCH_INDEX_REBUILT = "Product search index rebuilt with {} products in {} ms";
+            public static final String SUGGESTIONS_LOADED = "Suggestion index loaded with {} products and {} categories in {} ms";
+            public static final String STOCK_RESERVED = "Stock reserved, product id -> quantity: {}";
+            public static final String STOCK_RELEASED = "Stock released, product id -> quantity: {}";
+            public static final String STOCK_ADJUSTED = "Stock adjusted, product id -> reserved quantity delta: {}";
+            public static final String IDEMPOTENT_RESPONSE_REPLAYED = "Idempotency key: {} replayed stored response";
             public static final String PAYMENT_CREATED = "Card number: {}, Fullname: {}, Card expiration year: {}, Card expiration month: {}, Card cvv: {} has been successfully saved to the database";
             public static final String PAYMENT_DELETED = "Card id: {} has been successfully removed from DB";
             public static final String PAYMENT_UPDATED = "Card information id: {} -> Card number: {}, Fullname: {}, Card expiration year: {}, Card expiration month: {}, Card cvv: {} has been successfully updated";
@@ -225,6 +280,15 @@ public class Messages {
             public static final String USER_LOGINED = "User: {} logined!";
             public static final String USER_DELETED = "User: {}, {} deleted!";
             public static final String USER_UPDATED = "User: {} updated!";
+            public static final String ROLES_LOADED = "Roles: {} loaded into registry";
+            public static final String EMAIL_QUEUED = "Email to: {} queued!";
+            public static final String EMAIL_BATCH_SENT = "Email batch: {} sent, {} failed!";
+            public static final String CAMPAIGN_CREATED = "Campaign id: {} subject: {} created!";
+            public static final String CAMPAIGN_RESUMED = "Campaign id: {} resumed after user id: {}";
+            public static final String CAMPAIGN_COMPLETED = "Campaign id: {} completed! Sent: {}, failed: {}";
+            public static final String VERIFICATION_CODE_SENT = "Verification code sent to: {}";
+            public static final String EMAIL_VERIFIED = "Email: {} verified!";
+            public static final String LOADTEST_DATA_SEEDED = "Seeded {} products, {} customers, {} payments, {} orders in {} ms";
 
         }
 
@@ -234,6 +298,10 @@ public class Messages {
             }
 
             public static final String CATEGORY_NAME_REPEATED = "Category name: {} already exists!";
+            public static final String INSUFFICIENT_STOCK = "Order rejected, not enough stock for product ids: {}";
+            public static final String INVALID_STATUS_TRANSITION = "Order status transition {} -> {} is not allowed";
+            public static final String IDEMPOTENT_REQUEST_IN_PROGRESS = "Idempotency key: {} still in progress, duplicate request rejected";
+            public static final String IDEMPOTENCY_KEY_REUSED = "Idempotency key: {} reused with a different request body, rejected";
             public static final String PRODUCT_NAME_REPEATED = "Product name: {} already exists!";
             public static final String PRODUCER_NAME_REPEATED = "Producer name: {} already exists!";
             public static final String SUPPLIER_NAME_REPEATED = "Supplier name: {} already exists!";
@@ -249,10 +317,22 @@ public class Messages {
             public static final String UNSUPPORTED_FORMAT = "Unsupported format!";
             public static final String PAGE_NUMBER_NEGATIVE = "Page number must be positive or zero!";
             public static final String PAGE_SIZE_NEGATIVE = "Page size number must be greater than 0!";
+            public static final String PAGE_SIZE_TOO_LARGE = "Page size: {} exceeds the limit!";
+            public static final String SEARCH_RESULT_WINDOW_TOO_LARGE = "Search page: {} of size: {} exceeds the result window!";
+            public static final String PRICE_RANGE_NOT_VALID = "Price range not valid, min: {} max: {}";
             public static final String SORT_PARAMETER_NOT_VALID = "Entered sort parameter not valid!";
             public static final String EMAIL_NOT_VERIFIED = "Email: {} could not verified!";
             public static final String USER_ID_REPEATED = "User id: {} can not be repeat!";
             public static final String IMAGE_ID_REPEATED = "Image id: {} can not be repeat!";
+            public static final String EMPLOYEE_IMPORT_REJECTED = "Employee import record: {} rejected! Reason: {}";
+            public static final String EMAIL_SEND_RETRY = "Email id: {} to: {} failed, attempt: {} next attempt at: {}";
+            public static final String VERIFICATION_CODE_NOT_VALID = "Wrong verification code for: {}, attempt: {}";
+            public static final String VERIFICATION_CODE_RATE_LIMITED = "Verification code resend rate limited for: {}";
+            public static final String TOO_MANY_STATEMENTS = "Possible N+1: {} {} executed {} statements, {} executed {} of them";
+            public static final String REPLICA_DOWN = "Read replica: {} is unavailable, reads fall back to primary! Error: {}";
+            public static final String REPLICA_LAGGING = "Read replica: {} lag {} ms exceeds limit, excluded from reads";
+            public static final String REPLICA_NOT_STREAMING = "Read replica: {} is not streaming from primary, excluded from reads";
+            public static final String REPLICA_CLOSE_FAILED = "Read replica: {} pool could not be closed! Error: {}";
 
         }
 
@@ -269,7 +349,14 @@ public class Messages {
             public static final String JWT_CLAIMS_EMPTY = "JWT claims string is empty: {}";
             public static final String UPLOAD_FAILED = "Cloudinary upload failed! IOException message: {}";
             public static final String DELETE_FAILED = "Cloudinary delete failed! IOException message: {}";
+            public static final String TRENDING_SNAPSHOT_FAILED = "Trending snapshot: {} could not be read or written: {}";
+            public static final String SEARCH_INDEX_UPDATE_FAILED = "Search index update failed for product id: {}: {}";
+            public static final String SEARCH_INDEX_CATEGORY_UPDATE_FAILED = "Search index update failed for category id: {}: {}";
+            public static final String SEARCH_INDEX_REBUILD_FAILED = "Search index rebuild failed: {}";
             public static final String FILE_IS_NULL = "Sending file is null!";
+            public static final String MERNIS_VALIDATION_FAILED = "Mernis validation failed for: {} message: {}";
+            public static final String EMAIL_DEAD_LETTERED = "Email id: {} to: {} dead-lettered after {} attempts! Last error: {}";
+            public static final String CAMPAIGN_FAILED = "Campaign id: {} paused, can be restarted from checkpoint! Error: {}";
 
         }
     }
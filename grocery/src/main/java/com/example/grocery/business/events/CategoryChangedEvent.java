@@ -0,0 +1,14 @@
+package com.example.grocery.business.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Kategori eklendiğinde, güncellendiğinde ya da silindiğinde yayınlanır.
+@AllArgsConstructor
+@Getter
+public class CategoryChangedEvent {
+
+    private final Long categoryId;
+
+    private final boolean deleted;
+}
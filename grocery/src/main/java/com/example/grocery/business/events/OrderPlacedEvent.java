@@ -0,0 +1,16 @@
+package com.example.grocery.business.events;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Sipariş commit edildikten sonra dinleyicilere iletilir; ürün id -> adet.
+@AllArgsConstructor
+@Getter
+public class OrderPlacedEvent {
+
+    private final Long orderId;
+
+    private final Map<Long, Integer> quantities;
+}
@@ -0,0 +1,14 @@
+package com.example.grocery.business.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Ürün eklendiğinde, güncellendiğinde ya da silindiğinde commit sonrası yayınlanır.
+@AllArgsConstructor
+@Getter
+public class ProductChangedEvent {
+
+    private final Long productId;
+
+    private final boolean deleted;
+}
@@ -0,0 +1,81 @@
+package com.example.grocery.configs;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.context.ContextSnapshot;
+
+@Configuration
+public class AsyncConfig {
+
+    @Value("${grocery.app.mernisConcurrency:16}")
+    private int mernisConcurrency;
+
+    @Value("${grocery.app.campaign.senders:4}")
+    private int campaignSenders;
+
+    @Value("${grocery.app.virtualThreads:false}")
+    private boolean virtualThreads;
+
+    // Mernis doğrulamaları toplu personel aktarımında bu havuz üzerinden paralel
+    // çalıştırılır, eş zamanlı istek sayısı havuz boyutu ile sınırlıdır.
+    // Sanal thread modunda da platform thread'lerde kalır: ksoap transport'u ve altındaki
+    // HttpURLConnection yanıtı synchronized bloklar içinde bekleyebilir. JDK 21-23'te
+    // synchronized içinde bloklanan sanal thread carrier'ına sabitlenir (pinning); yavaş
+    // Mernis yanıtları tüm carrier'ları (varsayılan olarak çekirdek sayısı kadar) tutarsa
+    // diğer istekler de ilerleyemez.
+    @Bean(name = "mernisExecutor")
+    public Executor mernisExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(mernisConcurrency);
+        executor.setMaxPoolSize(mernisConcurrency);
+        executor.setThreadNamePrefix("mernis-");
+        executor.setTaskDecorator(contextPropagatingTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    // Kampanya koordinatörü; her kampanya tek bir thread üzerinde ilerler.
+    @Bean(name = "campaignExecutor")
+    public Executor campaignExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("campaign-");
+        executor.initialize();
+        return executor;
+    }
+
+    // Her gönderici thread bir batch'i kendi SMTP oturumuyla gönderir.
+    @Bean(name = "campaignSenderExecutor")
+    public Executor campaignSenderExecutor() {
+        if (virtualThreads && VirtualThreads.isSupported()) {
+            // Eş zamanlı SMTP oturumu sayısı yine "senders" ile sınırlı kalır.
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(
+                    VirtualThreads.factory("campaign-sender-"));
+            executor.setConcurrencyLimit(campaignSenders);
+            executor.setTaskDecorator(contextPropagatingTaskDecorator());
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(campaignSenders);
+        executor.setMaxPoolSize(campaignSenders);
+        executor.setThreadNamePrefix("campaign-sender-");
+        executor.setTaskDecorator(contextPropagatingTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    // Trace bağlamı ve MDC'deki traceId havuz thread'lerine taşınır.
+    private TaskDecorator contextPropagatingTaskDecorator() {
+        return runnable -> ContextSnapshot.captureAll().wrap(runnable);
+    }
+}
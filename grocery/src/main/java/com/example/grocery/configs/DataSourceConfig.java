@@ -0,0 +1,82 @@
+package com.example.grocery.configs;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.example.grocery.core.dataSource.ReplicaNode;
+import com.example.grocery.core.dataSource.ReplicaProperties;
+import com.example.grocery.core.dataSource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// En az bir replika tanımlıysa (grocery.app.datasource.replicas[0].url) devreye girer;
+// aksi halde Boot'un tek DataSource'u kullanılır.
+@Configuration
+@ConditionalOnProperty(name = "grocery.app.datasource.replicas[0].url")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class DataSourceConfig {
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    // spring.datasource.hikari.* ayarları Boot'un kendi DataSource'unda olduğu gibi bağlanır.
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties,
+            MeterRegistry meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return primary;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+            ReplicaProperties replicaProperties, MeterRegistry meterRegistry) {
+        List<ReplicaNode> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaProperties.getReplicas().size(); i++) {
+            ReplicaProperties.Replica replica = replicaProperties.getReplicas().get(i);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + i);
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setUsername(replica.getUsername());
+            pool.setPassword(replica.getPassword());
+            pool.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+            pool.setReadOnly(true);
+            // Replika kapalıyken uygulama yine açılabilsin.
+            pool.setInitializationFailTimeout(-1);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new ReplicaNode(pool.getPoolName(), pool));
+        }
+
+        routingDataSource = new ReplicaRoutingDataSource(primaryDataSource, replicas,
+                replicaProperties.getMaxLagMs(), replicaProperties.getReadYourWritesMs());
+        return routingDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Scheduled(fixedDelayString = "${grocery.app.datasource.healthCheckMs:5000}")
+    public void checkReplicas() {
+        if (routingDataSource != null)
+            routingDataSource.checkReplicas();
+    }
+}
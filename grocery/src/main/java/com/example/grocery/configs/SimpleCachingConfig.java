@@ -1,18 +1,27 @@
 package com.example.grocery.configs;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 @Configuration
 @EnableCaching
 public class SimpleCachingConfig {
 
+    @Value("${grocery.app.cache.maximumSize:10000}")
+    private long maximumSize;
+
+    // ConcurrentMapCache hit/miss tutmadığı için Caffeine kullanılır; recordStats
+    // ile cache.gets/cache.evictions metrikleri actuator üzerinden yayınlanır.
     @Bean
     public CacheManager cacheManager() {
-        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(maximumSize).recordStats());
         cacheManager.setCacheNames(java.util.List.of("order", "product"));
         cacheManager.setAllowNullValues(false);
         return cacheManager;
@@ -0,0 +1,40 @@
+package com.example.grocery.configs;
+
+import java.util.concurrent.ThreadFactory;
+
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import lombok.extern.slf4j.Slf4j;
+
+// grocery.app.virtualThreads=true ve JDK 21+ ise Tomcat istekleri sanal thread'lerde işlenir.
+@Configuration
+@ConditionalOnProperty(name = "grocery.app.virtualThreads", havingValue = "true")
+@Slf4j
+public class VirtualThreadConfig {
+
+    // Sanal thread'ler ucuz olsa da her istek bağlantı havuzu ve heap kullanır; sınır
+    // dolduğunda Tomcat yeni istekleri kuyrukta bekletir.
+    @Value("${grocery.app.virtualThreadConcurrency:1000}")
+    private int maxConcurrency;
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> {
+            if (!VirtualThreads.isSupported()) {
+                log.warn("Virtual threads requested but JVM version is {}, using platform threads",
+                        Runtime.version().feature());
+                return;
+            }
+            ThreadFactory threadFactory = VirtualThreads.factory("http-virtual-");
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadFactory);
+            executor.setConcurrencyLimit(maxConcurrency);
+            protocolHandler.setExecutor(executor);
+        };
+    }
+}
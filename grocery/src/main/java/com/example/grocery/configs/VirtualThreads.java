@@ -0,0 +1,26 @@
+package com.example.grocery.configs;
+
+import java.util.concurrent.ThreadFactory;
+
+// Proje Java 17 ile derlendiği için sanal thread API'sine reflection ile erişilir;
+// JDK 21 altında çalışırken isSupported() false döner ve platform thread'ler kullanılır.
+public class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    public static ThreadFactory factory(String namePrefix) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads are not available on this JVM", e);
+        }
+    }
+}
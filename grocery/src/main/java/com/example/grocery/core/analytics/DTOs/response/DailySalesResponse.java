@@ -0,0 +1,23 @@
+package com.example.grocery.core.analytics.DTOs.response;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class DailySalesResponse {
+
+    private LocalDate day;
+
+    private long orderCount;
+
+    private long units;
+
+    private double revenue;
+}
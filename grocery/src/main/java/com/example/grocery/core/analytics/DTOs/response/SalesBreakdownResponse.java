@@ -0,0 +1,22 @@
+package com.example.grocery.core.analytics.DTOs.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class SalesBreakdownResponse {
+
+    // Ürün ve kategori için id, müşteri tipi için INDIVIDUAL / CORPORATE / OTHER.
+    private String key;
+
+    private long orderCount;
+
+    private long units;
+
+    private double revenue;
+}
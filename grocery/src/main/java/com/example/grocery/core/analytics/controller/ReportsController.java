@@ -0,0 +1,63 @@
+package com.example.grocery.core.analytics.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.grocery.core.analytics.DTOs.response.DailySalesResponse;
+import com.example.grocery.core.analytics.DTOs.response.SalesBreakdownResponse;
+import com.example.grocery.core.analytics.service.SalesReportService;
+import com.example.grocery.core.utilities.results.DataResult;
+import com.example.grocery.core.utilities.results.Result;
+
+@RestController
+@RequestMapping("/api/reports")
+public class ReportsController {
+
+    @Autowired
+    private SalesReportService salesReportService;
+
+    @GetMapping("/daily")
+    public ResponseEntity<DataResult<List<DailySalesResponse>>> getDailySales(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(salesReportService.getDailySales(from, to));
+    }
+
+    @GetMapping("/products")
+    public ResponseEntity<DataResult<List<SalesBreakdownResponse>>> getProductSales(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(salesReportService.getProductSales(from, to, limit));
+    }
+
+    @GetMapping("/categories")
+    public ResponseEntity<DataResult<List<SalesBreakdownResponse>>> getCategorySales(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(salesReportService.getCategorySales(from, to));
+    }
+
+    @GetMapping("/customertypes")
+    public ResponseEntity<DataResult<List<SalesBreakdownResponse>>> getCustomerTypeSales(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(salesReportService.getCustomerTypeSales(from, to));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Result> rebuild(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(salesReportService.rebuild(from, to));
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.grocery.core.analytics.enums;
+
+public enum RollupDimension {
+    TOTAL,
+    PRODUCT,
+    CATEGORY,
+    CUSTOMER_TYPE
+}
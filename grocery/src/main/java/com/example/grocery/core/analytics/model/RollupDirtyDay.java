@@ -0,0 +1,29 @@
+package com.example.grocery.core.analytics.model;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+// Siparişi değişen günler sipariş ile aynı transaction'da işaretlenir; özetler
+// bu günler için SalesRollupWorker tarafından yeniden hesaplanır.
+@Entity
+@Table(name = "sales_rollup_dirty_days")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@ToString
+public class RollupDirtyDay {
+
+    @Id
+    @Column(name = "dirty_day")
+    private LocalDate day;
+}
@@ -0,0 +1,54 @@
+package com.example.grocery.core.analytics.model;
+
+import java.time.LocalDate;
+
+import com.example.grocery.core.analytics.enums.RollupDimension;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+// Günlük satış özetleri; her boyut (toplam, ürün, kategori, müşteri tipi) için
+// gün başına bir satır tutulur. Satırlar yalnızca SalesRollupJdbcRepository
+// tarafından yazılır, raporlar sipariş tablolarına inmeden buradan okunur.
+@Entity
+@Table(name = "sales_rollups")
+@IdClass(SalesRollupId.class)
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@ToString
+public class SalesRollup {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dimension", length = 20)
+    private RollupDimension dimension;
+
+    @Id
+    @Column(name = "sales_day")
+    private LocalDate day;
+
+    @Id
+    @Column(name = "dimension_key", length = 20)
+    private String dimensionKey;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(name = "units", nullable = false)
+    private long units;
+
+    @Column(name = "revenue", nullable = false)
+    private double revenue;
+}
@@ -0,0 +1,26 @@
+package com.example.grocery.core.analytics.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import com.example.grocery.core.analytics.enums.RollupDimension;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+public class SalesRollupId implements Serializable {
+
+    private RollupDimension dimension;
+
+    private LocalDate day;
+
+    private String dimensionKey;
+}
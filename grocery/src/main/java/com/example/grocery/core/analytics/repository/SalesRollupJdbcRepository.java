@@ -0,0 +1,137 @@
+package com.example.grocery.core.analytics.repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+// Özetler gün aralığı bazında silinip sipariş satırlarından tek INSERT ... SELECT
+// ile yeniden yazılır; uygulamaya satır taşınmaz. İptal edilen siparişler sayılmaz.
+@Repository
+public class SalesRollupJdbcRepository {
+
+    private static final String SOURCE = "FROM orders o JOIN order_lines l ON l.order_fk_id = o.order_id ";
+
+    private static final String RANGE = "WHERE o.created_date >= ? AND o.created_date < ? "
+            + "AND (o.order_status IS NULL OR o.order_status <> 'CANCELLED') ";
+
+    private static final String INSERT = "INSERT INTO sales_rollups "
+            + "(dimension, sales_day, dimension_key, order_count, units, revenue) ";
+
+    private static final String AGGREGATES = "COUNT(DISTINCT o.order_id), SUM(l.quantity), "
+            + "SUM(l.quantity * l.unit_price) ";
+
+    private static final String DAY = "CAST(o.created_date AS DATE)";
+
+    private static final String PRODUCT_KEY = "CAST(l.product_fk_id AS VARCHAR(20))";
+
+    private static final String CATEGORY_KEY = "COALESCE(CAST(p.category_fk_id AS VARCHAR(20)), 'NONE')";
+
+    private static final String CUSTOMER_TYPE_KEY = "CASE "
+            + "WHEN ic.individual_customer_id IS NOT NULL THEN 'INDIVIDUAL' "
+            + "WHEN cc.corporate_customer_id IS NOT NULL THEN 'CORPORATE' ELSE 'OTHER' END";
+
+    private static final List<String> ROLLUPS = List.of(
+            INSERT + "SELECT 'TOTAL', " + DAY + ", 'ALL', " + AGGREGATES + SOURCE + RANGE
+                    + "GROUP BY " + DAY,
+            INSERT + "SELECT 'PRODUCT', " + DAY + ", " + PRODUCT_KEY + ", " + AGGREGATES + SOURCE + RANGE
+                    + "GROUP BY " + DAY + ", " + PRODUCT_KEY,
+            INSERT + "SELECT 'CATEGORY', " + DAY + ", " + CATEGORY_KEY + ", " + AGGREGATES + SOURCE
+                    + "JOIN products p ON p.product_id = l.product_fk_id " + RANGE
+                    + "GROUP BY " + DAY + ", " + CATEGORY_KEY,
+            INSERT + "SELECT 'CUSTOMER_TYPE', " + DAY + ", " + CUSTOMER_TYPE_KEY + ", " + AGGREGATES + SOURCE
+                    + "LEFT JOIN individual_customers ic ON ic.individual_customer_id = o.customer_fk_id "
+                    + "LEFT JOIN corporate_customers cc ON cc.corporate_customer_id = o.customer_fk_id " + RANGE
+                    + "GROUP BY " + DAY + ", " + CUSTOMER_TYPE_KEY);
+
+    private static final String DELETE = "DELETE FROM sales_rollups WHERE sales_day >= ? AND sales_day < ?";
+
+    // DO NOTHING yerine DO UPDATE: satırı talep etmiş bir worker varsa işaretleme onun
+    // transaction'ını bekler ve satır silindiyse yeniden eklenir; işaret kaybolmaz.
+    private static final String MARK_DIRTY = "INSERT INTO sales_rollup_dirty_days (dirty_day) VALUES (?) "
+            + "ON CONFLICT (dirty_day) DO UPDATE SET dirty_day = EXCLUDED.dirty_day";
+
+    // SKIP LOCKED; birden fazla node aynı günleri aynı anda yeniden hesaplamaz.
+    private static final String CLAIM_DIRTY = "SELECT dirty_day FROM sales_rollup_dirty_days ORDER BY dirty_day "
+            + "LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String DELETE_DIRTY = "DELETE FROM sales_rollup_dirty_days WHERE dirty_day = ?";
+
+    // Worker'ın talep ettiği satırlar atlanır. Worker bu satırları tutarken gün kilidini
+    // bekler; rebuild de gün kilidini tutarken bu satırları beklerse deadlock oluşur.
+    private static final String DELETE_DIRTY_RANGE = "DELETE FROM sales_rollup_dirty_days WHERE dirty_day IN "
+            + "(SELECT dirty_day FROM sales_rollup_dirty_days WHERE dirty_day >= ? AND dirty_day < ? "
+            + "FOR UPDATE SKIP LOCKED)";
+
+    // Transaction sonunda bırakılan gün kilidi; rebuild ve worker aynı günü aynı anda
+    // yeniden yazmaz. İlk anahtar kilidi diğer advisory kilitlerden ayırır.
+    private static final String LOCK_DAY = "SELECT pg_advisory_xact_lock(?, ?)";
+
+    private static final int ROLLUP_LOCK_NAMESPACE = 46001;
+
+    private static final String FIRST_ORDER_DATE = "SELECT MIN(created_date) FROM orders";
+
+    private static final String LAST_ORDER_DATE = "SELECT MAX(created_date) FROM orders";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SalesRollupJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // [from, toExclusive) aralığındaki tüm özetler çağıranın transaction'ında yeniden yazılır.
+    public void refresh(LocalDate from, LocalDate toExclusive) {
+        jdbcTemplate.update(DELETE, Date.valueOf(from), Date.valueOf(toExclusive));
+        Timestamp start = Timestamp.valueOf(from.atStartOfDay());
+        Timestamp end = Timestamp.valueOf(toExclusive.atStartOfDay());
+        for (String rollup : ROLLUPS) {
+            jdbcTemplate.update(rollup, start, end);
+        }
+    }
+
+    // Kilitler her çağıranda artan gün sırasıyla alınır. Gün kilidi tutulurken yalnızca
+    // SKIP LOCKED ile satır kilidi istenir; worker'ın tuttuğu satırlar beklenmez.
+    public void lockDays(LocalDate from, LocalDate toExclusive) {
+        for (LocalDate day = from; day.isBefore(toExclusive); day = day.plusDays(1)) {
+            jdbcTemplate.query(LOCK_DAY, (RowCallbackHandler) resultSet -> {
+            }, ROLLUP_LOCK_NAMESPACE, (int) day.toEpochDay());
+        }
+    }
+
+    public void markDirty(Collection<LocalDate> days) {
+        jdbcTemplate.batchUpdate(MARK_DIRTY, days.stream().map(day -> new Object[] { Date.valueOf(day) }).toList());
+    }
+
+    // Alınan günler hemen silinir; yeniden hesaplama sürerken aynı güne yazan bir
+    // sipariş günü tekrar işaretler ve sonraki turda yeniden hesaplanır.
+    public List<LocalDate> claimDirtyDays(int limit) {
+        List<LocalDate> days = jdbcTemplate.queryForList(CLAIM_DIRTY, Date.class, limit).stream()
+                .map(Date::toLocalDate).toList();
+        jdbcTemplate.batchUpdate(DELETE_DIRTY, days.stream().map(day -> new Object[] { Date.valueOf(day) }).toList());
+        return days;
+    }
+
+    // Atlanan günler worker tarafından zaten yeniden hesaplanır.
+    public void clearDirty(LocalDate from, LocalDate toExclusive) {
+        jdbcTemplate.update(DELETE_DIRTY_RANGE, Date.valueOf(from), Date.valueOf(toExclusive));
+    }
+
+    public Optional<LocalDate> firstOrderDay() {
+        return orderDay(FIRST_ORDER_DATE);
+    }
+
+    public Optional<LocalDate> lastOrderDay() {
+        return orderDay(LAST_ORDER_DATE);
+    }
+
+    private Optional<LocalDate> orderDay(String query) {
+        Timestamp timestamp = jdbcTemplate.queryForObject(query, Timestamp.class);
+        return Optional.ofNullable(timestamp).map(value -> value.toLocalDateTime().toLocalDate());
+    }
+}
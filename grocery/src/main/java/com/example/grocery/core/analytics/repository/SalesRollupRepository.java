@@ -0,0 +1,39 @@
+package com.example.grocery.core.analytics.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.grocery.core.analytics.enums.RollupDimension;
+import com.example.grocery.core.analytics.model.SalesRollup;
+import com.example.grocery.core.analytics.model.SalesRollupId;
+
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, SalesRollupId> {
+
+    List<SalesRollup> findByDimensionAndDayBetweenOrderByDayAsc(RollupDimension dimension, LocalDate from,
+            LocalDate to);
+
+    // Birincil anahtar (dimension, sales_day, dimension_key) sırasında olduğu için
+    // tarih aralığı indeks üzerinden okunur.
+    @Query("select r.dimensionKey as dimensionKey, sum(r.orderCount) as orderCount, sum(r.units) as units, "
+            + "sum(r.revenue) as revenue from SalesRollup r "
+            + "where r.dimension = :dimension and r.day between :from and :to "
+            + "group by r.dimensionKey order by sum(r.revenue) desc")
+    List<SalesBreakdownView> sumByDimension(@Param("dimension") RollupDimension dimension,
+            @Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+    interface SalesBreakdownView {
+
+        String getDimensionKey();
+
+        long getOrderCount();
+
+        long getUnits();
+
+        double getRevenue();
+    }
+}
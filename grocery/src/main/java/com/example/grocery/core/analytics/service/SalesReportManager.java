@@ -0,0 +1,155 @@
+package com.example.grocery.core.analytics.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.grocery.business.constants.Messages.ErrorMessages;
+import com.example.grocery.business.constants.Messages.GetListMessages;
+import com.example.grocery.business.constants.Messages.LogMessages.LogInfoMessages;
+import com.example.grocery.business.constants.Messages.UpdateMessages;
+import com.example.grocery.core.analytics.DTOs.response.DailySalesResponse;
+import com.example.grocery.core.analytics.DTOs.response.SalesBreakdownResponse;
+import com.example.grocery.core.analytics.enums.RollupDimension;
+import com.example.grocery.core.analytics.model.SalesRollup;
+import com.example.grocery.core.analytics.repository.SalesRollupJdbcRepository;
+import com.example.grocery.core.analytics.repository.SalesRollupRepository;
+import com.example.grocery.core.analytics.repository.SalesRollupRepository.SalesBreakdownView;
+import com.example.grocery.core.utilities.exceptions.BusinessException;
+import com.example.grocery.core.utilities.results.DataResult;
+import com.example.grocery.core.utilities.results.Result;
+import com.example.grocery.core.utilities.results.SuccessDataResult;
+import com.example.grocery.core.utilities.results.SuccessResult;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class SalesReportManager implements SalesReportService {
+
+    private static final int DEFAULT_RANGE_DAYS = 30;
+
+    // Yeniden oluşturma ay ay ayrı transaction'larda yapılır; uzun geçmişte tek
+    // dev bir transaction ve kilit tutulmaz.
+    private static final int REBUILD_CHUNK_DAYS = 31;
+
+    private final SalesRollupRepository salesRollupRepository;
+    private final SalesRollupJdbcRepository salesRollupJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public SalesReportManager(SalesRollupRepository salesRollupRepository,
+            SalesRollupJdbcRepository salesRollupJdbcRepository, PlatformTransactionManager transactionManager) {
+        this.salesRollupRepository = salesRollupRepository;
+        this.salesRollupJdbcRepository = salesRollupJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DataResult<List<DailySalesResponse>> getDailySales(LocalDate from, LocalDate to) {
+        LocalDate end = to == null ? LocalDate.now() : to;
+        LocalDate start = from == null ? end.minusDays(DEFAULT_RANGE_DAYS - 1) : from;
+        isValidRange(start, end);
+
+        List<DailySalesResponse> returnList = new ArrayList<>();
+        for (SalesRollup rollup : salesRollupRepository.findByDimensionAndDayBetweenOrderByDayAsc(
+                RollupDimension.TOTAL, start, end)) {
+            returnList.add(new DailySalesResponse(rollup.getDay(), rollup.getOrderCount(), rollup.getUnits(),
+                    rollup.getRevenue()));
+        }
+        return new SuccessDataResult<>(returnList, GetListMessages.DAILY_SALES_LISTED);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DataResult<List<SalesBreakdownResponse>> getProductSales(LocalDate from, LocalDate to, int limit) {
+        if (limit < 1)
+            throw new BusinessException(ErrorMessages.PAGE_SIZE_NEGATIVE);
+        return new SuccessDataResult<>(breakdown(RollupDimension.PRODUCT, from, to, PageRequest.of(0, limit)),
+                GetListMessages.PRODUCT_SALES_LISTED);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DataResult<List<SalesBreakdownResponse>> getCategorySales(LocalDate from, LocalDate to) {
+        return new SuccessDataResult<>(breakdown(RollupDimension.CATEGORY, from, to, Pageable.unpaged()),
+                GetListMessages.CATEGORY_SALES_LISTED);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DataResult<List<SalesBreakdownResponse>> getCustomerTypeSales(LocalDate from, LocalDate to) {
+        return new SuccessDataResult<>(breakdown(RollupDimension.CUSTOMER_TYPE, from, to, Pageable.unpaged()),
+                GetListMessages.CUSTOMER_TYPE_SALES_LISTED);
+    }
+
+    // Tarih verilmezse tüm sipariş geçmişi baştan hesaplanır.
+    @Override
+    public Result rebuild(LocalDate from, LocalDate to) {
+        LocalDate start = from != null ? from : salesRollupJdbcRepository.firstOrderDay().orElse(null);
+        LocalDate end = to != null ? to : salesRollupJdbcRepository.lastOrderDay().orElse(null);
+        if (start == null || end == null)
+            return new SuccessResult(UpdateMessages.SALES_ROLLUPS_REBUILT);
+        isValidRange(start, end);
+
+        long startedAt = System.currentTimeMillis();
+        for (LocalDate chunk = start; !chunk.isAfter(end); chunk = chunk.plusDays(REBUILD_CHUNK_DAYS)) {
+            LocalDate chunkStart = chunk;
+            LocalDate chunkEnd = min(chunk.plusDays(REBUILD_CHUNK_DAYS), end.plusDays(1));
+            transactionTemplate.executeWithoutResult(status -> {
+                salesRollupJdbcRepository.lockDays(chunkStart, chunkEnd);
+                salesRollupJdbcRepository.clearDirty(chunkStart, chunkEnd);
+                salesRollupJdbcRepository.refresh(chunkStart, chunkEnd);
+            });
+        }
+        log.info(LogInfoMessages.SALES_ROLLUPS_REBUILT, start, end, System.currentTimeMillis() - startedAt);
+        return new SuccessResult(UpdateMessages.SALES_ROLLUPS_REBUILT);
+    }
+
+    // Günler siparişle aynı transaction'da işaretlenir; sipariş geri alınırsa işaret de kalkar.
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void markDirty(LocalDateTime... orderCreatedDates) {
+        Set<LocalDate> days = new TreeSet<>();
+        for (LocalDateTime createdDate : orderCreatedDates) {
+            if (createdDate != null)
+                days.add(createdDate.toLocalDate());
+        }
+        if (!days.isEmpty())
+            salesRollupJdbcRepository.markDirty(days);
+    }
+
+    private List<SalesBreakdownResponse> breakdown(RollupDimension dimension, LocalDate from, LocalDate to,
+            Pageable pageable) {
+        LocalDate end = to == null ? LocalDate.now() : to;
+        LocalDate start = from == null ? end.minusDays(DEFAULT_RANGE_DAYS - 1) : from;
+        isValidRange(start, end);
+
+        List<SalesBreakdownResponse> returnList = new ArrayList<>();
+        for (SalesBreakdownView view : salesRollupRepository.sumByDimension(dimension, start, end, pageable)) {
+            returnList.add(new SalesBreakdownResponse(view.getDimensionKey(), view.getOrderCount(), view.getUnits(),
+                    view.getRevenue()));
+        }
+        return returnList;
+    }
+
+    private void isValidRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to))
+            throw new BusinessException(ErrorMessages.REPORT_RANGE_NOT_VALID);
+    }
+
+    private static LocalDate min(LocalDate first, LocalDate second) {
+        return first.isBefore(second) ? first : second;
+    }
+}
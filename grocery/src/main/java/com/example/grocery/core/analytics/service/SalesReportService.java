@@ -0,0 +1,25 @@
+package com.example.grocery.core.analytics.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.example.grocery.core.analytics.DTOs.response.DailySalesResponse;
+import com.example.grocery.core.analytics.DTOs.response.SalesBreakdownResponse;
+import com.example.grocery.core.utilities.results.DataResult;
+import com.example.grocery.core.utilities.results.Result;
+
+public interface SalesReportService {
+
+    DataResult<List<DailySalesResponse>> getDailySales(LocalDate from, LocalDate to);
+
+    DataResult<List<SalesBreakdownResponse>> getProductSales(LocalDate from, LocalDate to, int limit);
+
+    DataResult<List<SalesBreakdownResponse>> getCategorySales(LocalDate from, LocalDate to);
+
+    DataResult<List<SalesBreakdownResponse>> getCustomerTypeSales(LocalDate from, LocalDate to);
+
+    Result rebuild(LocalDate from, LocalDate to);
+
+    void markDirty(LocalDateTime... orderCreatedDates);
+}
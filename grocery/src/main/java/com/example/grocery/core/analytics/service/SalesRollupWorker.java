@@ -0,0 +1,45 @@
+package com.example.grocery.core.analytics.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.grocery.business.constants.Messages.LogMessages.LogInfoMessages;
+import com.example.grocery.core.analytics.repository.SalesRollupJdbcRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Siparişi değişen günlerin özetleri arka planda yeniden hesaplanır; raporlar en
+// fazla refreshDelayMs kadar geriden gelir.
+@Component
+@Slf4j
+public class SalesRollupWorker {
+
+    @Value("${grocery.app.analytics.batchDays:31}")
+    private int batchDays;
+
+    private final SalesRollupJdbcRepository salesRollupJdbcRepository;
+
+    public SalesRollupWorker(SalesRollupJdbcRepository salesRollupJdbcRepository) {
+        this.salesRollupJdbcRepository = salesRollupJdbcRepository;
+    }
+
+    @Scheduled(fixedDelayString = "${grocery.app.analytics.refreshDelayMs:60000}")
+    @Transactional
+    public void refreshDirtyDays() {
+        List<LocalDate> days = salesRollupJdbcRepository.claimDirtyDays(batchDays);
+        if (days.isEmpty())
+            return;
+
+        // Günler artan sırayla gelir; rebuild ile aynı sırada kilitlenir.
+        for (LocalDate day : days) {
+            salesRollupJdbcRepository.lockDays(day, day.plusDays(1));
+            salesRollupJdbcRepository.refresh(day, day.plusDays(1));
+        }
+        log.info(LogInfoMessages.SALES_ROLLUPS_REFRESHED, days);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.grocery.core.dataSource;
+
+import javax.sql.DataSource;
+
+import lombok.Getter;
+
+@Getter
+public class ReplicaNode {
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy = true;
+    private volatile long lagMs;
+
+    public ReplicaNode(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public void update(boolean healthy, long lagMs) {
+        this.healthy = healthy;
+        this.lagMs = lagMs;
+    }
+
+    public void markDown() {
+        this.healthy = false;
+    }
+}
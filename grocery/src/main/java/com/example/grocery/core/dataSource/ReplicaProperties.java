@@ -0,0 +1,38 @@
+package com.example.grocery.core.dataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@ConfigurationProperties(prefix = "grocery.app.datasource")
+@Getter
+@Setter
+public class ReplicaProperties {
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    // Replikasyon gecikmesi bu değeri aşan replika okuma almaz.
+    private long maxLagMs = 5000;
+
+    // Yazma yapan kullanıcı bu süre boyunca okumalarını da primary'den yapar.
+    private long readYourWritesMs = 5000;
+
+    private long healthCheckMs = 5000;
+
+    private int maximumPoolSize = 10;
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.grocery.core.dataSource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.grocery.business.constants.Messages.LogMessages.LogWarnMessages;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+// readOnly transaction'ları sağlıklı ve gecikmesi kabul edilebilir replikalara (round-robin),
+// diğer her şeyi primary'ye yönlendirir. LazyConnectionDataSourceProxy arkasında kullanılmalı;
+// böylece bağlantı transaction'ın readOnly bayrağı belirlendikten sonra alınır.
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    // WAL alınan ve uygulanan konum eşitse replika yetişmiştir; primary boştayken son
+    // replay zamanından hesaplanan gecikme yanlışlıkla büyümez. Walreceiver primary'ye
+    // bağlı değilse alınan konum eski kalır ve eşitlik yanıltır; bu durumda null döner.
+    private static final String LAG_QUERY = "select case "
+            + "when not exists (select 1 from pg_stat_wal_receiver where status = 'streaming') then null "
+            + "when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0 "
+            + "else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000, 0) end";
+
+    private final DataSource primary;
+    private final List<ReplicaNode> replicas;
+    private final long maxLagMs;
+    private final Cache<String, Boolean> recentWriters;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<ReplicaNode> replicas, long maxLagMs,
+            long readYourWritesMs) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.maxLagMs = maxLagMs;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(readYourWritesMs))
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String principal = currentPrincipal();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (principal != null && TransactionSynchronizationManager.isActualTransactionActive())
+                recentWriters.put(principal, Boolean.TRUE);
+            return primary.getConnection();
+        }
+        if (principal != null && recentWriters.getIfPresent(principal) != null)
+            return primary.getConnection();
+
+        ReplicaNode replica = pickReplica();
+        if (replica == null)
+            return primary.getConnection();
+
+        try {
+            return replica.getDataSource().getConnection();
+        } catch (SQLException e) {
+            // Replika erişilemezse sağlık kontrolünü beklemeden devre dışı bırakılır.
+            replica.markDown();
+            log.warn(LogWarnMessages.REPLICA_DOWN, replica.getName(), e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    // Zamanlanmış sağlık kontrolü: bağlantı ve replikasyon gecikmesi ölçülür.
+    public void checkReplicas() {
+        for (ReplicaNode replica : replicas) {
+            try (Connection connection = replica.getDataSource().getConnection();
+                    Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                resultSet.next();
+                long lagMs = resultSet.getLong(1);
+                if (resultSet.wasNull()) {
+                    replica.markDown();
+                    log.warn(LogWarnMessages.REPLICA_NOT_STREAMING, replica.getName());
+                    continue;
+                }
+                replica.update(lagMs <= maxLagMs, lagMs);
+                if (lagMs > maxLagMs)
+                    log.warn(LogWarnMessages.REPLICA_LAGGING, replica.getName(), lagMs);
+            } catch (SQLException e) {
+                replica.markDown();
+                log.warn(LogWarnMessages.REPLICA_DOWN, replica.getName(), e.getMessage());
+            }
+        }
+    }
+
+    public List<ReplicaNode> getReplicas() {
+        return replicas;
+    }
+
+    // Replika havuzları bean değildir; context kapanırken burada kapatılır. Primary kendi
+    // bean'i olarak kapatılır.
+    public void close() {
+        for (ReplicaNode replica : replicas) {
+            if (replica.getDataSource() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn(LogWarnMessages.REPLICA_CLOSE_FAILED, replica.getName(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private ReplicaNode pickReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            ReplicaNode replica = replicas.get((start + i) % size);
+            if (replica.isHealthy())
+                return replica;
+        }
+        return null;
+    }
+
+    // Oturum açmamış istekler ortak bir anahtarla işaretlenirse tek bir anonim yazma tüm
+    // anonim okumaları primary'ye taşır; bu yüzden anonim istekler sabitlenmez.
+    private String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken)
+            return null;
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.grocery.core.idempotency;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.example.grocery.business.constants.Messages.ErrorMessages;
+import com.example.grocery.business.constants.Messages.LogMessages.LogInfoMessages;
+import com.example.grocery.business.constants.Messages.LogMessages.LogWarnMessages;
+import com.example.grocery.core.idempotency.model.IdempotentResponse;
+import com.example.grocery.core.idempotency.store.IdempotencyStore;
+import com.example.grocery.core.utilities.results.ErrorResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+// Idempotency-Key başlığı taşıyan oluşturma isteklerinin yanıtı saklanır; aynı
+// anahtarla gelen tekrar denemeleri işlemi yeniden çalıştırmadan aynı yanıtı alır.
+// Aynı anda gelen kopyalar ilk isteğin bitmesini bekler. Aynı anahtar farklı bir
+// gövdeyle gelirse yanıt verilmez, 422 döner.
+@Component
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    @Value("${grocery.app.idempotency.paths:/api/order/add,/api/payment/add}")
+    private List<String> paths;
+
+    @Value("${grocery.app.idempotency.ttlSeconds:86400}")
+    private long ttlSeconds;
+
+    @Value("${grocery.app.idempotency.waitTimeoutMs:30000}")
+    private long waitTimeoutMs;
+
+    private final IdempotencyStore idempotencyStore;
+
+    private final ObjectMapper objectMapper;
+
+    // Henüz tamamlanmamış istekler; aynı anahtarla gelen kopyalar bu future'ı bekler.
+    private final ConcurrentHashMap<String, CompletableFuture<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyFilter(IdempotencyStore idempotencyStore, ObjectMapper objectMapper) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || request.getHeader(HEADER) == null
+                || !paths.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, ErrorMessages.IDEMPOTENCY_KEY_NOT_VALID);
+            return;
+        }
+
+        String key = principal() + ":" + request.getRequestURI() + ":" + idempotencyKey;
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String requestHash = hash(cachedRequest.body);
+        Optional<IdempotentResponse> stored = idempotencyStore.get(key);
+        if (stored.isPresent()) {
+            replay(response, stored.get(), key, requestHash);
+            return;
+        }
+
+        CompletableFuture<IdempotentResponse> current = new CompletableFuture<>();
+        CompletableFuture<IdempotentResponse> first = inFlight.putIfAbsent(key, current);
+        if (first != null) {
+            awaitFirst(response, first, key, requestHash);
+            return;
+        }
+
+        try {
+            // putIfAbsent'ten hemen önce tamamlanan bir istek yanıtını kaydetmiş olabilir.
+            stored = idempotencyStore.get(key);
+            if (stored.isPresent()) {
+                current.complete(stored.get());
+                replay(response, stored.get(), key, requestHash);
+                return;
+            }
+
+            ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+            filterChain.doFilter(cachedRequest, responseWrapper);
+
+            IdempotentResponse captured = capture(key, requestHash, responseWrapper);
+            // Hatalı yanıtlar saklanmaz; istemci aynı anahtarla yeniden deneyebilir.
+            if (HttpStatus.valueOf(captured.getStatus()).is2xxSuccessful()) {
+                idempotencyStore.save(captured);
+            }
+            current.complete(captured);
+            responseWrapper.copyBodyToResponse();
+        } catch (IOException | ServletException | RuntimeException e) {
+            current.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, current);
+        }
+    }
+
+    private void awaitFirst(HttpServletResponse response, CompletableFuture<IdempotentResponse> first, String key,
+            String requestHash) throws IOException {
+        try {
+            replay(response, first.get(waitTimeoutMs, TimeUnit.MILLISECONDS), key, requestHash);
+        } catch (TimeoutException | ExecutionException e) {
+            log.warn(LogWarnMessages.IDEMPOTENT_REQUEST_IN_PROGRESS, key);
+            writeError(response, HttpStatus.CONFLICT, ErrorMessages.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writeError(response, HttpStatus.CONFLICT, ErrorMessages.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    private IdempotentResponse capture(String key, String requestHash, ContentCachingResponseWrapper responseWrapper) {
+        LocalDateTime now = LocalDateTime.now();
+        return IdempotentResponse.builder()
+                .key(key)
+                .requestHash(requestHash)
+                .status(responseWrapper.getStatus())
+                .contentType(responseWrapper.getContentType())
+                .body(new String(responseWrapper.getContentAsByteArray(), StandardCharsets.UTF_8))
+                .createdAt(now)
+                .expiresAt(now.plusSeconds(ttlSeconds))
+                .build();
+    }
+
+    private void replay(HttpServletResponse response, IdempotentResponse stored, String key, String requestHash)
+            throws IOException {
+        // Eski kayıtlarda özet yoktur; bunlar karşılaştırılmadan döndürülür.
+        if (stored.getRequestHash() != null && !stored.getRequestHash().equals(requestHash)) {
+            log.warn(LogWarnMessages.IDEMPOTENCY_KEY_REUSED, key);
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, ErrorMessages.IDEMPOTENCY_KEY_REUSED);
+            return;
+        }
+        log.info(LogInfoMessages.IDEMPOTENT_RESPONSE_REPLAYED, key);
+        response.setStatus(stored.getStatus());
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.getOutputStream().write(stored.getBody().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResult(message));
+    }
+
+    private static String hash(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Aynı anahtarın farklı kullanıcılar arasında yanıt sızdırmaması için.
+    private String principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? "anonymous" : authentication.getName();
+    }
+
+    // Gövde özet için okunduktan sonra controller'a yeniden okutulur.
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            body = StreamUtils.copyToByteArray(request.getInputStream());
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            Charset charset = getCharacterEncoding() == null ? StandardCharsets.UTF_8
+                    : Charset.forName(getCharacterEncoding());
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.grocery.core.idempotency.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.grocery.core.idempotency.model.IdempotentResponse;
+
+public interface IdempotentResponseRepository extends JpaRepository<IdempotentResponse, String> {
+
+    @Modifying
+    @Query("delete from IdempotentResponse r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,12 @@
+package com.example.grocery.core.idempotency.store;
+
+import java.util.Optional;
+
+import com.example.grocery.core.idempotency.model.IdempotentResponse;
+
+public interface IdempotencyStore {
+
+    Optional<IdempotentResponse> get(String key);
+
+    void save(IdempotentResponse response);
+}
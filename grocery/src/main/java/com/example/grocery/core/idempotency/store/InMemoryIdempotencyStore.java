@@ -0,0 +1,54 @@
+package com.example.grocery.core.idempotency.store;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.example.grocery.core.idempotency.model.IdempotentResponse;
+
+@Component
+@ConditionalOnProperty(name = "grocery.app.idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final int maxEntries;
+
+    // Tüm yanıtların TTL'i aynı olduğundan ekleme sırası bitiş sırasıdır; süresi
+    // dolanlar baştan, kapasite aşılınca en eski kayıt atılır.
+    private final LinkedHashMap<String, IdempotentResponse> responses;
+
+    public InMemoryIdempotencyStore(@Value("${grocery.app.idempotency.maxEntries:100000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.responses = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotentResponse> eldest) {
+                return size() > InMemoryIdempotencyStore.this.maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Optional<IdempotentResponse> get(String key) {
+        evictExpired(LocalDateTime.now());
+        return Optional.ofNullable(responses.get(key));
+    }
+
+    @Override
+    public synchronized void save(IdempotentResponse response) {
+        evictExpired(LocalDateTime.now());
+        responses.remove(response.getKey());
+        responses.put(response.getKey(), response);
+    }
+
+    private void evictExpired(LocalDateTime now) {
+        Iterator<IdempotentResponse> iterator = responses.values().iterator();
+        while (iterator.hasNext() && iterator.next().isExpired(now)) {
+            iterator.remove();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.grocery.core.idempotency.store;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.grocery.core.idempotency.model.IdempotentResponse;
+import com.example.grocery.core.idempotency.repository.IdempotentResponseRepository;
+
+// Tekrar denemesi başka bir node'a düştüğünde de kayıtlı yanıtın bulunması için.
+@Component
+@ConditionalOnProperty(name = "grocery.app.idempotency.store", havingValue = "jdbc")
+public class JpaIdempotencyStore implements IdempotencyStore {
+
+    private final IdempotentResponseRepository idempotentResponseRepository;
+
+    public JpaIdempotencyStore(IdempotentResponseRepository idempotentResponseRepository) {
+        this.idempotentResponseRepository = idempotentResponseRepository;
+    }
+
+    // findById kendi başına readOnly çalışır ve replikaya yönlenir; replika gecikmesi
+    // yeni kaydedilmiş bir yanıtı göstermez ve istek ikinci kez işlenir. Okuma-yazma
+    // transaction'ı bağlantıyı primary'den alır.
+    @Override
+    @Transactional
+    public Optional<IdempotentResponse> get(String key) {
+        return idempotentResponseRepository.findById(key)
+                .filter(response -> !response.isExpired(LocalDateTime.now()));
+    }
+
+    @Override
+    public void save(IdempotentResponse response) {
+        idempotentResponseRepository.save(response);
+    }
+
+    @Scheduled(fixedDelayString = "${grocery.app.idempotency.purgeDelayMs:60000}")
+    @Transactional
+    public void purgeExpired() {
+        idempotentResponseRepository.deleteExpired(LocalDateTime.now());
+    }
+}
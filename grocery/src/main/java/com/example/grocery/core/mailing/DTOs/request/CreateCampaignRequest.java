@@ -0,0 +1,26 @@
+package com.example.grocery.core.mailing.DTOs.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateCampaignRequest {
+
+    @NotNull
+    @NotBlank
+    @Size(max = 200)
+    private String subject;
+
+    @NotNull
+    @NotBlank
+    private String content;
+}
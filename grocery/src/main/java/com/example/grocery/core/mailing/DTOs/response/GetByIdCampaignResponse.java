@@ -0,0 +1,37 @@
+package com.example.grocery.core.mailing.DTOs.response;
+
+import java.time.LocalDateTime;
+
+import com.example.grocery.core.mailing.enums.CampaignStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class GetByIdCampaignResponse {
+
+    private Long id;
+
+    private String subject;
+
+    private CampaignStatus status;
+
+    private Long lastUserId;
+
+    private long sentCount;
+
+    private long failedCount;
+
+    private double failureRate;
+
+    private double sentPerSecond;
+
+    private LocalDateTime startedDate;
+
+    private LocalDateTime finishedDate;
+}
@@ -0,0 +1,41 @@
+package com.example.grocery.core.mailing.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.grocery.core.mailing.DTOs.request.CreateCampaignRequest;
+import com.example.grocery.core.mailing.DTOs.response.GetByIdCampaignResponse;
+import com.example.grocery.core.mailing.service.CampaignService;
+import com.example.grocery.core.utilities.results.DataResult;
+import com.example.grocery.core.utilities.results.Result;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/campaign")
+public class CampaignsController {
+
+    @Autowired
+    private CampaignService campaignService;
+
+    @PostMapping("/add")
+    public ResponseEntity<Result> add(@Valid @RequestBody CreateCampaignRequest createCampaignRequest) {
+        return ResponseEntity.ok(campaignService.add(createCampaignRequest));
+    }
+
+    @PostMapping("/start/{id}")
+    public ResponseEntity<Result> start(@PathVariable Long id) {
+        return ResponseEntity.ok(campaignService.start(id));
+    }
+
+    @GetMapping("/getbyid/{id}")
+    public ResponseEntity<DataResult<GetByIdCampaignResponse>> getById(@PathVariable Long id) {
+        return ResponseEntity.ok(campaignService.getById(id));
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.grocery.core.mailing.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.grocery.core.mailing.DTOs.request.VerifyCodeRequest;
+import com.example.grocery.core.mailing.service.EmailService;
+import com.example.grocery.core.utilities.results.Result;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/verification")
+public class VerificationController {
+
+    @Autowired
+    private EmailService emailService;
+
+    @PostMapping("/send")
+    public ResponseEntity<Result> send(@RequestParam String email) {
+        return ResponseEntity.ok(emailService.sendActivationEmail(email));
+    }
+
+    @PostMapping("/verify")
+    public ResponseEntity<Result> verify(@Valid @RequestBody VerifyCodeRequest verifyCodeRequest) {
+        return ResponseEntity.ok(emailService.verifyActivationCode(verifyCodeRequest));
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.grocery.core.mailing.enums;
+
+public enum CampaignStatus {
+
+    CREATED,
+    RUNNING,
+    // Gönderim hata ile durdu; start ile checkpoint'ten yeniden başlatılabilir.
+    PAUSED,
+    COMPLETED;
+}
@@ -0,0 +1,8 @@
+package com.example.grocery.core.mailing.enums;
+
+public enum MailStatus {
+
+    PENDING,
+    SENT,
+    DEAD;
+}
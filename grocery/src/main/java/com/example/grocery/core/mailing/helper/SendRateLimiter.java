@@ -0,0 +1,37 @@
+package com.example.grocery.core.mailing.helper;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SendRateLimiter {
+
+    private final long intervalNanos;
+
+    private final AtomicLong nextFreeNanos = new AtomicLong(System.nanoTime());
+
+    public SendRateLimiter(@Value("${grocery.app.campaign.ratePerSecond:100}") int ratePerSecond) {
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, ratePerSecond);
+    }
+
+    // Tüm gönderici thread'ler için ortak limit: izin verilen zamana kadar bekletir.
+    // Kilit yerine CAS kullanılır; sanal thread'ler monitor üzerinde carrier'a sabitlenmez.
+    public void acquire(int permits) throws InterruptedException {
+        long now;
+        long start;
+        long current;
+        do {
+            now = System.nanoTime();
+            current = nextFreeNanos.get();
+            start = Math.max(now, current);
+        } while (!nextFreeNanos.compareAndSet(current, start + intervalNanos * permits));
+
+        long waitNanos = start - now;
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
@@ -4,11 +4,13 @@ import java.security.SecureRandom;
 
 public class ValidationCodeGenerator {
 
+    // SecureRandom thread-safe; her çağrıda yeniden oluşturmak entropi toplama maliyeti getirir.
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
     private ValidationCodeGenerator() {
     }
 
     public static int generateSixDigitRandomNumber() {
-        SecureRandom secureRandom = new SecureRandom();
-        return secureRandom.nextInt(1000000 - 100000) + 100000;
+        return SECURE_RANDOM.nextInt(1000000 - 100000) + 100000;
     }
 }
@@ -0,0 +1,8 @@
+package com.example.grocery.core.mailing.model;
+
+public interface Recipient {
+
+    Long getId();
+
+    String getEmail();
+}
@@ -0,0 +1,43 @@
+package com.example.grocery.core.mailing.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.grocery.core.mailing.enums.CampaignStatus;
+import com.example.grocery.core.mailing.model.Campaign;
+import com.example.grocery.core.mailing.model.Recipient;
+
+public interface CampaignRepository extends JpaRepository<Campaign, Long> {
+
+    List<Campaign> findByStatus(CampaignStatus status);
+
+    // Durum kontrolü ve RUNNING'e geçiş tek bir koşullu UPDATE'tir; aynı kampanya için
+    // eş zamanlı iki start isteğinden yalnızca biri 1 satır günceller.
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Campaign c set c.status = :running, c.startedDate = coalesce(c.startedDate, :now), "
+            + "c.heartbeatDate = :now where c.id = :id and c.status in :startable")
+    int markRunning(@Param("id") Long id, @Param("startable") Collection<CampaignStatus> startable,
+            @Param("running") CampaignStatus running, @Param("now") LocalDateTime now);
+
+    // RUNNING kalmış bir kampanyayı yalnızca heartbeat'i eskimişse (çalıştıran node durmuşsa)
+    // ve yalnızca bir node devralır; aynı koşullu UPDATE ile ikinci node 0 satır günceller.
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Campaign c set c.heartbeatDate = :now where c.id = :id and c.status = :running "
+            + "and (c.heartbeatDate is null or c.heartbeatDate < :staleBefore)")
+    int claimStaleRun(@Param("id") Long id, @Param("running") CampaignStatus running,
+            @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+
+    // keyset sayfalama: OFFSET yerine son id'den devam eder, sadece id ve email okunur
+    @Query("select u.id as id, u.email as email from User u where u.id > :lastUserId and u.isActive = true order by u.id")
+    List<Recipient> findRecipientsAfter(@Param("lastUserId") Long lastUserId, Pageable pageable);
+}
@@ -0,0 +1,26 @@
+package com.example.grocery.core.mailing.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import com.example.grocery.core.mailing.enums.MailStatus;
+import com.example.grocery.core.mailing.model.OutboundEmail;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface OutboundEmailRepository extends JpaRepository<OutboundEmail, Long> {
+
+    // -2 = SKIP LOCKED; birden fazla node aynı kuyruğu boşaltırken aynı satırı almaz.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<OutboundEmail> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(MailStatus status,
+            LocalDateTime now, Pageable pageable);
+
+    long countByStatus(MailStatus status);
+}
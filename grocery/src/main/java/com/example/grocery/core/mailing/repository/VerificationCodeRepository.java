@@ -0,0 +1,23 @@
+package com.example.grocery.core.mailing.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.grocery.core.mailing.model.VerificationCode;
+
+public interface VerificationCodeRepository extends JpaRepository<VerificationCode, String> {
+
+    @Modifying(clearAutomatically = true)
+    @Query("update VerificationCode v set v.attempts = v.attempts + 1 "
+            + "where v.email = :email and v.expiresAt > :now and v.attempts < :maxAttempts")
+    int claimAttempt(@Param("email") String email, @Param("maxAttempts") int maxAttempts,
+            @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from VerificationCode v where v.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,254 @@
+package com.example.grocery.core.mailing.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.grocery.business.constants.Messages.CreateMessages;
+import com.example.grocery.business.constants.Messages.ErrorMessages;
+import com.example.grocery.business.constants.Messages.GetByIdMessages;
+import com.example.grocery.business.constants.Messages.LogMessages.LogErrorMessages;
+import com.example.grocery.business.constants.Messages.LogMessages.LogInfoMessages;
+import com.example.grocery.core.mailing.DTOs.request.CreateCampaignRequest;
+import com.example.grocery.core.mailing.DTOs.response.GetByIdCampaignResponse;
+import com.example.grocery.core.mailing.enums.CampaignStatus;
+import com.example.grocery.core.mailing.helper.SendRateLimiter;
+import com.example.grocery.core.mailing.model.Campaign;
+import com.example.grocery.core.mailing.model.Recipient;
+import com.example.grocery.core.mailing.repository.CampaignRepository;
+import com.example.grocery.core.utilities.exceptions.BusinessException;
+import com.example.grocery.core.utilities.results.DataResult;
+import com.example.grocery.core.utilities.results.Result;
+import com.example.grocery.core.utilities.results.SuccessDataResult;
+import com.example.grocery.core.utilities.results.SuccessResult;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class CampaignManager implements CampaignService {
+
+    private static final EnumSet<CampaignStatus> STARTABLE = EnumSet.of(CampaignStatus.CREATED,
+            CampaignStatus.PAUSED);
+
+    @Value("${spring.mail.username}")
+    private String senderMail;
+
+    @Value("${grocery.app.campaign.batchSize:500}")
+    private int batchSize;
+
+    @Value("${grocery.app.campaign.senders:4}")
+    private int senders;
+
+    @Value("${grocery.app.campaign.staleAfterSeconds:600}")
+    private long staleAfterSeconds;
+
+    private final CampaignRepository campaignRepository;
+    private final JavaMailSender javaMailSender;
+    private final SendRateLimiter sendRateLimiter;
+    private final Executor campaignExecutor;
+    private final Executor campaignSenderExecutor;
+    private final MeterRegistry meterRegistry;
+
+    public CampaignManager(CampaignRepository campaignRepository, JavaMailSender javaMailSender,
+            SendRateLimiter sendRateLimiter, @Qualifier("campaignExecutor") Executor campaignExecutor,
+            @Qualifier("campaignSenderExecutor") Executor campaignSenderExecutor, MeterRegistry meterRegistry) {
+        this.campaignRepository = campaignRepository;
+        this.javaMailSender = javaMailSender;
+        this.sendRateLimiter = sendRateLimiter;
+        this.campaignExecutor = campaignExecutor;
+        this.campaignSenderExecutor = campaignSenderExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Result add(CreateCampaignRequest createCampaignRequest) {
+        Campaign campaign = new Campaign();
+        campaign.setSubject(createCampaignRequest.getSubject());
+        campaign.setContent(createCampaignRequest.getContent());
+        campaign.setStatus(CampaignStatus.CREATED);
+        campaign.setLastUserId(0L);
+        campaign.setCreatedDate(LocalDateTime.now());
+        campaignRepository.save(campaign);
+        log.info(LogInfoMessages.CAMPAIGN_CREATED, campaign.getId(), campaign.getSubject());
+        return new SuccessResult(CreateMessages.CAMPAIGN_CREATED);
+    }
+
+    @Override
+    public Result start(Long id) {
+        // Çalışan bir kampanya ikinci kez başlatılırsa aynı alıcılara eski checkpoint'ten
+        // tekrar gönderim yapılırdı.
+        if (campaignRepository.markRunning(id, STARTABLE, CampaignStatus.RUNNING, LocalDateTime.now()) == 0) {
+            Campaign campaign = getCampaignById(id);
+            throw new BusinessException(campaign.getStatus() == CampaignStatus.COMPLETED
+                    ? ErrorMessages.CAMPAIGN_ALREADY_COMPLETED
+                    : ErrorMessages.CAMPAIGN_ALREADY_RUNNING);
+        }
+        Campaign campaign = getCampaignById(id);
+        campaignExecutor.execute(() -> run(campaign));
+        return new SuccessResult(CreateMessages.CAMPAIGN_STARTED);
+    }
+
+    @Override
+    public DataResult<GetByIdCampaignResponse> getById(Long id) {
+        Campaign campaign = getCampaignById(id);
+        long processed = campaign.getSentCount() + campaign.getFailedCount();
+        LocalDateTime end = campaign.getFinishedDate() != null ? campaign.getFinishedDate() : LocalDateTime.now();
+        double seconds = campaign.getStartedDate() == null ? 0
+                : Math.max(1, Duration.between(campaign.getStartedDate(), end).toMillis()) / 1000.0;
+
+        GetByIdCampaignResponse response = new GetByIdCampaignResponse(campaign.getId(), campaign.getSubject(),
+                campaign.getStatus(), campaign.getLastUserId(), campaign.getSentCount(), campaign.getFailedCount(),
+                processed == 0 ? 0 : (double) campaign.getFailedCount() / processed,
+                seconds == 0 ? 0 : campaign.getSentCount() / seconds,
+                campaign.getStartedDate(), campaign.getFinishedDate());
+        return new SuccessDataResult<>(response, GetByIdMessages.CAMPAIGN_LISTED);
+    }
+
+    // Çalıştıran node'u durmuş kampanyalar checkpoint'ten devam eder. Her node RUNNING
+    // kampanyaları görür; devralma koşullu UPDATE ile yapılır ve yalnızca bir node kazanır.
+    @Scheduled(fixedDelayString = "${grocery.app.campaign.resumeCheckMs:60000}")
+    public void resumeRunningCampaigns() {
+        LocalDateTime now = LocalDateTime.now();
+        for (Campaign stale : campaignRepository.findByStatus(CampaignStatus.RUNNING)) {
+            if (campaignRepository.claimStaleRun(stale.getId(), CampaignStatus.RUNNING, now,
+                    now.minusSeconds(staleAfterSeconds)) == 0)
+                continue;
+            Campaign campaign = getCampaignById(stale.getId());
+            log.info(LogInfoMessages.CAMPAIGN_RESUMED, campaign.getId(), campaign.getLastUserId());
+            campaignExecutor.execute(() -> run(campaign));
+        }
+    }
+
+    // Alıcılar keyset ile batchSize kadar okunur; aynı anda en fazla "senders" kadar
+    // batch gönderimde olur, böylece bellek kullanımı alıcı sayısından bağımsızdır.
+    // Checkpoint yalnızca sırayla tamamlanan batch'ler için ilerletilir; başarısız batch
+    // checkpoint'i ilerletmez ve kampanya o batch'ten devam eder.
+    private void run(Campaign campaign) {
+        SimpleMailMessage template = render(campaign);
+        Deque<CompletableFuture<BatchResult>> inFlight = new ArrayDeque<>();
+        AtomicBoolean stopped = new AtomicBoolean();
+        Long cursor = campaign.getLastUserId();
+
+        try {
+            while (true) {
+                List<Recipient> recipients = campaignRepository.findRecipientsAfter(cursor,
+                        PageRequest.of(0, batchSize));
+                if (recipients.isEmpty())
+                    break;
+
+                cursor = recipients.get(recipients.size() - 1).getId();
+                inFlight.add(sendBatch(template, recipients, cursor, stopped));
+
+                if (inFlight.size() >= senders) {
+                    checkpoint(campaign, inFlight.poll().join());
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                checkpoint(campaign, inFlight.poll().join());
+            }
+        } catch (RuntimeException e) {
+            // Henüz başlamamış batch'ler gönderilmez, gönderimdekiler beklenir; kampanya
+            // arkasında gönderim yapan bir thread kalmadan duraklatılır.
+            stopped.set(true);
+            awaitAll(inFlight);
+            log.error(LogErrorMessages.CAMPAIGN_FAILED, campaign.getId(), e.getMessage());
+            campaign.setStatus(CampaignStatus.PAUSED);
+            campaignRepository.save(campaign);
+            return;
+        }
+
+        campaign.setStatus(CampaignStatus.COMPLETED);
+        campaign.setFinishedDate(LocalDateTime.now());
+        campaignRepository.save(campaign);
+        log.info(LogInfoMessages.CAMPAIGN_COMPLETED, campaign.getId(), campaign.getSentCount(),
+                campaign.getFailedCount());
+    }
+
+    // Şablon kampanya başına bir kez hazırlanır, alıcı başına sadece "to" alanı değişir.
+    private SimpleMailMessage render(Campaign campaign) {
+        SimpleMailMessage template = new SimpleMailMessage();
+        template.setFrom(senderMail);
+        template.setSubject(campaign.getSubject());
+        template.setText(campaign.getContent());
+        return template;
+    }
+
+    // Hiçbir mail gönderilemediyse sorun alıcılarda değil sunucudadır; batch başarısız
+    // sayılır ve kampanya duraklatılır. Kısmi hatalarda gönderilemeyen alıcılar sayılıp geçilir.
+    private CompletableFuture<BatchResult> sendBatch(SimpleMailMessage template, List<Recipient> recipients,
+            Long lastUserId, AtomicBoolean stopped) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (stopped.get())
+                throw new CancellationException();
+            SimpleMailMessage[] messages = new SimpleMailMessage[recipients.size()];
+            for (int i = 0; i < messages.length; i++) {
+                messages[i] = new SimpleMailMessage(template);
+                messages[i].setTo(recipients.get(i).getEmail());
+            }
+
+            try {
+                sendRateLimiter.acquire(messages.length);
+                if (stopped.get())
+                    throw new CancellationException();
+                javaMailSender.send(messages);
+                return new BatchResult(lastUserId, messages.length, 0);
+            } catch (MailSendException e) {
+                int failed = e.getFailedMessages().size();
+                // Mesaj bazında hata yoksa bağlantı kurulamamıştır; hiçbir mail gitmemiştir.
+                if (failed == 0 || failed >= messages.length)
+                    throw e;
+                return new BatchResult(lastUserId, messages.length - failed, failed);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BusinessException(e.getMessage());
+            }
+        }, campaignSenderExecutor);
+    }
+
+    private void checkpoint(Campaign campaign, BatchResult batchResult) {
+        campaign.setLastUserId(batchResult.lastUserId());
+        campaign.setHeartbeatDate(LocalDateTime.now());
+        campaign.setSentCount(campaign.getSentCount() + batchResult.sent());
+        campaign.setFailedCount(campaign.getFailedCount() + batchResult.failed());
+        campaignRepository.save(campaign);
+
+        meterRegistry.counter("grocery.campaign.emails", "result", "sent").increment(batchResult.sent());
+        meterRegistry.counter("grocery.campaign.emails", "result", "failed").increment(batchResult.failed());
+    }
+
+    private static void awaitAll(Deque<CompletableFuture<BatchResult>> inFlight) {
+        for (CompletableFuture<BatchResult> batch : inFlight) {
+            try {
+                batch.join();
+            } catch (RuntimeException ignored) {
+                // Kampanya zaten duraklatılıyor; yalnızca gönderimin bitmesi beklenir.
+            }
+        }
+    }
+
+    private Campaign getCampaignById(Long id) {
+        return campaignRepository.findById(id)
+                .orElseThrow(() -> new BusinessException(ErrorMessages.CAMPAIGN_ID_NOT_FOUND));
+    }
+
+    private record BatchResult(Long lastUserId, int sent, int failed) {
+    }
+}
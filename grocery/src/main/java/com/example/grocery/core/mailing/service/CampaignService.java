@@ -0,0 +1,15 @@
+package com.example.grocery.core.mailing.service;
+
+import com.example.grocery.core.mailing.DTOs.request.CreateCampaignRequest;
+import com.example.grocery.core.mailing.DTOs.response.GetByIdCampaignResponse;
+import com.example.grocery.core.utilities.results.DataResult;
+import com.example.grocery.core.utilities.results.Result;
+
+public interface CampaignService {
+
+    Result add(CreateCampaignRequest createCampaignRequest);
+
+    Result start(Long id);
+
+    DataResult<GetByIdCampaignResponse> getById(Long id);
+}
@@ -0,0 +1,122 @@
+package com.example.grocery.core.mailing.service;
+
+import java.time.LocalDateTime;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.grocery.business.constants.Messages.LogMessages.LogErrorMessages;
+import com.example.grocery.business.constants.Messages.LogMessages.LogInfoMessages;
+import com.example.grocery.business.constants.Messages.LogMessages.LogWarnMessages;
+import com.example.grocery.core.mailing.enums.MailStatus;
+import com.example.grocery.core.mailing.model.OutboundEmail;
+import com.example.grocery.core.mailing.repository.OutboundEmailRepository;
+
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class EmailQueueWorker {
+
+    @Value("${grocery.app.mail.batchSize:50}")
+    private int batchSize;
+
+    @Value("${grocery.app.mail.maxAttempts:5}")
+    private int maxAttempts;
+
+    @Value("${grocery.app.mail.backoffMs:30000}")
+    private long backoffMs;
+
+    private final OutboundEmailRepository outboundEmailRepository;
+    private final JavaMailSender javaMailSender;
+
+    public EmailQueueWorker(OutboundEmailRepository outboundEmailRepository, JavaMailSender javaMailSender) {
+        this.outboundEmailRepository = outboundEmailRepository;
+        this.javaMailSender = javaMailSender;
+    }
+
+    // Her turda bir batch alınır ve tek SMTP oturumu üzerinden gönderilir.
+    @Scheduled(fixedDelayString = "${grocery.app.mail.pollDelayMs:5000}")
+    @Transactional
+    public void drain() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboundEmail> batch = outboundEmailRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                MailStatus.PENDING, now, PageRequest.of(0, batchSize));
+        if (batch.isEmpty())
+            return;
+
+        Map<SimpleMailMessage, OutboundEmail> messages = new IdentityHashMap<>();
+        for (OutboundEmail outboundEmail : batch) {
+            messages.put(toMessage(outboundEmail), outboundEmail);
+        }
+
+        Map<Object, Exception> failedMessages = Map.of();
+        try {
+            javaMailSender.send(messages.keySet().toArray(new SimpleMailMessage[0]));
+        } catch (MailSendException e) {
+            failedMessages = e.getFailedMessages();
+        } catch (MailException e) {
+            // bağlantı ya da kimlik doğrulama hatası: batch'in tamamı başarısız sayılır
+            failedMessages = new IdentityHashMap<>();
+            for (SimpleMailMessage message : messages.keySet()) {
+                failedMessages.put(message, e);
+            }
+        }
+
+        for (Map.Entry<SimpleMailMessage, OutboundEmail> entry : messages.entrySet()) {
+            Exception failure = failedMessages.get(entry.getKey());
+            if (failure == null) {
+                markSent(entry.getValue(), now);
+            } else {
+                markFailed(entry.getValue(), failure, now);
+            }
+        }
+
+        outboundEmailRepository.saveAll(batch);
+        log.info(LogInfoMessages.EMAIL_BATCH_SENT, batch.size() - failedMessages.size(), failedMessages.size());
+    }
+
+    private SimpleMailMessage toMessage(OutboundEmail outboundEmail) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setSubject(outboundEmail.getSubject());
+        message.setText(outboundEmail.getContent());
+        message.setTo(outboundEmail.getEmailTo());
+        message.setFrom(outboundEmail.getEmailFrom());
+        return message;
+    }
+
+    private void markSent(OutboundEmail outboundEmail, LocalDateTime now) {
+        outboundEmail.setStatus(MailStatus.SENT);
+        outboundEmail.setSentDate(now);
+        outboundEmail.setLastError(null);
+    }
+
+    private void markFailed(OutboundEmail outboundEmail, Exception failure, LocalDateTime now) {
+        int attempts = outboundEmail.getAttempts() + 1;
+        outboundEmail.setAttempts(attempts);
+        outboundEmail.setLastError(String.valueOf(failure.getMessage()));
+
+        if (attempts >= maxAttempts) {
+            outboundEmail.setStatus(MailStatus.DEAD);
+            log.error(LogErrorMessages.EMAIL_DEAD_LETTERED, outboundEmail.getId(), outboundEmail.getEmailTo(),
+                    attempts, failure.getMessage());
+            return;
+        }
+
+        // üstel geri çekilme: backoff, 2*backoff, 4*backoff...
+        LocalDateTime nextAttemptAt = now.plusNanos(backoffMs * 1_000_000L * (1L << (attempts - 1)));
+        outboundEmail.setNextAttemptAt(nextAttemptAt);
+        log.warn(LogWarnMessages.EMAIL_SEND_RETRY, outboundEmail.getId(), outboundEmail.getEmailTo(), attempts,
+                nextAttemptAt);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.grocery.core.mailing.service;
 
+import com.example.grocery.core.mailing.DTOs.request.VerifyCodeRequest;
 import com.example.grocery.core.mailing.model.Email;
 import com.example.grocery.core.utilities.results.Result;
 
@@ -10,4 +11,6 @@ public interface EmailService {
     public void sendSimpleMessage(Email email);
 
     public Result sendActivationEmail(String email);
+
+    public Result verifyActivationCode(VerifyCodeRequest verifyCodeRequest);
 }
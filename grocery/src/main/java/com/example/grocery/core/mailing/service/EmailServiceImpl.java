@@ -1,12 +1,26 @@
 package com.example.grocery.core.mailing.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import com.example.grocery.business.constants.Messages.CreateMessages;
+import com.example.grocery.business.constants.Messages.ErrorMessages;
+import com.example.grocery.business.constants.Messages.LogMessages.LogInfoMessages;
+import com.example.grocery.business.constants.Messages.LogMessages.LogWarnMessages;
+import com.example.grocery.core.mailing.DTOs.request.VerifyCodeRequest;
+import com.example.grocery.core.mailing.enums.MailStatus;
 import com.example.grocery.core.mailing.helper.ValidationCodeGenerator;
 import com.example.grocery.core.mailing.model.Email;
+import com.example.grocery.core.mailing.model.OutboundEmail;
+import com.example.grocery.core.mailing.model.VerificationCode;
+import com.example.grocery.core.mailing.repository.OutboundEmailRepository;
+import com.example.grocery.core.mailing.store.VerificationCodeStore;
+import com.example.grocery.core.utilities.exceptions.BusinessException;
 import com.example.grocery.core.utilities.results.Result;
 import com.example.grocery.core.utilities.results.SuccessResult;
 
@@ -19,36 +33,98 @@ public class EmailServiceImpl implements EmailService {
     @Value("${spring.mail.username}")
     private String senderMail;
 
-    private final JavaMailSender javaMailSender;
+    @Value("${grocery.app.verification.ttlSeconds:600}")
+    private long ttlSeconds;
+
+    @Value("${grocery.app.verification.resendIntervalSeconds:60}")
+    private long resendIntervalSeconds;
+
+    @Value("${grocery.app.verification.maxAttempts:5}")
+    private int maxAttempts;
 
-    public EmailServiceImpl(JavaMailSender javaMailSender) {
-        this.javaMailSender = javaMailSender;
+    private final OutboundEmailRepository outboundEmailRepository;
+    private final VerificationCodeStore verificationCodeStore;
+
+    public EmailServiceImpl(OutboundEmailRepository outboundEmailRepository,
+            VerificationCodeStore verificationCodeStore) {
+        this.outboundEmailRepository = outboundEmailRepository;
+        this.verificationCodeStore = verificationCodeStore;
     }
 
     @Override
     public Result sendActivationEmail(String email) {
+        LocalDateTime now = LocalDateTime.now();
+        isResendAllowed(email, now);
+
+        String code = String.valueOf(ValidationCodeGenerator.generateSixDigitRandomNumber());
+        verificationCodeStore.save(VerificationCode.builder()
+                .email(email)
+                .code(code)
+                .attempts(0)
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(ttlSeconds))
+                .build());
+
         Email mail = new Email();
         mail.setEmailFrom(senderMail);
         mail.setEmailTo(email);
         mail.setSubject("Grocery - Validation Code");
-        mail.setContent(
-                "Hello, \n\n Your verification code: " + ValidationCodeGenerator.generateSixDigitRandomNumber());
+        mail.setContent("Hello, \n\n Your verification code: " + code);
 
         sendSimpleMessage(mail);
-        log.info("Activation mail send!");
-        return new SuccessResult("Activation mail send!");
+        log.info(LogInfoMessages.VERIFICATION_CODE_SENT, email);
+        return new SuccessResult(CreateMessages.VERIFICATION_CODE_SENT);
     }
 
+    @Override
+    public Result verifyActivationCode(VerifyCodeRequest verifyCodeRequest) {
+        String email = verifyCodeRequest.getEmail();
+        // Her karşılaştırma önce bir deneme hakkı alır; eş zamanlı istekler maxAttempts'ten
+        // fazla tahmin yapamaz.
+        VerificationCode verificationCode = verificationCodeStore.claimAttempt(email, maxAttempts)
+                .orElseThrow(() -> new BusinessException(ErrorMessages.VERIFICATION_CODE_NOT_FOUND));
+
+        // Sabit süreli karşılaştırma; kodun ilk hanelerinin tahmin edilmesini engeller.
+        if (!MessageDigest.isEqual(verificationCode.getCode().getBytes(StandardCharsets.UTF_8),
+                verifyCodeRequest.getCode().getBytes(StandardCharsets.UTF_8))) {
+            if (verificationCode.getAttempts() >= maxAttempts) {
+                verificationCodeStore.remove(email);
+            }
+            log.warn(LogWarnMessages.VERIFICATION_CODE_NOT_VALID, email, verificationCode.getAttempts());
+            throw new BusinessException(ErrorMessages.VERIFICATION_CODE_NOT_VALID);
+        }
+
+        verificationCodeStore.remove(email);
+        log.info(LogInfoMessages.EMAIL_VERIFIED, email);
+        return new SuccessResult(CreateMessages.EMAIL_VERIFIED);
+    }
+
+    // SMTP çağrısı istek thread'inde yapılmaz; mail kuyruğa yazılır ve
+    // EmailQueueWorker tarafından gönderilir.
     @Override
     public void sendSimpleMessage(Email email) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setSubject(email.getSubject());
-        message.setText(email.getContent());
-        message.setTo(email.getEmailTo());
-        message.setFrom(email.getEmailFrom());
+        LocalDateTime now = LocalDateTime.now();
+        OutboundEmail outboundEmail = OutboundEmail.builder()
+                .emailFrom(email.getEmailFrom())
+                .emailTo(email.getEmailTo())
+                .subject(email.getSubject())
+                .content(email.getContent())
+                .status(MailStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdDate(now)
+                .build();
 
-        javaMailSender.send(message);
+        outboundEmailRepository.save(outboundEmail);
+        log.info(LogInfoMessages.EMAIL_QUEUED, email.getEmailTo());
+    }
 
+    private void isResendAllowed(String email, LocalDateTime now) {
+        Optional<VerificationCode> current = verificationCodeStore.get(email);
+        if (current.isPresent() && current.get().getIssuedAt().plusSeconds(resendIntervalSeconds).isAfter(now)) {
+            log.warn(LogWarnMessages.VERIFICATION_CODE_RATE_LIMITED, email);
+            throw new BusinessException(ErrorMessages.VERIFICATION_CODE_RATE_LIMITED);
+        }
     }
 
     // designed for advert message
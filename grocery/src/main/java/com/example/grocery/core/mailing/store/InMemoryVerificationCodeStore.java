@@ -0,0 +1,93 @@
+package com.example.grocery.core.mailing.store;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.example.grocery.core.mailing.model.VerificationCode;
+
+@Component
+@ConditionalOnProperty(name = "grocery.app.verification.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryVerificationCodeStore implements VerificationCodeStore {
+
+    private final int maxEntries;
+
+    // Tüm kodların TTL'i aynı olduğundan ekleme sırası aynı zamanda bitiş sırasıdır;
+    // süresi dolanlar baştan, kapasite aşılınca en eski kayıt atılır.
+    private final LinkedHashMap<String, VerificationCode> codes;
+
+    public InMemoryVerificationCodeStore(@Value("${grocery.app.verification.maxEntries:100000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.codes = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerificationCode> eldest) {
+                return size() > InMemoryVerificationCodeStore.this.maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Optional<VerificationCode> get(String email) {
+        return Optional.ofNullable(live(email)).map(InMemoryVerificationCodeStore::copy);
+    }
+
+    @Override
+    public synchronized void save(VerificationCode verificationCode) {
+        evictExpired(LocalDateTime.now());
+        // Yeni kod kuyruğun sonuna taşınsın diye önce silinir.
+        codes.remove(verificationCode.getEmail());
+        codes.put(verificationCode.getEmail(), verificationCode);
+    }
+
+    @Override
+    public synchronized void remove(String email) {
+        codes.remove(email);
+    }
+
+    // Deneme sayısı kayıt yerinde artırılır; kayıt kuyruktaki yerini, yani bitiş
+    // sırasındaki konumunu korur.
+    @Override
+    public synchronized Optional<VerificationCode> claimAttempt(String email, int maxAttempts) {
+        VerificationCode verificationCode = live(email);
+        if (verificationCode == null || verificationCode.getAttempts() >= maxAttempts)
+            return Optional.empty();
+        verificationCode.setAttempts(verificationCode.getAttempts() + 1);
+        return Optional.of(copy(verificationCode));
+    }
+
+    // Baştaki temizlik yalnızca sıralı kısmı atar; istenen kaydın süresi ayrıca kontrol edilir.
+    private VerificationCode live(String email) {
+        LocalDateTime now = LocalDateTime.now();
+        evictExpired(now);
+        VerificationCode verificationCode = codes.get(email);
+        if (verificationCode != null && verificationCode.isExpired(now)) {
+            codes.remove(email);
+            return null;
+        }
+        return verificationCode;
+    }
+
+    // Kilidin dışına saklanan nesne verilmez; deneme sayısı yalnızca kilit altında değişir.
+    private static VerificationCode copy(VerificationCode verificationCode) {
+        return VerificationCode.builder()
+                .email(verificationCode.getEmail())
+                .code(verificationCode.getCode())
+                .attempts(verificationCode.getAttempts())
+                .issuedAt(verificationCode.getIssuedAt())
+                .expiresAt(verificationCode.getExpiresAt())
+                .build();
+    }
+
+    private void evictExpired(LocalDateTime now) {
+        Iterator<VerificationCode> iterator = codes.values().iterator();
+        while (iterator.hasNext() && iterator.next().isExpired(now)) {
+            iterator.remove();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.grocery.core.mailing.store;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.grocery.core.mailing.model.VerificationCode;
+import com.example.grocery.core.mailing.repository.VerificationCodeRepository;
+
+import jakarta.transaction.Transactional;
+
+// Birden fazla node çalışırken kodun hangi node'da üretildiğinden bağımsız doğrulanması için.
+@Component
+@ConditionalOnProperty(name = "grocery.app.verification.store", havingValue = "jdbc")
+public class JpaVerificationCodeStore implements VerificationCodeStore {
+
+    private final VerificationCodeRepository verificationCodeRepository;
+
+    public JpaVerificationCodeStore(VerificationCodeRepository verificationCodeRepository) {
+        this.verificationCodeRepository = verificationCodeRepository;
+    }
+
+    @Override
+    public Optional<VerificationCode> get(String email) {
+        return verificationCodeRepository.findById(email)
+                .filter(verificationCode -> !verificationCode.isExpired(LocalDateTime.now()));
+    }
+
+    @Override
+    public void save(VerificationCode verificationCode) {
+        verificationCodeRepository.save(verificationCode);
+    }
+
+    @Override
+    public void remove(String email) {
+        verificationCodeRepository.deleteById(email);
+    }
+
+    // Hak kontrolü ve artırma tek bir koşullu UPDATE'tir. Satır kilidi transaction sonuna
+    // kadar tutulduğu için ardından okunan kayıt bu denemenin sayısını gösterir.
+    @Override
+    @Transactional
+    public Optional<VerificationCode> claimAttempt(String email, int maxAttempts) {
+        if (verificationCodeRepository.claimAttempt(email, maxAttempts, LocalDateTime.now()) == 0)
+            return Optional.empty();
+        return verificationCodeRepository.findById(email);
+    }
+
+    @Scheduled(fixedDelayString = "${grocery.app.verification.purgeDelayMs:60000}")
+    @Transactional
+    public void purgeExpired() {
+        verificationCodeRepository.deleteExpired(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.grocery.core.mailing.store;
+
+import java.util.Optional;
+
+import com.example.grocery.core.mailing.model.VerificationCode;
+
+public interface VerificationCodeStore {
+
+    Optional<VerificationCode> get(String email);
+
+    void save(VerificationCode verificationCode);
+
+    void remove(String email);
+
+    // Deneme hakkı varsa denemeyi kaydın yerinde sayar ve kaydı yeni deneme sayısıyla döner.
+    // Kontrol ve sayma tek atomik işlemdir; geçerli kod yoksa ya da deneme sayısı
+    // maxAttempts'e ulaştıysa boş döner.
+    Optional<VerificationCode> claimAttempt(String email, int maxAttempts);
+}
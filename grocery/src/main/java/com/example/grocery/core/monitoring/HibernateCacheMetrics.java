@@ -0,0 +1,62 @@
+package com.example.grocery.core.monitoring;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+
+// hibernate-micrometer ham hit/miss sayaçlarını yayınlar; burada ikinci seviye
+// önbellek, sorgu önbelleği ve her bölge için isabet oranı gauge olarak eklenir.
+@Component
+public class HibernateCacheMetrics implements MeterBinder {
+
+    private static final String HIT_RATIO = "grocery.hibernate.cache.hit.ratio";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public HibernateCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Gauge.builder(HIT_RATIO, statistics,
+                s -> ratio(s.getSecondLevelCacheHitCount(), s.getSecondLevelCacheMissCount()))
+                .tag("cache", "second-level").tag("region", "all")
+                .description("Second-level cache hits / (hits + misses)")
+                .register(registry);
+
+        Gauge.builder(HIT_RATIO, statistics,
+                s -> ratio(s.getQueryCacheHitCount(), s.getQueryCacheMissCount()))
+                .tag("cache", "query").tag("region", "all")
+                .description("Query cache hits / (hits + misses)")
+                .register(registry);
+
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            Gauge.builder(HIT_RATIO, statistics, s -> regionRatio(s, region))
+                    .tag("cache", "second-level").tag("region", region)
+                    .register(registry);
+        }
+    }
+
+    private static double regionRatio(Statistics statistics, String region) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        if (regionStatistics == null) {
+            return Double.NaN;
+        }
+        return ratio(regionStatistics.getHitCount(), regionStatistics.getMissCount());
+    }
+
+    // Henüz hiç erişim yoksa oran tanımsızdır, 0 yerine NaN döner.
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? Double.NaN : (double) hits / total;
+    }
+}
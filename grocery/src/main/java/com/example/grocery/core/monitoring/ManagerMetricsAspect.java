@@ -0,0 +1,62 @@
+package com.example.grocery.core.monitoring;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import com.example.grocery.core.utilities.exceptions.BusinessException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Pointcuts.managers() kapsamındaki her public metot için süre ve sonuç metriği üretir,
+// ayrıca çalışan SQL'lerin hangi metoda ait olduğunu QueryCountHolder'a bildirir.
+@Aspect
+@Component
+public class ManagerMetricsAspect {
+
+    public static final String TIMER_NAME = "grocery.manager.invocations";
+    public static final String FAILURE_COUNTER_NAME = "grocery.manager.failures";
+
+    private final MeterRegistry meterRegistry;
+
+    public ManagerMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("com.example.grocery.core.monitoring.Pointcuts.managers()")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String methodName = joinPoint.getSignature().getName();
+        String outcome = "success";
+        Timer.Sample sample = Timer.start(meterRegistry);
+        QueryCountHolder.enter(className + "." + methodName);
+
+        try {
+            return joinPoint.proceed();
+        } catch (BusinessException e) {
+            // İş kuralı ihlali beklenen bir sonuçtur, sistem hatalarından ayrı sayılır.
+            outcome = "rejected";
+            throw e;
+        } catch (Throwable e) {
+            outcome = "error";
+            Counter.builder(FAILURE_COUNTER_NAME)
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .tag("exception", e.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+            throw e;
+        } finally {
+            QueryCountHolder.exit();
+            sample.stop(Timer.builder(TIMER_NAME)
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.grocery.core.monitoring;
+
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+
+// Aspect'lerin ortak kullandığı pointcut'lar; izleme ve metrik aynı metotları kapsar.
+// Bean değildir, yalnızca adıyla referans verilir.
+@Aspect
+public class Pointcuts {
+
+    // business.concretes altındaki manager'lar ve güvenlik katmanındaki *Manager sınıfları.
+    @Pointcut("execution(public * com.example.grocery.business.concretes..*(..)) "
+            + "|| execution(public * com.example.grocery.core.security.services.*Manager.*(..))")
+    public static void managers() {
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.grocery.core.monitoring;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.grocery.business.constants.Messages.LogMessages.LogWarnMessages;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+// Bir HTTP isteğinde eşik değerinden fazla SQL çalışırsa (N+1 şüphesi) uyarı loglar.
+@Component
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    @Value("${grocery.app.nPlusOneThreshold:20}")
+    private int nPlusOneThreshold;
+
+    private final DistributionSummary statementsPerRequest;
+
+    public QueryCountFilter(MeterRegistry meterRegistry) {
+        this.statementsPerRequest = DistributionSummary.builder("grocery.request.statements")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCountHolder.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCountHolder holder = QueryCountHolder.finish();
+            statementsPerRequest.record(holder.getTotal());
+
+            if (holder.getTotal() > nPlusOneThreshold) {
+                Map.Entry<String, Integer> topMethod = holder.getTopMethod();
+                log.warn(LogWarnMessages.TOO_MANY_STATEMENTS, request.getMethod(), request.getRequestURI(),
+                        holder.getTotal(), topMethod.getKey(), topMethod.getValue());
+            }
+        }
+    }
+}
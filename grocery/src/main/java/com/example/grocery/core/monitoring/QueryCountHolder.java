@@ -0,0 +1,59 @@
+package com.example.grocery.core.monitoring;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+// İstek thread'i boyunca çalışan SQL sayısını ve hangi *Manager metodundan
+// geldiklerini tutar. Filtre dışındaki thread'lerde (scheduler vb.) sayım yapılmaz.
+public class QueryCountHolder {
+
+    private static final String OUTSIDE_MANAGER = "outside-manager";
+
+    private static final ThreadLocal<QueryCountHolder> CURRENT = new ThreadLocal<>();
+
+    private final Deque<String> managerMethods = new ArrayDeque<>();
+    private final Map<String, Integer> countsByMethod = new HashMap<>();
+    private int total;
+
+    public static void start() {
+        CURRENT.set(new QueryCountHolder());
+    }
+
+    public static QueryCountHolder finish() {
+        QueryCountHolder holder = CURRENT.get();
+        CURRENT.remove();
+        return holder;
+    }
+
+    public static void enter(String managerMethod) {
+        QueryCountHolder holder = CURRENT.get();
+        if (holder != null)
+            holder.managerMethods.push(managerMethod);
+    }
+
+    public static void exit() {
+        QueryCountHolder holder = CURRENT.get();
+        if (holder != null && !holder.managerMethods.isEmpty())
+            holder.managerMethods.pop();
+    }
+
+    public static void statementExecuted() {
+        QueryCountHolder holder = CURRENT.get();
+        if (holder == null)
+            return;
+        holder.total++;
+        // İç içe çağrılarda sorgu en dıştaki manager metoduna yazılır; N+1 döngüsü orada başlar.
+        String method = holder.managerMethods.isEmpty() ? OUTSIDE_MANAGER : holder.managerMethods.peekLast();
+        holder.countsByMethod.merge(method, 1, Integer::sum);
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public Map.Entry<String, Integer> getTopMethod() {
+        return countsByMethod.entrySet().stream().max(Map.Entry.comparingByValue()).orElse(null);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.grocery.core.monitoring;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+
+// Controller, manager ve dış servis (Cloudinary, MERNIS, SMTP) çağrıları için span açar.
+// JDBC span'leri datasource-micrometer, HTTP span'leri Spring MVC tarafından üretilir.
+@Aspect
+@Component
+public class TracingAspect {
+
+    private final Tracer tracer;
+
+    public TracingAspect(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Around("execution(public * com.example.grocery.webApi.controller..*(..))"
+            + " || execution(public * com.example.grocery.core..controller..*(..))")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "controller");
+    }
+
+    @Around("com.example.grocery.core.monitoring.Pointcuts.managers()")
+    public Object traceManager(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "manager");
+    }
+
+    @Around("execution(public * com.example.grocery.outservices..*(..))")
+    public Object traceOutbound(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "outbound");
+    }
+
+    @Around("execution(* org.springframework.mail.MailSender+.send(..))")
+    public Object traceSmtp(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "smtp");
+    }
+
+    private Object trace(ProceedingJoinPoint joinPoint, String component) throws Throwable {
+        Span span = tracer.nextSpan()
+                .name(joinPoint.getSignature().getDeclaringType().getSimpleName() + "."
+                        + joinPoint.getSignature().getName())
+                .tag("component", component)
+                .start();
+
+        Object result;
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            span.error(e);
+            span.end();
+            throw e;
+        }
+
+        // Asenkron çağrılarda (ör. validateAsync) span işin kendisi bitince kapanır.
+        if (result instanceof CompletableFuture<?> future) {
+            future.whenComplete((value, error) -> {
+                if (error != null)
+                    span.error(error);
+                span.end();
+            });
+        } else {
+            span.end();
+        }
+        return result;
+    }
+}
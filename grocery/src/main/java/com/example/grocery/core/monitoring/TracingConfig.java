@@ -0,0 +1,18 @@
+package com.example.grocery.core.monitoring;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporter;
+
+@Configuration
+public class TracingConfig {
+
+    // Boot 3.0 OTLP exporter'ı otomatik kurmuyor; OpenTelemetry auto-config bu bean'i alır.
+    @Bean
+    public OtlpHttpSpanExporter otlpHttpSpanExporter(
+            @Value("${grocery.app.tracing.otlpEndpoint:http://localhost:4318/v1/traces}") String endpoint) {
+        return OtlpHttpSpanExporter.builder().setEndpoint(endpoint).build();
+    }
+}
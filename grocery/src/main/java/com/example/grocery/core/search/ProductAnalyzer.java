@@ -0,0 +1,24 @@
+package com.example.grocery.core.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tr.TurkishLowerCaseFilter;
+
+// Türkçe büyük/küçük harf dönüşümünden (I -> ı, İ -> i) sonra aksanlar atılır;
+// "SÜT", "süt" ve "sut" aynı terime iner.
+public class ProductAnalyzer extends Analyzer {
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        StandardTokenizer tokenizer = new StandardTokenizer();
+        TokenStream stream = new ASCIIFoldingFilter(new TurkishLowerCaseFilter(tokenizer));
+        return new TokenStreamComponents(tokenizer, stream);
+    }
+
+    @Override
+    protected TokenStream normalize(String fieldName, TokenStream in) {
+        return new ASCIIFoldingFilter(new TurkishLowerCaseFilter(in));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.grocery.core.search;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ProductSearchConfiguration {
+
+    @Value("${grocery.app.search.indexPath:search-index}")
+    private String indexPath;
+
+    // İşletim sistemine göre MMapDirectory seçilir; indeks sayfa önbelleğinden okunur.
+    @Bean(destroyMethod = "close")
+    public Directory productSearchDirectory() throws IOException {
+        return FSDirectory.open(Path.of(indexPath));
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.grocery.core.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.grocery.dataAccess.abstracts.ProductRepository.ProductSearchView;
+import com.example.grocery.webApi.responses.product.SearchProductPageResponse;
+import com.example.grocery.webApi.responses.product.SearchProductResponse;
+
+// Ürün adı, açıklaması, kategori ve üretici adları üzerinde gömülü Lucene indeksi.
+// Sonuç için gereken alanlar indekste saklanır; arama veritabanına inmez.
+@Component
+public class ProductSearchIndex {
+
+    static final String ID = "id";
+    static final String NAME = "name";
+    static final String DESCRIPTION = "description";
+    static final String CATEGORY = "category";
+    static final String CATEGORY_ID = "categoryId";
+    static final String PRODUCER = "producer";
+    static final String PRICE = "price";
+
+    // Ad eşleşmesi en yüksek, açıklama eşleşmesi en düşük puanı alır.
+    private static final Map<String, Float> FIELD_BOOSTS = new LinkedHashMap<>();
+
+    static {
+        FIELD_BOOSTS.put(NAME, 3f);
+        FIELD_BOOSTS.put(CATEGORY, 1.5f);
+        FIELD_BOOSTS.put(PRODUCER, 1.5f);
+        FIELD_BOOSTS.put(DESCRIPTION, 1f);
+    }
+
+    private static final int MAX_TERMS = 8;
+
+    private final Analyzer analyzer = new ProductAnalyzer();
+    private final Directory directory;
+    // rollback() sonrası yeniden açılır; aramalar kilitsiz okur.
+    private volatile IndexWriter indexWriter;
+    private volatile SearcherManager searcherManager;
+
+    public ProductSearchIndex(Directory productSearchDirectory) {
+        directory = productSearchDirectory;
+        try {
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void open() throws IOException {
+        indexWriter = new IndexWriter(directory,
+                new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    // Ürün değişiklikleri nadir olduğu için her güncelleme hemen commit edilir;
+    // yeniden başlatmada indeks veritabanıyla tutarlı kalır.
+    public void index(ProductSearchView product) throws IOException {
+        indexWriter.updateDocument(new Term(ID, String.valueOf(product.getId())), toDocument(product));
+        commit();
+    }
+
+    public void delete(Long productId) throws IOException {
+        indexWriter.deleteDocuments(new Term(ID, String.valueOf(productId)));
+        commit();
+    }
+
+    // Kategori adı değiştiğinde ürünleri tek commit ile yeniden yazılır.
+    public void indexAll(List<ProductSearchView> products) throws IOException {
+        for (ProductSearchView product : products) {
+            indexWriter.updateDocument(new Term(ID, String.valueOf(product.getId())), toDocument(product));
+        }
+        commit();
+    }
+
+    // Kategori silindiğinde ürünleri de cascade ile silinir.
+    public void deleteByCategory(Long categoryId) throws IOException {
+        indexWriter.deleteDocuments(new Term(CATEGORY_ID, String.valueOf(categoryId)));
+        commit();
+    }
+
+    // Yeniden oluşturma commit edilene kadar aramalar eski indeksi görmeye devam eder.
+    public void clear() throws IOException {
+        indexWriter.deleteAll();
+    }
+
+    public void addAll(List<ProductSearchView> products) throws IOException {
+        for (ProductSearchView product : products) {
+            indexWriter.addDocument(toDocument(product));
+        }
+    }
+
+    public void commit() throws IOException {
+        indexWriter.commit();
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    // Son commit'ten sonraki tüm değişiklikler atılır. IndexWriter.rollback() yazıcıyı
+    // kapattığı için yazıcı ve SearcherManager son commit üzerinden yeniden açılır.
+    public void rollback() throws IOException {
+        SearcherManager previous = searcherManager;
+        indexWriter.rollback();
+        open();
+        previous.close();
+    }
+
+    public boolean isEmpty() {
+        return indexWriter.getDocStats().numDocs == 0;
+    }
+
+    public SearchProductPageResponse search(String text, int pageNo, int pageSize) {
+        List<String> terms = analyze(text);
+        if (terms.isEmpty())
+            return new SearchProductPageResponse(0, pageNo, pageSize, List.of());
+
+        SearcherManager manager = searcherManager;
+        try {
+            IndexSearcher searcher = manager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(toQuery(terms), Math.multiplyExact(pageNo + 1, pageSize));
+                List<SearchProductResponse> products = new ArrayList<>();
+                for (int i = pageNo * pageSize; i < topDocs.scoreDocs.length; i++) {
+                    ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+                    products.add(toResponse(searcher.doc(scoreDoc.doc), scoreDoc.score));
+                }
+                return new SearchProductPageResponse(topDocs.totalHits.value, pageNo, pageSize, products);
+            } finally {
+                manager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+    }
+
+    // Her terim bir alanda geçmek zorundadır. Tam eşleşme yazım hatalı (fuzzy)
+    // eşleşmeden iki kat puan alır; son terim yazılırken önek olarak da aranır.
+    private Query toQuery(List<String> terms) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (int i = 0; i < terms.size(); i++) {
+            String term = terms.get(i);
+            int maxEdits = term.length() <= 3 ? 0 : term.length() <= 6 ? 1 : 2;
+            BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+            FIELD_BOOSTS.forEach((field, boost) -> {
+                anyField.add(new BoostQuery(new TermQuery(new Term(field, term)), boost * 2),
+                        BooleanClause.Occur.SHOULD);
+                if (maxEdits > 0)
+                    anyField.add(new BoostQuery(new FuzzyQuery(new Term(field, term), maxEdits, 1), boost),
+                            BooleanClause.Occur.SHOULD);
+            });
+            if (i == terms.size() - 1 && term.length() > 1)
+                anyField.add(new BoostQuery(new PrefixQuery(new Term(NAME, term)), FIELD_BOOSTS.get(NAME)),
+                        BooleanClause.Occur.SHOULD);
+            query.add(anyField.build(), BooleanClause.Occur.MUST);
+        }
+        return query.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(NAME, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken() && terms.size() < MAX_TERMS) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private static Document toDocument(ProductSearchView product) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(product.getId()), Field.Store.YES));
+        document.add(new TextField(NAME, product.getName(), Field.Store.YES));
+        if (product.getDescription() != null)
+            document.add(new TextField(DESCRIPTION, product.getDescription(), Field.Store.NO));
+        if (product.getCategoryId() != null)
+            document.add(new StringField(CATEGORY_ID, String.valueOf(product.getCategoryId()), Field.Store.NO));
+        if (product.getCategoryName() != null)
+            document.add(new TextField(CATEGORY, product.getCategoryName(), Field.Store.YES));
+        if (product.getProducerName() != null)
+            document.add(new TextField(PRODUCER, product.getProducerName(), Field.Store.YES));
+        document.add(new StoredField(PRICE, product.getPrice()));
+        return document;
+    }
+
+    private static SearchProductResponse toResponse(Document document, float score) {
+        return new SearchProductResponse(Long.valueOf(document.get(ID)), document.get(NAME),
+                document.getField(PRICE).numericValue().doubleValue(), document.get(CATEGORY),
+                document.get(PRODUCER), score);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.grocery.core.search;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.grocery.business.constants.Messages.LogMessages.LogErrorMessages;
+import com.example.grocery.business.constants.Messages.LogMessages.LogInfoMessages;
+import com.example.grocery.business.events.CategoryChangedEvent;
+import com.example.grocery.business.events.ProductChangedEvent;
+import com.example.grocery.dataAccess.abstracts.ProductRepository;
+import com.example.grocery.dataAccess.abstracts.ProductRepository.ProductSearchView;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Ürün değişiklikleri commit sonrası indekse yansıtılır; indeks hatası commit
+// edilmiş ürün işlemini bozmaz, yalnızca loglanır ve rebuild ile düzeltilir.
+// Güncellemeler rebuild ile aynı kilidi alır; yarım kalmış bir rebuild geri alınır
+// ve rebuild sırasında gelen değişiklik rebuild'in üzerine yazılır.
+@Component
+@Slf4j
+public class ProductSearchIndexer {
+
+    private static final int REBUILD_BATCH = 1000;
+
+    private final ProductRepository productRepository;
+    private final ProductSearchIndex productSearchIndex;
+
+    public ProductSearchIndexer(ProductRepository productRepository, ProductSearchIndex productSearchIndex) {
+        this.productRepository = productRepository;
+        this.productSearchIndex = productSearchIndex;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onProductChanged(ProductChangedEvent event) {
+        try {
+            if (event.isDeleted()) {
+                productSearchIndex.delete(event.getProductId());
+                return;
+            }
+            ProductSearchView product = productRepository.findSearchViewById(event.getProductId()).orElse(null);
+            if (product == null)
+                productSearchIndex.delete(event.getProductId());
+            else
+                productSearchIndex.index(product);
+        } catch (IOException e) {
+            log.error(LogErrorMessages.SEARCH_INDEX_UPDATE_FAILED, event.getProductId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onCategoryChanged(CategoryChangedEvent event) {
+        try {
+            if (event.isDeleted())
+                productSearchIndex.deleteByCategory(event.getCategoryId());
+            else
+                productSearchIndex.indexAll(productRepository.findSearchViewsByCategoryId(event.getCategoryId()));
+        } catch (IOException e) {
+            log.error(LogErrorMessages.SEARCH_INDEX_CATEGORY_UPDATE_FAILED, event.getCategoryId(), e.getMessage());
+        }
+    }
+
+    // İlk açılışta ya da indeks dizini silindiğinde indeks veritabanından kurulur.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() throws IOException {
+        if (productSearchIndex.isEmpty())
+            rebuild();
+    }
+
+    // Ürünler id sırasıyla batch'ler halinde okunur; tüm katalog belleğe alınmaz.
+    // Yarıda kalan rebuild geri alınır; bekleyen deleteAll ve eklemeler sonraki
+    // index()/delete() commit'iyle yayınlanmaz.
+    public synchronized int rebuild() throws IOException {
+        long startedAt = System.currentTimeMillis();
+        int indexed = 0;
+        try {
+            productSearchIndex.clear();
+            Long lastId = 0L;
+            List<ProductSearchView> batch;
+            do {
+                batch = productRepository.findSearchViewsAfter(lastId, PageRequest.of(0, REBUILD_BATCH));
+                productSearchIndex.addAll(batch);
+                indexed += batch.size();
+                if (!batch.isEmpty())
+                    lastId = batch.get(batch.size() - 1).getId();
+            } while (batch.size() == REBUILD_BATCH);
+            productSearchIndex.commit();
+        } catch (IOException | RuntimeException e) {
+            productSearchIndex.rollback();
+            throw e;
+        }
+        log.info(LogInfoMessages.SEARCH_INDEX_REBUILT, indexed, System.currentTimeMillis() - startedAt);
+        return indexed;
+    }
+}
@@ -96,7 +96,9 @@ public class WebSecurityConfig {
                         "/v3/api-docs/**",
                         "/swagger-ui/**",
                         "/v2/api-docs/**",
-                        "/swagger-resources/**")
+                        "/swagger-resources/**",
+                        "/actuator/health",
+                        "/actuator/prometheus")
                 .permitAll()
                 // this config unit testing... test was succeed but diasble all security
                 // otherwise cloudinary upload operation throw 403 Error to testing
@@ -63,6 +63,11 @@ public class UsersController {
         return ResponseEntity.ok(userService.refreshtoken(tokenRefreshRequest));
     }
 
+    @PostMapping("/refreshroles")
+    public ResponseEntity<Result> refreshRoles() {
+        return ResponseEntity.ok(userService.refreshRoles());
+    }
+
     @PutMapping(value = "update/{id}")
     public ResponseEntity<Result> update(@Valid @PathVariable Long id,
             @RequestBody UpdateUserRequestDto updateUserRequestDto) {
@@ -2,12 +2,18 @@ package com.example.grocery.core.security.repository;
 
 import java.util.Optional;
 
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.example.grocery.core.security.enums.Authority;
 import com.example.grocery.core.security.models.Role;
 
 public interface RoleRepository extends JpaRepository<Role, Integer> {
 
+    // Sonuç ikinci seviye önbellekteki sorgu bölgesinde tutulur.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Role> findByName(Authority name);
 }
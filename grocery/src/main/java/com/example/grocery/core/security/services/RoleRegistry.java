@@ -0,0 +1,83 @@
+package com.example.grocery.core.security.services;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.grocery.business.constants.Messages.ErrorMessages;
+import com.example.grocery.business.constants.Messages.LogMessages.LogInfoMessages;
+import com.example.grocery.core.security.enums.Authority;
+import com.example.grocery.core.security.models.Role;
+import com.example.grocery.core.security.repository.RoleRepository;
+import com.example.grocery.core.utilities.exceptions.BusinessException;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Roller neredeyse hiç değişmediği için açılışta belleğe alınır; kayıt ve
+// güncelleme sırasında rol çözümlemesi sorgu atmadan yapılır.
+@Component
+@Slf4j
+public class RoleRegistry {
+
+    private final RoleRepository roleRepository;
+
+    // Yenileme sırasında okuyucular eski ya da yeni haritanın tamamını görür.
+    private volatile Map<Authority, Role> roles = Collections.emptyMap();
+
+    public RoleRegistry(RoleRepository roleRepository) {
+        this.roleRepository = roleRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void refresh() {
+        Map<Authority, Role> loaded = new EnumMap<>(Authority.class);
+        for (Role role : roleRepository.findAll()) {
+            loaded.put(role.getName(), role);
+        }
+        roles = loaded;
+        log.info(LogInfoMessages.ROLES_LOADED, loaded.keySet());
+    }
+
+    public Role get(Authority authority) {
+        Role role = roles.get(authority);
+        if (role == null) {
+            throw new BusinessException(ErrorMessages.ROLE_NOT_FOUND);
+        }
+        return role;
+    }
+
+    // İstekteki rol adları Authority karşılığına çevrilir; tanınmayan ya da boş
+    // istek USER rolüne düşer.
+    public Set<Role> resolve(Set<String> roleNames) {
+        Set<Role> resolved = new HashSet<>();
+        if (roleNames == null) {
+            resolved.add(get(Authority.USER));
+            return resolved;
+        }
+        for (String roleName : roleNames) {
+            resolved.add(get(toAuthority(roleName)));
+        }
+        return resolved;
+    }
+
+    private static Authority toAuthority(String roleName) {
+        switch (roleName) {
+            case "ADMIN":
+                return Authority.ADMIN;
+            case "MODERATOR":
+                return Authority.MODERATOR;
+            case "EDITOR":
+                return Authority.EDITOR;
+            default:
+                return Authority.USER;
+        }
+    }
+}
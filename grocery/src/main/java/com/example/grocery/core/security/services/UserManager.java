@@ -1,6 +1,5 @@
 package com.example.grocery.core.security.services;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -14,6 +13,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.grocery.business.constants.Messages.CreateMessages;
 import com.example.grocery.business.constants.Messages.DeleteMessages;
@@ -32,12 +32,10 @@ import com.example.grocery.core.security.DTOs.response.GetAllUserResponseDto;
 import com.example.grocery.core.security.DTOs.response.GetByIdUserResponseDto;
 import com.example.grocery.core.security.DTOs.response.JwtResponse;
 import com.example.grocery.core.security.DTOs.response.TokenRefreshResponse;
-import com.example.grocery.core.security.enums.Authority;
 import com.example.grocery.core.security.jwt.JwtUtils;
 import com.example.grocery.core.security.models.RefreshToken;
 import com.example.grocery.core.security.models.Role;
 import com.example.grocery.core.security.models.User;
-import com.example.grocery.core.security.repository.RoleRepository;
 import com.example.grocery.core.security.repository.UserRepository;
 import com.example.grocery.core.utilities.business.BusinessRules;
 import com.example.grocery.core.utilities.exceptions.BusinessException;
@@ -48,7 +46,6 @@ import com.example.grocery.core.utilities.results.Result;
 import com.example.grocery.core.utilities.results.SuccessDataResult;
 import com.example.grocery.core.utilities.results.SuccessResult;
 
-import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
@@ -58,7 +55,7 @@ public class UserManager implements UserService {
     @Autowired
     private UserRepository userRepository;
     @Autowired
-    private RoleRepository roleRepository;
+    private RoleRegistry roleRegistry;
     @Autowired
     private RefreshTokenService refreshTokenService;
     @Autowired
@@ -84,41 +81,7 @@ public class UserManager implements UserService {
         User user = mapperService.getModelMapper().map(userForRegisterDto, User.class);
         user.setPassword(passwordEncoder.encode(userForRegisterDto.getPassword()));
 
-        Set<String> strRoles = userForRegisterDto.getRole();
-        Set<Role> roles = new HashSet<>();
-
-        if (strRoles == null) {
-            Role userRole = roleRepository.findByName(Authority.USER)
-                    .orElseThrow(() -> new BusinessException(ErrorMessages.ROLE_NOT_FOUND));
-            roles.add(userRole);
-        } else {
-            strRoles.forEach(role -> {
-                switch (role) {
-                    case "ADMIN":
-                        Role adminRole = roleRepository.findByName(Authority.ADMIN)
-                                .orElseThrow(() -> new BusinessException(ErrorMessages.ROLE_NOT_FOUND));
-                        roles.add(adminRole);
-
-                        break;
-                    case "MODERATOR":
-                        Role moderatorRole = roleRepository.findByName(Authority.MODERATOR)
-                                .orElseThrow(() -> new BusinessException(ErrorMessages.ROLE_NOT_FOUND));
-                        roles.add(moderatorRole);
-
-                        break;
-                    case "EDITOR":
-                        Role editorRole = roleRepository.findByName(Authority.EDITOR)
-                                .orElseThrow(() -> new BusinessException(ErrorMessages.ROLE_NOT_FOUND));
-                        roles.add(editorRole);
-
-                        break;
-                    default:
-                        Role userRole = roleRepository.findByName(Authority.USER)
-                                .orElseThrow(() -> new BusinessException(ErrorMessages.ROLE_NOT_FOUND));
-                        roles.add(userRole);
-                }
-            });
-        }
+        Set<Role> roles = roleRegistry.resolve(userForRegisterDto.getRole());
 
         user.setRoles(roles);
 
@@ -164,41 +127,7 @@ public class UserManager implements UserService {
         user.setPassword(passwordEncoder.encode(updateUserRequestDto.getPassword()));
         user.setCreatedDateTime(inDbUser.getCreatedDateTime());
 
-        Set<String> strRoles = updateUserRequestDto.getRole();
-        Set<Role> roles = new HashSet<>();
-
-        if (strRoles == null) {
-            Role userRole = roleRepository.findByName(Authority.USER)
-                    .orElseThrow(() -> new BusinessException(ErrorMessages.ROLE_NOT_FOUND));
-            roles.add(userRole);
-        } else {
-            strRoles.forEach(role -> {
-                switch (role) {
-                    case "ADMIN":
-                        Role adminRole = roleRepository.findByName(Authority.ADMIN)
-                                .orElseThrow(() -> new BusinessException(ErrorMessages.ROLE_NOT_FOUND));
-                        roles.add(adminRole);
-
-                        break;
-                    case "MODERATOR":
-                        Role moderatorRole = roleRepository.findByName(Authority.MODERATOR)
-                                .orElseThrow(() -> new BusinessException(ErrorMessages.ROLE_NOT_FOUND));
-                        roles.add(moderatorRole);
-
-                        break;
-                    case "EDITOR":
-                        Role editorRole = roleRepository.findByName(Authority.EDITOR)
-                                .orElseThrow(() -> new BusinessException(ErrorMessages.ROLE_NOT_FOUND));
-                        roles.add(editorRole);
-
-                        break;
-                    default:
-                        Role userRole = roleRepository.findByName(Authority.USER)
-                                .orElseThrow(() -> new BusinessException(ErrorMessages.ROLE_NOT_FOUND));
-                        roles.add(userRole);
-                }
-            });
-        }
+        Set<Role> roles = roleRegistry.resolve(updateUserRequestDto.getRole());
 
         user.setRoles(roles);
         userRepository.save(user);
@@ -215,6 +144,12 @@ public class UserManager implements UserService {
         return new SuccessResult(DeleteMessages.USER_DELETED);
     }
 
+    @Override
+    public Result refreshRoles() {
+        roleRegistry.refresh();
+        return new SuccessResult(UpdateMessages.ROLES_REFRESHED);
+    }
+
     @Override
     public DataResult<TokenRefreshResponse> refreshtoken(TokenRefreshRequest tokenRefreshRequest) {
         String requestRefreshToken = tokenRefreshRequest.getRefreshToken();
@@ -231,6 +166,7 @@ public class UserManager implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllUserResponseDto>> getAll() {
         List<User> userList = userRepository.findAll();
         List<GetAllUserResponseDto> returnList = userList.stream()
@@ -240,6 +176,7 @@ public class UserManager implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<GetByIdUserResponseDto> getById(Long id) {
         User inDbUser = userRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorMessages.ID_NOT_FOUND));
@@ -249,6 +186,7 @@ public class UserManager implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllUserResponseDto>> getListBySorting(String sortBy) {
         isValidSortParameter(sortBy);
 
@@ -260,6 +198,7 @@ public class UserManager implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllUserResponseDto>> getListByPagination(int pageNo, int pageSize) {
         isPageNumberValid(pageNo);
         isPageSizeValid(pageSize);
@@ -272,6 +211,7 @@ public class UserManager implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public DataResult<List<GetAllUserResponseDto>> getListByPaginationAndSorting(int pageNo, int pageSize,
             String sortBy) {
         isValidSortParameter(sortBy);
@@ -288,6 +228,7 @@ public class UserManager implements UserService {
 
     // Bağımlılığı kontrol altına almak üzere tasarlandılar
     @Override
+    @Transactional(readOnly = true)
     public User getUserById(Long userId) {
 
         return userRepository.findById(userId)
@@ -295,17 +236,20 @@ public class UserManager implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public User getByEmail(String email) {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new BusinessException(ErrorMessages.USER_EMAIL_NOT_FOUND));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existByEmail(String email) {
         return userRepository.existsByEmail(email);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existById(Long id) {
         return userRepository.existsById(id);
     }
@@ -26,6 +26,8 @@ public interface UserService {
 
     DataResult<TokenRefreshResponse> refreshtoken(TokenRefreshRequest tokenRefreshRequest);
 
+    Result refreshRoles();
+
     DataResult<List<GetAllUserResponseDto>> getAll();
 
     DataResult<GetByIdUserResponseDto> getById(Long id);
@@ -0,0 +1,21 @@
+package com.example.grocery.core.suggest.DTOs.response;
+
+import com.example.grocery.core.suggest.SuggestionType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class SuggestionResponse {
+
+    private SuggestionType type;
+
+    private Long id;
+
+    private String name;
+}
@@ -0,0 +1,15 @@
+package com.example.grocery.core.suggest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class Suggestion {
+
+    private final SuggestionType type;
+
+    private final Long id;
+
+    private final String name;
+}
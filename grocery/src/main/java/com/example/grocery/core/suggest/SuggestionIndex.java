@@ -0,0 +1,152 @@
+package com.example.grocery.core.suggest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+// Değişmez otomatik tamamlama indeksi. Her adın her kelime başlangıcı ayrı bir
+// anahtar olarak sıralı dizide tutulur ("süzme peynir" -> "suzme peynir",
+// "peynir"); önek ikili arama ile bir aralığa iner. Aralıktaki en popüler K sonuç
+// ağırlıklar üzerindeki segment ağacından O(K log n) sürede çıkarılır, aralığın
+// büyüklüğü önemsizdir.
+public final class SuggestionIndex {
+
+    public static final SuggestionIndex EMPTY = build(List.of(), suggestion -> 0);
+
+    private final Suggestion[] suggestions;
+    private final String[] keys;
+    private final int[] owners;
+    private final long[] weights;
+    private final int leaves;
+    private final int[] tree;
+
+    private SuggestionIndex(Suggestion[] suggestions, String[] keys, int[] owners,
+            ToLongFunction<Suggestion> weight) {
+        this.suggestions = suggestions;
+        this.keys = keys;
+        this.owners = owners;
+        this.weights = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            weights[i] = weight.applyAsLong(suggestions[owners[i]]);
+        }
+
+        int size = 1;
+        while (size < keys.length) {
+            size <<= 1;
+        }
+        this.leaves = size;
+        this.tree = new int[2 * size];
+        for (int i = 0; i < size; i++) {
+            tree[size + i] = i < keys.length ? i : -1;
+        }
+        for (int node = size - 1; node > 0; node--) {
+            tree[node] = better(tree[2 * node], tree[2 * node + 1]);
+        }
+    }
+
+    public static SuggestionIndex build(List<Suggestion> suggestions, ToLongFunction<Suggestion> weight) {
+        List<String> entryKeys = new ArrayList<>();
+        List<Integer> entryOwners = new ArrayList<>();
+        for (int i = 0; i < suggestions.size(); i++) {
+            String[] words = TurkishFolding.fold(suggestions.get(i).getName()).split(" ");
+            for (int start = 0; start < words.length; start++) {
+                if (words[start].isEmpty())
+                    continue;
+                entryKeys.add(String.join(" ", Arrays.copyOfRange(words, start, words.length)));
+                entryOwners.add(i);
+            }
+        }
+
+        Integer[] order = new Integer[entryKeys.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(entryKeys::get));
+
+        String[] keys = new String[order.length];
+        int[] owners = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            keys[i] = entryKeys.get(order[i]);
+            owners[i] = entryOwners.get(order[i]);
+        }
+        return new SuggestionIndex(suggestions.toArray(new Suggestion[0]), keys, owners, weight);
+    }
+
+    // Anahtarlar değişmeden yalnızca popülerlik güncellendiğinde sıralama tekrarlanmaz.
+    public SuggestionIndex reweight(ToLongFunction<Suggestion> weight) {
+        return new SuggestionIndex(suggestions, keys, owners, weight);
+    }
+
+    public List<Suggestion> top(String prefix, int limit) {
+        String folded = TurkishFolding.fold(prefix);
+        if (folded.isEmpty() || limit < 1)
+            return List.of();
+
+        int from = lowerBound(folded);
+        int to = lowerBound(folded + Character.MAX_VALUE);
+        List<Suggestion> result = new ArrayList<>(limit);
+        Set<Integer> seen = new HashSet<>();
+        // Her eleman {başlangıç, bitiş, aralıktaki en ağır konum}.
+        PriorityQueue<int[]> ranges = new PriorityQueue<>(
+                (first, second) -> first[2] == better(first[2], second[2]) ? -1 : 1);
+        offer(ranges, from, to);
+        while (!ranges.isEmpty() && result.size() < limit) {
+            int[] range = ranges.poll();
+            int position = range[2];
+            if (seen.add(owners[position]))
+                result.add(suggestions[owners[position]]);
+            offer(ranges, range[0], position);
+            offer(ranges, position + 1, range[1]);
+        }
+        return result;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    private void offer(PriorityQueue<int[]> ranges, int from, int to) {
+        if (from < to)
+            ranges.add(new int[] { from, to, argmax(from, to) });
+    }
+
+    private int argmax(int from, int to) {
+        int best = -1;
+        for (int left = from + leaves, right = to + leaves; left < right; left >>= 1, right >>= 1) {
+            if ((left & 1) == 1)
+                best = better(best, tree[left++]);
+            if ((right & 1) == 1)
+                best = better(best, tree[--right]);
+        }
+        return best;
+    }
+
+    // Eşit ağırlıkta alfabetik olarak önce gelen anahtar kazanır.
+    private int better(int first, int second) {
+        if (first < 0)
+            return second;
+        if (second < 0)
+            return first;
+        if (weights[first] != weights[second])
+            return weights[first] > weights[second] ? first : second;
+        return Math.min(first, second);
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle].compareTo(key) < 0)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+        return low;
+    }
+}
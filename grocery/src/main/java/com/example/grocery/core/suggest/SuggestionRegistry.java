@@ -0,0 +1,212 @@
+package com.example.grocery.core.suggest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.grocery.business.constants.Messages.LogMessages.LogInfoMessages;
+import com.example.grocery.business.events.CategoryChangedEvent;
+import com.example.grocery.business.events.OrderPlacedEvent;
+import com.example.grocery.business.events.ProductChangedEvent;
+import com.example.grocery.core.analytics.enums.RollupDimension;
+import com.example.grocery.core.analytics.repository.SalesRollupRepository;
+import com.example.grocery.core.analytics.repository.SalesRollupRepository.SalesBreakdownView;
+import com.example.grocery.dataAccess.abstracts.CategoryRepository;
+import com.example.grocery.dataAccess.abstracts.ProductRepository;
+import com.example.grocery.dataAccess.abstracts.ProductRepository.ProductSearchView;
+import com.example.grocery.entity.concretes.Category;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Ürün ve kategori adları açılışta belleğe alınır, commit edilen değişikliklerle
+// güncellenir. Her yazmada indeks yeniden kurulmaz; değişiklikler işaretlenir ve
+// periyodik olarak tek seferde yansıtılır. Yalnızca popülerlik değiştiyse
+// sıralama tekrarlanmadan ağırlıklar yenilenir.
+@Component
+@Slf4j
+public class SuggestionRegistry {
+
+    private static final int LOAD_BATCH = 1000;
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final SalesRollupRepository salesRollupRepository;
+    private final int popularityDays;
+
+    private final Map<Long, String> productNames = new HashMap<>();
+    private final Map<Long, Long> productCategories = new HashMap<>();
+    private final Map<Long, String> categoryNames = new HashMap<>();
+    private final Map<Long, Long> productOrders = new HashMap<>();
+    private boolean structureChanged;
+    private boolean weightsChanged;
+
+    // Kurulum olay dinleyicilerini bekletmesin diye ayrı bir kilitle sıraya alınır.
+    private final Object refreshLock = new Object();
+
+    // Yenileme sırasında okuyucular eski ya da yeni indeksin tamamını görür.
+    private volatile SuggestionIndex index = SuggestionIndex.EMPTY;
+
+    public SuggestionRegistry(ProductRepository productRepository, CategoryRepository categoryRepository,
+            SalesRollupRepository salesRollupRepository,
+            @Value("${grocery.app.suggest.popularityDays:90}") int popularityDays) {
+        this.productRepository = productRepository;
+        this.categoryRepository = categoryRepository;
+        this.salesRollupRepository = salesRollupRepository;
+        this.popularityDays = popularityDays;
+    }
+
+    public List<Suggestion> suggest(String prefix, int limit) {
+        return index.top(prefix, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long startedAt = System.currentTimeMillis();
+        Map<Long, String> names = new HashMap<>();
+        Map<Long, Long> categoriesOfProducts = new HashMap<>();
+        Long lastId = 0L;
+        List<ProductSearchView> batch;
+        do {
+            batch = productRepository.findSearchViewsAfter(lastId, PageRequest.of(0, LOAD_BATCH));
+            for (ProductSearchView product : batch) {
+                names.put(product.getId(), product.getName());
+                if (product.getCategoryId() != null)
+                    categoriesOfProducts.put(product.getId(), product.getCategoryId());
+            }
+            if (!batch.isEmpty())
+                lastId = batch.get(batch.size() - 1).getId();
+        } while (batch.size() == LOAD_BATCH);
+
+        Map<Long, String> categories = new HashMap<>();
+        for (Category category : categoryRepository.findAll()) {
+            categories.put(category.getId(), category.getName());
+        }
+
+        synchronized (this) {
+            productNames.clear();
+            productNames.putAll(names);
+            productCategories.clear();
+            productCategories.putAll(categoriesOfProducts);
+            categoryNames.clear();
+            categoryNames.putAll(categories);
+            structureChanged = true;
+        }
+        reloadPopularity();
+        refresh();
+        log.info(LogInfoMessages.SUGGESTIONS_LOADED, names.size(), categories.size(),
+                System.currentTimeMillis() - startedAt);
+    }
+
+    // Sipariş sayıları günlük satış özetlerinden okunur; canlı sayaçlar özetlerle
+    // düzenli aralıklarla değiştirilir ki eski satışlar pencereden düşsün.
+    @Scheduled(fixedDelayString = "${grocery.app.suggest.popularityReloadMs:3600000}",
+            initialDelayString = "${grocery.app.suggest.popularityReloadMs:3600000}")
+    public void reloadPopularity() {
+        LocalDate today = LocalDate.now();
+        Map<Long, Long> orders = new HashMap<>();
+        for (SalesBreakdownView row : salesRollupRepository.sumByDimension(RollupDimension.PRODUCT,
+                today.minusDays(popularityDays - 1L), today, Pageable.unpaged())) {
+            orders.put(Long.valueOf(row.getDimensionKey()), row.getOrderCount());
+        }
+        synchronized (this) {
+            productOrders.clear();
+            productOrders.putAll(orders);
+            weightsChanged = true;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        ProductSearchView product = event.isDeleted() ? null
+                : productRepository.findSearchViewById(event.getProductId()).orElse(null);
+        synchronized (this) {
+            if (product == null) {
+                productNames.remove(event.getProductId());
+                productCategories.remove(event.getProductId());
+            } else {
+                productNames.put(product.getId(), product.getName());
+                if (product.getCategoryId() == null)
+                    productCategories.remove(product.getId());
+                else
+                    productCategories.put(product.getId(), product.getCategoryId());
+            }
+            structureChanged = true;
+        }
+    }
+
+    // Kategori silindiğinde ürünleri de cascade ile silinir.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        Category category = event.isDeleted() ? null
+                : categoryRepository.findById(event.getCategoryId()).orElse(null);
+        synchronized (this) {
+            if (category == null) {
+                categoryNames.remove(event.getCategoryId());
+                productCategories.entrySet().removeIf(entry -> {
+                    if (!entry.getValue().equals(event.getCategoryId()))
+                        return false;
+                    productNames.remove(entry.getKey());
+                    return true;
+                });
+            } else {
+                categoryNames.put(category.getId(), category.getName());
+            }
+            structureChanged = true;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onOrderPlaced(OrderPlacedEvent event) {
+        for (Long productId : event.getQuantities().keySet()) {
+            productOrders.merge(productId, 1L, Long::sum);
+        }
+        weightsChanged = true;
+    }
+
+    @Scheduled(fixedDelayString = "${grocery.app.suggest.refreshMs:1000}")
+    public void refresh() {
+        synchronized (refreshLock) {
+            List<Suggestion> suggestions = null;
+            Map<Long, Long> productWeights;
+            Map<Long, Long> categoryWeights = new HashMap<>();
+            synchronized (this) {
+                if (!structureChanged && !weightsChanged)
+                    return;
+                if (structureChanged) {
+                    suggestions = new ArrayList<>(productNames.size() + categoryNames.size());
+                    for (Map.Entry<Long, String> product : productNames.entrySet()) {
+                        suggestions.add(new Suggestion(SuggestionType.PRODUCT, product.getKey(),
+                                product.getValue()));
+                    }
+                    for (Map.Entry<Long, String> category : categoryNames.entrySet()) {
+                        suggestions.add(new Suggestion(SuggestionType.CATEGORY, category.getKey(),
+                                category.getValue()));
+                    }
+                }
+                productWeights = new HashMap<>(productOrders);
+                // Kategorinin popülerliği ürünlerinin sipariş sayılarının toplamıdır.
+                productCategories.forEach((productId, categoryId) -> categoryWeights.merge(categoryId,
+                        productOrders.getOrDefault(productId, 0L), Long::sum));
+                structureChanged = false;
+                weightsChanged = false;
+            }
+
+            ToLongFunction<Suggestion> weight = suggestion -> (suggestion.getType() == SuggestionType.PRODUCT
+                    ? productWeights : categoryWeights).getOrDefault(suggestion.getId(), 0L);
+            index = suggestions == null ? index.reweight(weight) : SuggestionIndex.build(suggestions, weight);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.grocery.core.suggest;
+
+public enum SuggestionType {
+    PRODUCT,
+    CATEGORY
+}
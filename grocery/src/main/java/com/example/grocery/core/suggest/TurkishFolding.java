@@ -0,0 +1,48 @@
+package com.example.grocery.core.suggest;
+
+import java.util.Locale;
+
+// Türkçe kurallarla küçültülür (I -> ı, İ -> i), ardından Türkçe karakterler
+// ASCII karşılığına indirilir. "IŞIK", "ışık" ve "isik" aynı anahtarı verir.
+// Harf ve rakam dışındaki karakterler tek boşluğa dönüşür.
+public final class TurkishFolding {
+
+    private static final Locale TURKISH = Locale.forLanguageTag("tr");
+
+    private TurkishFolding() {
+    }
+
+    public static String fold(String text) {
+        String lower = text.toLowerCase(TURKISH);
+        StringBuilder folded = new StringBuilder(lower.length());
+        boolean separator = false;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = fold(lower.charAt(i));
+            // Ayrışık yazılmış İ (I + U+0307) küçültüldüğünde kalan birleşik nokta atılır.
+            if (c == '\u0307')
+                continue;
+            if (Character.isLetterOrDigit(c)) {
+                if (separator && folded.length() > 0)
+                    folded.append(' ');
+                folded.append(c);
+                separator = false;
+            } else {
+                separator = true;
+            }
+        }
+        return folded.toString();
+    }
+
+    private static char fold(char c) {
+        return switch (c) {
+            case 'ı', 'î' -> 'i';
+            case 'ş' -> 's';
+            case 'ğ' -> 'g';
+            case 'ç' -> 'c';
+            case 'ö' -> 'o';
+            case 'ü', 'û' -> 'u';
+            case 'â' -> 'a';
+            default -> c;
+        };
+    }
+}
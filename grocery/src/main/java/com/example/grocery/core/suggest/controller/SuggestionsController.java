@@ -0,0 +1,28 @@
+package com.example.grocery.core.suggest.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.grocery.core.suggest.DTOs.response.SuggestionResponse;
+import com.example.grocery.core.suggest.service.SuggestionService;
+import com.example.grocery.core.utilities.results.DataResult;
+
+@RestController
+@RequestMapping("/api/suggest")
+public class SuggestionsController {
+
+    @Autowired
+    private SuggestionService suggestionService;
+
+    @GetMapping
+    public ResponseEntity<DataResult<List<SuggestionResponse>>> suggest(@RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(suggestionService.suggest(prefix, limit));
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.grocery.core.suggest.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.grocery.business.constants.Messages.ErrorMessages;
+import com.example.grocery.business.constants.Messages.GetListMessages;
+import com.example.grocery.business.constants.Messages.LogMessages.LogWarnMessages;
+import com.example.grocery.core.suggest.SuggestionRegistry;
+import com.example.grocery.core.suggest.DTOs.response.SuggestionResponse;
+import com.example.grocery.core.utilities.exceptions.BusinessException;
+import com.example.grocery.core.utilities.results.DataResult;
+import com.example.grocery.core.utilities.results.SuccessDataResult;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Öneriler bellekteki indeksten okunur; istek başına veritabanına inilmez.
+@Service
+@Slf4j
+public class SuggestionManager implements SuggestionService {
+
+    private final SuggestionRegistry suggestionRegistry;
+    private final int maxLimit;
+
+    public SuggestionManager(SuggestionRegistry suggestionRegistry,
+            @Value("${grocery.app.suggest.maxLimit:20}") int maxLimit) {
+        this.suggestionRegistry = suggestionRegistry;
+        this.maxLimit = maxLimit;
+    }
+
+    @Override
+    public DataResult<List<SuggestionResponse>> suggest(String prefix, int limit) {
+        isLimitValid(limit);
+
+        List<SuggestionResponse> returnList = suggestionRegistry.suggest(prefix, limit)
+                .stream()
+                .map(suggestion -> new SuggestionResponse(suggestion.getType(), suggestion.getId(),
+                        suggestion.getName()))
+                .toList();
+        return new SuccessDataResult<>(returnList, GetListMessages.SUGGESTIONS_LISTED + prefix);
+    }
+
+    private void isLimitValid(int limit) {
+        if (limit < 1) {
+            log.warn(LogWarnMessages.PAGE_SIZE_NEGATIVE);
+            throw new BusinessException(ErrorMessages.PAGE_SIZE_NEGATIVE);
+        }
+        if (limit > maxLimit) {
+            log.warn(LogWarnMessages.PAGE_SIZE_TOO_LARGE, limit);
+            throw new BusinessException(ErrorMessages.PAGE_SIZE_TOO_LARGE + maxLimit);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.grocery.core.suggest.service;
+
+import java.util.List;
+
+import com.example.grocery.core.suggest.DTOs.response.SuggestionResponse;
+import com.example.grocery.core.utilities.results.DataResult;
+
+public interface SuggestionService {
+
+    DataResult<List<SuggestionResponse>> suggest(String prefix, int limit);
+}
@@ -0,0 +1,137 @@
+package com.example.grocery.core.trending;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.grocery.core.trending.SpaceSavingSummary.Counter;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Bir pencerenin zaman dilimleri halka şeklinde tutulur; her dilimin kendi
+// Space-Saving özeti vardır. Bellek katalog boyutundan bağımsız olarak
+// bucketCount * capacity sayaç ile sınırlıdır. Thread-safe değildir.
+public class SlidingTopK {
+
+    private final TrendingWindow window;
+    private final long[] bucketStarts;
+    private final SpaceSavingSummary[] buckets;
+
+    public SlidingTopK(TrendingWindow window, int capacity) {
+        this.window = window;
+        this.bucketStarts = new long[window.getBucketCount()];
+        this.buckets = new SpaceSavingSummary[window.getBucketCount()];
+        for (int i = 0; i < buckets.length; i++) {
+            bucketStarts[i] = -1;
+            buckets[i] = new SpaceSavingSummary(capacity);
+        }
+    }
+
+    public void offer(long id, long weight, long nowMillis) {
+        bucketAt(nowMillis).offer(id, weight);
+    }
+
+    // Pencere içindeki dilimlerin sayaçları toplanır; süresi dolan dilimler atlanır.
+    // Bir ürün bazı dilimlerde düşürülmüş olabilir; o dilimlerdeki adedi en fazla
+    // dilimin en küçük sayacı kadardır ve toplam en fazla bu kadar eksik kalır.
+    public List<Estimate> top(int k, long nowMillis) {
+        long oldestStart = startOf(nowMillis) - (long) (buckets.length - 1) * window.getBucketMillis();
+        Map<Long, long[]> merged = new HashMap<>();
+        long minTotal = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            if (bucketStarts[i] < oldestStart)
+                continue;
+            long min = buckets[i].minCount();
+            minTotal += min;
+            for (Counter counter : buckets[i].counters()) {
+                long[] sum = merged.computeIfAbsent(counter.getId(), id -> new long[3]);
+                sum[0] += counter.getCount();
+                sum[1] += counter.getError();
+                sum[2] += min;
+            }
+        }
+        long missingTotal = minTotal;
+        List<Estimate> result = new ArrayList<>(merged.size());
+        merged.forEach((id, sum) -> result.add(new Estimate(id, sum[0], sum[1], missingTotal - sum[2])));
+        result.sort(Comparator.comparingLong(Estimate::getCount).reversed().thenComparingLong(Estimate::getId));
+        return result.size() > k ? new ArrayList<>(result.subList(0, k)) : result;
+    }
+
+    public List<BucketSnapshot> snapshot() {
+        List<BucketSnapshot> snapshot = new ArrayList<>();
+        for (int i = 0; i < buckets.length; i++) {
+            if (bucketStarts[i] < 0)
+                continue;
+            List<Counter> counters = buckets[i].counters();
+            long[] ids = new long[counters.size()];
+            long[] counts = new long[counters.size()];
+            long[] errors = new long[counters.size()];
+            for (int j = 0; j < counters.size(); j++) {
+                ids[j] = counters.get(j).getId();
+                counts[j] = counters.get(j).getCount();
+                errors[j] = counters.get(j).getError();
+            }
+            snapshot.add(new BucketSnapshot(bucketStarts[i], ids, counts, errors));
+        }
+        return snapshot;
+    }
+
+    // Kapanış süresince dolmuş dilimler top() sırasında zaten atlanır.
+    public void restore(List<BucketSnapshot> snapshot) {
+        for (BucketSnapshot bucketSnapshot : snapshot) {
+            SpaceSavingSummary summary = bucketAt(bucketSnapshot.getStart());
+            for (int j = 0; j < bucketSnapshot.getIds().length; j++) {
+                summary.restore(bucketSnapshot.getIds()[j], bucketSnapshot.getCounts()[j],
+                        bucketSnapshot.getErrors()[j]);
+            }
+        }
+    }
+
+    private SpaceSavingSummary bucketAt(long timeMillis) {
+        long start = startOf(timeMillis);
+        int index = (int) ((start / window.getBucketMillis()) % buckets.length);
+        if (bucketStarts[index] != start) {
+            bucketStarts[index] = start;
+            buckets[index].clear();
+        }
+        return buckets[index];
+    }
+
+    private long startOf(long timeMillis) {
+        return timeMillis - timeMillis % window.getBucketMillis();
+    }
+
+    // Gerçek adet count - maxOverestimate ile count + maxUnderestimate arasındadır.
+    @AllArgsConstructor
+    @Getter
+    public static class Estimate {
+
+        private final long id;
+
+        private final long count;
+
+        private final long maxOverestimate;
+
+        private final long maxUnderestimate;
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    public static class BucketSnapshot {
+
+        private long start;
+
+        private long[] ids;
+
+        private long[] counts;
+
+        private long[] errors;
+    }
+}
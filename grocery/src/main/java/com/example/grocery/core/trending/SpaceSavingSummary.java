@@ -0,0 +1,80 @@
+package com.example.grocery.core.trending;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Space-Saving algoritması: en fazla capacity kadar sayaç tutulur. Yeni bir ürün
+// geldiğinde sayaç kalmamışsa en küçük sayaç bu ürüne devredilir; tahmin gerçek
+// değerden en fazla error kadar büyüktür, sık satılan ürünler hiçbir zaman düşmez.
+// Thread-safe değildir, çağıran senkronize eder.
+public class SpaceSavingSummary {
+
+    private static final Comparator<Counter> BY_COUNT = Comparator.comparingLong(Counter::getCount)
+            .thenComparingLong(Counter::getId);
+
+    private final int capacity;
+    private final Map<Long, Counter> counters = new HashMap<>();
+    private final TreeSet<Counter> ordered = new TreeSet<>(BY_COUNT);
+
+    public SpaceSavingSummary(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public void offer(long id, long weight) {
+        Counter counter = counters.get(id);
+        if (counter != null) {
+            ordered.remove(counter);
+            counter = new Counter(id, counter.getCount() + weight, counter.getError());
+        } else if (counters.size() < capacity) {
+            counter = new Counter(id, weight, 0);
+        } else {
+            Counter smallest = ordered.pollFirst();
+            counters.remove(smallest.getId());
+            counter = new Counter(id, smallest.getCount() + weight, smallest.getCount());
+        }
+        counters.put(id, counter);
+        ordered.add(counter);
+    }
+
+    // Diskten okunan sayaçlar hata payıyla birlikte geri yüklenir.
+    public void restore(long id, long count, long error) {
+        if (counters.size() >= capacity || counters.containsKey(id))
+            return;
+        Counter counter = new Counter(id, count, error);
+        counters.put(id, counter);
+        ordered.add(counter);
+    }
+
+    // Özette olmayan bir ürünün bu özetteki gerçek adedi en fazla bu kadardır;
+    // sayaçlar dolmadıysa hiçbir ürün düşürülmemiştir.
+    public long minCount() {
+        return counters.size() < capacity || ordered.isEmpty() ? 0 : ordered.first().getCount();
+    }
+
+    public List<Counter> counters() {
+        return new ArrayList<>(counters.values());
+    }
+
+    public void clear() {
+        counters.clear();
+        ordered.clear();
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class Counter {
+
+        private final long id;
+
+        private final long count;
+
+        private final long error;
+    }
+}
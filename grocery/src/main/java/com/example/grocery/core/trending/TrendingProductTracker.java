@@ -0,0 +1,133 @@
+package com.example.grocery.core.trending;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.grocery.business.constants.Messages.LogMessages.LogErrorMessages;
+import com.example.grocery.business.constants.Messages.LogMessages.LogInfoMessages;
+import com.example.grocery.business.events.OrderPlacedEvent;
+import com.example.grocery.core.trending.SlidingTopK.BucketSnapshot;
+import com.example.grocery.core.trending.SlidingTopK.Estimate;
+import com.example.grocery.webApi.responses.product.TrendingProductResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Commit edilen siparişlerden beslenen, veritabanına hiç inmeyen en çok satanlar
+// listesi. Pencereler periyodik olarak birleştirilip hazır listeler yayınlanır;
+// okuma yalnızca hazır listenin ilk K elemanını döner.
+@Component
+@Slf4j
+public class TrendingProductTracker {
+
+    private static final TypeReference<Map<TrendingWindow, List<BucketSnapshot>>> SNAPSHOT_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+    private final int maxK;
+    private final Path snapshotPath;
+    private final Map<TrendingWindow, SlidingTopK> windows = new EnumMap<>(TrendingWindow.class);
+
+    // Yayın sırasında okuyucular eski ya da yeni listelerin tamamını görür.
+    private volatile Map<TrendingWindow, List<TrendingProductResponse>> published = Collections.emptyMap();
+
+    public TrendingProductTracker(ObjectMapper objectMapper,
+            @Value("${grocery.app.trending.capacity:1000}") int capacity,
+            @Value("${grocery.app.trending.maxK:100}") int maxK,
+            @Value("${grocery.app.trending.snapshotPath:trending-snapshot.json}") String snapshotPath) {
+        this.objectMapper = objectMapper;
+        this.maxK = maxK;
+        this.snapshotPath = Path.of(snapshotPath);
+        for (TrendingWindow window : TrendingWindow.values()) {
+            windows.put(window, new SlidingTopK(window, capacity));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        record(event.getQuantities(), System.currentTimeMillis());
+    }
+
+    public synchronized void record(Map<Long, Integer> quantities, long nowMillis) {
+        for (SlidingTopK window : windows.values()) {
+            quantities.forEach((productId, quantity) -> window.offer(productId, quantity, nowMillis));
+        }
+    }
+
+    public List<TrendingProductResponse> top(TrendingWindow window, int k) {
+        List<TrendingProductResponse> list = published.getOrDefault(window, Collections.emptyList());
+        return list.size() > k ? list.subList(0, k) : list;
+    }
+
+    @Scheduled(fixedDelayString = "${grocery.app.trending.refreshMs:5000}")
+    public void publish() {
+        long now = System.currentTimeMillis();
+        Map<TrendingWindow, List<Estimate>> merged = new EnumMap<>(TrendingWindow.class);
+        synchronized (this) {
+            windows.forEach((window, topK) -> merged.put(window, topK.top(maxK, now)));
+        }
+
+        Map<TrendingWindow, List<TrendingProductResponse>> next = new EnumMap<>(TrendingWindow.class);
+        merged.forEach((window, estimates) -> {
+            List<TrendingProductResponse> list = new ArrayList<>(estimates.size());
+            for (Estimate estimate : estimates) {
+                list.add(new TrendingProductResponse(estimate.getId(), estimate.getCount(),
+                        estimate.getMaxOverestimate(), estimate.getMaxUnderestimate()));
+            }
+            next.put(window, Collections.unmodifiableList(list));
+        });
+        published = next;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!Files.exists(snapshotPath))
+            return;
+        try {
+            Map<TrendingWindow, List<BucketSnapshot>> snapshot = objectMapper.readValue(snapshotPath.toFile(),
+                    SNAPSHOT_TYPE);
+            synchronized (this) {
+                snapshot.forEach((window, buckets) -> windows.get(window).restore(buckets));
+            }
+            publish();
+            log.info(LogInfoMessages.TRENDING_SNAPSHOT_LOADED, snapshotPath);
+        } catch (IOException e) {
+            log.error(LogErrorMessages.TRENDING_SNAPSHOT_FAILED, snapshotPath, e.getMessage());
+        }
+    }
+
+    // Yarım yazılmış dosya okunmasın diye önce geçici dosyaya yazılıp yerine taşınır.
+    @Scheduled(fixedDelayString = "${grocery.app.trending.snapshotMs:60000}")
+    @EventListener(ContextClosedEvent.class)
+    public void snapshot() {
+        Map<TrendingWindow, List<BucketSnapshot>> snapshot = new EnumMap<>(TrendingWindow.class);
+        synchronized (this) {
+            windows.forEach((window, topK) -> snapshot.put(window, topK.snapshot()));
+        }
+        try {
+            Path temporary = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+            objectMapper.writeValue(temporary.toFile(), snapshot);
+            Files.move(temporary, snapshotPath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error(LogErrorMessages.TRENDING_SNAPSHOT_FAILED, snapshotPath, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.grocery.core.trending;
+
+import java.time.Duration;
+
+// Her pencere sabit sayıda zaman diliminden oluşur; en eski dilim süresi dolunca
+// yeniden kullanılır, böylece pencere kayan bir toplam gibi davranır.
+public enum TrendingWindow {
+    HOUR(Duration.ofMinutes(5), 12),
+    DAY(Duration.ofHours(1), 24),
+    WEEK(Duration.ofDays(1), 7);
+
+    private final long bucketMillis;
+    private final int bucketCount;
+
+    TrendingWindow(Duration bucket, int bucketCount) {
+        this.bucketMillis = bucket.toMillis();
+        this.bucketCount = bucketCount;
+    }
+
+    public long getBucketMillis() {
+        return bucketMillis;
+    }
+
+    public int getBucketCount() {
+        return bucketCount;
+    }
+}
@@ -1,8 +1,12 @@
 package com.example.grocery.core.validation.mernisValidation;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.example.grocery.core.utilities.results.Result;
 import com.example.grocery.entity.concretes.Employee;
 
 public interface MernisValidationService {
     Result validate(Employee employee);
+
+    CompletableFuture<Result> validateAsync(Employee employee);
 }
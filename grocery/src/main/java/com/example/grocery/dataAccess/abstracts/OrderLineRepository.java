@@ -0,0 +1,43 @@
+package com.example.grocery.dataAccess.abstracts;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.grocery.entity.concretes.OrderLine;
+
+public interface OrderLineRepository extends JpaRepository<OrderLine, Long> {
+
+    // Sayfadaki tüm siparişlerin satırları tek sorguda, ürün tablosuna join yapılmadan okunur.
+    @Query("select l.order.id as orderId, l.product.id as productId, l.quantity as quantity, "
+            + "l.unitPrice as unitPrice from OrderLine l where l.order.id in :orderIds order by l.order.id, l.id")
+    List<OrderLineView> findViewsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    @Query("select l.order.id as orderId, sum(l.quantity * l.unitPrice) as totalPrice "
+            + "from OrderLine l where l.order.id in :orderIds group by l.order.id")
+    List<OrderTotalView> sumTotalsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    @Query("select coalesce(sum(l.quantity * l.unitPrice), 0) from OrderLine l where l.order.id = :orderId")
+    double sumTotalByOrderId(@Param("orderId") Long orderId);
+
+    interface OrderLineView {
+
+        Long getOrderId();
+
+        Long getProductId();
+
+        int getQuantity();
+
+        double getUnitPrice();
+    }
+
+    interface OrderTotalView {
+
+        Long getOrderId();
+
+        double getTotalPrice();
+    }
+}
@@ -1,9 +1,89 @@
 package com.example.grocery.dataAccess.abstracts;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.grocery.entity.concretes.Order;
+import com.example.grocery.entity.enums.OrderStatus;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
+    @Query("select o.orderStatus from Order o where o.id = :id")
+    Optional<OrderStatus> findStatusById(@Param("id") Long id);
+
+    // Durum geçişleri yalnızca order_status kolonuna dokunur; izin verilmeyen
+    // durumdaki siparişler WHERE koşulu ile atlanır.
+    @Modifying(flushAutomatically = true)
+    @Query("update Order o set o.orderStatus = :target where o.id in :ids and o.orderStatus in :sources")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("sources") Collection<OrderStatus> sources,
+            @Param("target") OrderStatus target);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Order o set o.orderStatus = :target, o.deliveredDate = :deliveredDate "
+            + "where o.id in :ids and o.orderStatus in :sources")
+    int updateStatusAndDeliveredDate(@Param("ids") Collection<Long> ids,
+            @Param("sources") Collection<OrderStatus> sources, @Param("target") OrderStatus target,
+            @Param("deliveredDate") LocalDateTime deliveredDate);
+
+    // Filtreyle seçilen siparişler id'leri okunmadan tek UPDATE ile güncellenir;
+    // teslim tarihi yalnızca WAS_DELIVERED geçişinde yazılır.
+    String STATUS_FILTER_UPDATE = "update Order o set o.orderStatus = :target, o.deliveredDate = case when :target = "
+            + "com.example.grocery.entity.enums.OrderStatus.WAS_DELIVERED then :now else o.deliveredDate end "
+            + "where o.orderStatus = :current ";
+
+    @Modifying(flushAutomatically = true)
+    @Query(STATUS_FILTER_UPDATE)
+    int updateStatusByCurrentStatus(@Param("current") OrderStatus current, @Param("target") OrderStatus target,
+            @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query(STATUS_FILTER_UPDATE + "and o.createdDate < :createdBefore")
+    int updateStatusByCurrentStatusAndCreatedBefore(@Param("current") OrderStatus current,
+            @Param("createdBefore") LocalDateTime createdBefore, @Param("target") OrderStatus target,
+            @Param("now") LocalDateTime now);
+
+    String CUSTOMER_ORDER_VIEW = "select o.id as id, o.createdDate as createdDate, o.deliveredDate as deliveredDate, "
+            + "o.orderStatus as orderStatus, o.payment.id as paymentId, "
+            + "(select count(l) from OrderLine l where l.order = o) as lineCount, "
+            + "(select coalesce(sum(l.quantity), 0) from OrderLine l where l.order = o) as itemCount, "
+            + "(select coalesce(sum(l.quantity * l.unitPrice), 0) from OrderLine l where l.order = o) as totalPrice "
+            + "from Order o where o.customer.id = :customerId ";
+
+    // Müşterinin sipariş geçmişi entity yüklenmeden okunur; sayfa sınırı
+    // idx_orders_customer_created üzerindeki geriye doğru taramaya uygulanır.
+    @Query(CUSTOMER_ORDER_VIEW + "order by o.createdDate desc, o.id desc")
+    List<CustomerOrderView> findCustomerOrders(@Param("customerId") Long customerId, Pageable pageable);
+
+    // İlk koşul indeks aralığını daraltır, ikincisi aynı zamandaki siparişleri id ile ayırır.
+    @Query(CUSTOMER_ORDER_VIEW + "and o.createdDate <= :beforeDate "
+            + "and (o.createdDate < :beforeDate or o.id < :beforeId) order by o.createdDate desc, o.id desc")
+    List<CustomerOrderView> findCustomerOrdersBefore(@Param("customerId") Long customerId,
+            @Param("beforeDate") LocalDateTime beforeDate, @Param("beforeId") Long beforeId, Pageable pageable);
+
+    interface CustomerOrderView {
+
+        Long getId();
+
+        LocalDateTime getCreatedDate();
+
+        LocalDateTime getDeliveredDate();
+
+        OrderStatus getOrderStatus();
+
+        Long getPaymentId();
+
+        long getLineCount();
+
+        long getItemCount();
+
+        double getTotalPrice();
+    }
 }
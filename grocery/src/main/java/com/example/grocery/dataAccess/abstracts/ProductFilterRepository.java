@@ -0,0 +1,36 @@
+package com.example.grocery.dataAccess.abstracts;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.grocery.entity.concretes.Product;
+import com.example.grocery.webApi.responses.product.FilterProductResponse;
+import com.example.grocery.webApi.responses.product.ProductFacetResponse;
+
+public interface ProductFilterRepository {
+
+    // Yalnızca listede gösterilen kolonlar okunur; ilişkiler ve görseller yüklenmez.
+    List<FilterProductResponse> findFiltered(Specification<Product> specification, Pageable pageable);
+
+    long countFiltered(Specification<Product> specification);
+
+    List<ProductFacetResponse> countByFacet(Specification<Product> specification, Facet facet);
+
+    enum Facet {
+        CATEGORY("category"),
+        PRODUCER("producer"),
+        SUPPLIER("supplier");
+
+        private final String attribute;
+
+        Facet(String attribute) {
+            this.attribute = attribute;
+        }
+
+        public String getAttribute() {
+            return attribute;
+        }
+    }
+}
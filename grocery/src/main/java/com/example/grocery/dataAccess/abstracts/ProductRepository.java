@@ -1,12 +1,50 @@
 package com.example.grocery.dataAccess.abstracts;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.grocery.entity.concretes.Product;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductStockRepository,
+        ProductFilterRepository {
+
+    String SEARCH_VIEW = "select p.id as id, p.name as name, p.description as description, p.price as price, "
+            + "c.id as categoryId, c.name as categoryName, pr.name as producerName "
+            + "from Product p left join p.category c left join p.producer pr ";
 
     boolean existsById(Long id);
 
     boolean existsByNameIgnoreCase(String name);
+
+    // Arama ve otomatik tamamlama indeksleri için gereken alanlar tek sorguda, ilişkiler yüklenmeden okunur.
+    @Query(SEARCH_VIEW + "where p.id = :id")
+    Optional<ProductSearchView> findSearchViewById(@Param("id") Long id);
+
+    @Query(SEARCH_VIEW + "where p.id > :afterId order by p.id")
+    List<ProductSearchView> findSearchViewsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(SEARCH_VIEW + "where c.id = :categoryId")
+    List<ProductSearchView> findSearchViewsByCategoryId(@Param("categoryId") Long categoryId);
+
+    interface ProductSearchView {
+
+        Long getId();
+
+        String getName();
+
+        String getDescription();
+
+        double getPrice();
+
+        Long getCategoryId();
+
+        String getCategoryName();
+
+        String getProducerName();
+    }
 }
@@ -0,0 +1,15 @@
+package com.example.grocery.dataAccess.abstracts;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ProductStockRepository {
+
+    // Stoğu yetmeyen ürünlerin id'lerini döner; boş liste tüm satırların düştüğünü gösterir.
+    List<Long> reserveStock(Map<Long, Integer> quantities);
+
+    void releaseStock(Map<Long, Integer> quantities);
+
+    // Pozitif miktar düşülür, negatif miktar iade edilir; dönüş reserveStock ile aynıdır.
+    List<Long> adjustStock(Map<Long, Integer> deltas);
+}
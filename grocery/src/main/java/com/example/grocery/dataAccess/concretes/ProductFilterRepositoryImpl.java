@@ -0,0 +1,88 @@
+package com.example.grocery.dataAccess.concretes;
+
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Repository;
+
+import com.example.grocery.dataAccess.abstracts.ProductFilterRepository;
+import com.example.grocery.entity.concretes.Product;
+import com.example.grocery.webApi.responses.product.FilterProductResponse;
+import com.example.grocery.webApi.responses.product.ProductFacetResponse;
+
+// Filtre koşulları Specification olarak bir kez kurulur; sayfa, toplam ve facet
+// sayıları aynı koşullarla ayrı Criteria sorgularında veritabanında hesaplanır.
+@Repository
+public class ProductFilterRepositoryImpl implements ProductFilterRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<FilterProductResponse> findFiltered(Specification<Product> specification, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<FilterProductResponse> query = criteriaBuilder.createQuery(FilterProductResponse.class);
+        Root<Product> product = query.from(Product.class);
+        // Kategori ve tedarikçi boş olabildiği için dış birleştirme kullanılır.
+        Join<Object, Object> category = product.join("category", JoinType.LEFT);
+        Join<Object, Object> supplier = product.join("supplier", JoinType.LEFT);
+
+        query.select(criteriaBuilder.construct(FilterProductResponse.class, product.get("id"), product.get("name"),
+                product.get("price"), product.get("stock"), product.get("expirationDate"), category.get("id"),
+                product.get("producer").get("id"), supplier.get("id")));
+        where(query, product, criteriaBuilder, specification);
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), product, criteriaBuilder));
+
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    @Override
+    public long countFiltered(Specification<Product> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Product> product = query.from(Product.class);
+
+        query.select(criteriaBuilder.count(product));
+        where(query, product, criteriaBuilder, specification);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    // Facet değeri olmayan ürünler (ör. tedarikçisiz) iç birleştirme ile sayım dışı kalır.
+    @Override
+    public List<ProductFacetResponse> countByFacet(Specification<Product> specification, Facet facet) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductFacetResponse> query = criteriaBuilder.createQuery(ProductFacetResponse.class);
+        Root<Product> product = query.from(Product.class);
+        Join<Object, Object> value = product.join(facet.getAttribute());
+        Expression<Long> count = criteriaBuilder.count(product);
+
+        query.select(criteriaBuilder.construct(ProductFacetResponse.class, value.get("id"), value.get("name"), count));
+        where(query, product, criteriaBuilder, specification);
+        query.groupBy(value.get("id"), value.get("name"));
+        query.orderBy(criteriaBuilder.desc(count), criteriaBuilder.asc(value.get("name")));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private static void where(CriteriaQuery<?> query, Root<Product> product, CriteriaBuilder criteriaBuilder,
+            Specification<Product> specification) {
+        Predicate predicate = specification == null ? null
+                : specification.toPredicate(product, query, criteriaBuilder);
+        if (predicate != null)
+            query.where(predicate);
+    }
+}
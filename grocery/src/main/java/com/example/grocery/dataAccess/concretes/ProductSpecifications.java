@@ -0,0 +1,62 @@
+package com.example.grocery.dataAccess.concretes;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.grocery.dataAccess.abstracts.ProductFilterRepository.Facet;
+import com.example.grocery.entity.concretes.Product;
+import com.example.grocery.webApi.requests.product.FilterProductRequest;
+
+// Yalnızca istekte dolu olan alanlar koşula eklenir; boş filtre tüm ürünleri döner.
+// Id karşılaştırmaları yabancı anahtar kolonuna iner, ilişkili tablo birleştirilmez.
+public final class ProductSpecifications {
+
+    private ProductSpecifications() {
+    }
+
+    // Facet sayımında o facet'in kendi filtresi dışarıda bırakılır.
+    public static Specification<Product> filter(FilterProductRequest request, Facet excluded, LocalDate today) {
+        Specification<Product> specification = Specification
+                .where(priceBetween(request.getMinPrice(), request.getMaxPrice()));
+        if (excluded != Facet.CATEGORY)
+            specification = specification.and(idIn(Facet.CATEGORY, request.getCategoryIds()));
+        if (excluded != Facet.PRODUCER)
+            specification = specification.and(idIn(Facet.PRODUCER, request.getProducerIds()));
+        if (excluded != Facet.SUPPLIER)
+            specification = specification.and(idIn(Facet.SUPPLIER, request.getSupplierIds()));
+        if (request.isInStock())
+            specification = specification.and(inStock());
+        if (request.isNotExpired())
+            specification = specification.and(notExpired(today));
+        return specification;
+    }
+
+    public static Specification<Product> inStock() {
+        return (product, query, criteriaBuilder) -> criteriaBuilder.gt(product.get("stock"), 0);
+    }
+
+    public static Specification<Product> notExpired(LocalDate today) {
+        return (product, query, criteriaBuilder) -> criteriaBuilder
+                .greaterThanOrEqualTo(product.get("expirationDate"), today);
+    }
+
+    private static Specification<Product> priceBetween(Double minPrice, Double maxPrice) {
+        if (minPrice == null && maxPrice == null)
+            return null;
+        return (product, query, criteriaBuilder) -> {
+            if (maxPrice == null)
+                return criteriaBuilder.greaterThanOrEqualTo(product.get("price"), minPrice);
+            if (minPrice == null)
+                return criteriaBuilder.lessThanOrEqualTo(product.get("price"), maxPrice);
+            return criteriaBuilder.between(product.get("price"), minPrice, maxPrice);
+        };
+    }
+
+    private static Specification<Product> idIn(Facet facet, List<Long> ids) {
+        if (ids == null || ids.isEmpty())
+            return null;
+        return (product, query, criteriaBuilder) -> product.get(facet.getAttribute()).get("id").in(ids);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.grocery.dataAccess.concretes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.grocery.dataAccess.abstracts.ProductStockRepository;
+
+// Stok düşümü entity yüklemeden, koşullu UPDATE ile yapılır; satır kilidi yalnızca
+// ifade süresince alınır ve stok hiçbir zaman sıfırın altına inemez.
+@Repository
+public class ProductStockRepositoryImpl implements ProductStockRepository {
+
+    private static final String RESERVE = "UPDATE products SET product_stock = product_stock - ? "
+            + "WHERE product_id = ? AND product_stock >= ?";
+
+    private static final String RELEASE = "UPDATE products SET product_stock = product_stock + ? "
+            + "WHERE product_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductStockRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Sipariş başına tek bir JDBC batch'i gönderilir. Ürünler id sırasıyla kilitlenir,
+    // böylece aynı ürünleri içeren eş zamanlı siparişler birbirini kilitlemez (deadlock).
+    @Override
+    public List<Long> reserveStock(Map<Long, Integer> quantities) {
+        return adjustStock(quantities);
+    }
+
+    @Override
+    public void releaseStock(Map<Long, Integer> quantities) {
+        jdbcTemplate.batchUpdate(RELEASE, new TreeMap<>(quantities).entrySet().stream()
+                .map(row -> new Object[] { row.getValue(), row.getKey() }).toList());
+    }
+
+    // İade ve düşüm aynı batch'te, id sırasıyla yapılır. Negatif miktarda stok koşulu
+    // her zaman sağlanır; UPDATE yalnızca stoğu artırır.
+    @Override
+    public List<Long> adjustStock(Map<Long, Integer> deltas) {
+        List<Map.Entry<Long, Integer>> rows = new ArrayList<>(new TreeMap<>(deltas).entrySet());
+        int[] updated = jdbcTemplate.batchUpdate(RESERVE, rows.stream()
+                .map(row -> new Object[] { row.getValue(), row.getKey(), row.getValue() }).toList());
+
+        List<Long> insufficient = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] != 1 && rows.get(i).getValue() > 0) {
+                insufficient.add(rows.get(i).getKey());
+            }
+        }
+        return insufficient;
+    }
+}
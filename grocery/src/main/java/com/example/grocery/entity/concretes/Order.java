@@ -11,6 +11,7 @@ import lombok.ToString;
 import org.springframework.data.annotation.CreatedDate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @AllArgsConstructor
@@ -19,7 +20,11 @@ import java.util.List;
 @Setter
 @ToString
 @Entity
-@Table(name = "orders")
+// Müşterinin sipariş geçmişi created_date sırasıyla ilk indeks üzerinden sayfalanır;
+// satış özetleri gün aralığındaki siparişleri ikinci indeks ile bulur.
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_customer_created", columnList = "customer_fk_id, created_date, order_id"),
+        @Index(name = "idx_orders_created", columnList = "created_date") })
 public class Order {
 
     @Id
@@ -46,8 +51,7 @@ public class Order {
     @JoinColumn(name = "customer_fk_id", nullable = false)
     private Customer customer;
 
-    @ManyToMany(cascade = { CascadeType.MERGE, CascadeType.PERSIST })
-    @JoinTable(name = "orders_products", joinColumns = { @JoinColumn(name = "orders_order_id") }, inverseJoinColumns = {
-            @JoinColumn(name = "products_product_id") })
-    private List<Product> products;
+    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
+    @ToString.Exclude
+    private List<OrderLine> orderLines = new ArrayList<>();
 }
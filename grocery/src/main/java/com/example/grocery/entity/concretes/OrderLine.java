@@ -0,0 +1,39 @@
+package com.example.grocery.entity.concretes;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Satır fiyatı sipariş anındaki ürün fiyatının kopyasıdır; ürün fiyatı değişse de
+// siparişin toplamı değişmez.
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "order_lines", indexes = @Index(name = "idx_order_lines_order", columnList = "order_fk_id"))
+public class OrderLine {
+
+    // IDENTITY insert batch'lemeyi kapattığı için id'ler sequence'ten 50'lik bloklarla alınır.
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_lines_seq")
+    @SequenceGenerator(name = "order_lines_seq", sequenceName = "order_lines_seq", allocationSize = 50)
+    @Column(name = "order_line_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "order_fk_id", nullable = false)
+    private Order order;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "product_fk_id", nullable = false)
+    private Product product;
+
+    @Column(name = "quantity", nullable = false)
+    private int quantity;
+
+    @Column(name = "unit_price", nullable = false)
+    private double unitPrice;
+}
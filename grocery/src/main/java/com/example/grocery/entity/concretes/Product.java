@@ -10,6 +10,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
@@ -23,7 +24,12 @@ import lombok.Setter;
 import lombok.ToString;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_price", columnList = "product_price"),
+        @Index(name = "idx_products_category_price", columnList = "category_fk_id, product_price"),
+        @Index(name = "idx_products_producer", columnList = "producer_fk_id"),
+        @Index(name = "idx_products_supplier", columnList = "supplier_fk_id"),
+        @Index(name = "idx_products_expiration", columnList = "product_expiration_date") })
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -66,9 +72,6 @@ public class Product {
     @JoinColumn(name = "producer_fk_id", nullable = false)
     private Producer producer;
 
-    @ManyToMany(mappedBy = "products", cascade = { CascadeType.MERGE, CascadeType.PERSIST })
-    private List<Order> orders;
-
     @ManyToMany
     @JoinTable(name = "products_images", joinColumns = {
             @JoinColumn(name = "products_product_id") }, inverseJoinColumns = { @JoinColumn(name = "images_image_id") })
@@ -1,10 +1,27 @@
 package com.example.grocery.entity.enums;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum OrderStatus {
     ORDER_TAKEN("order taken"),
     GETTING_READY("getting ready"),
     TRANSPORT("transport"),
-    WAS_DELIVERED("was delivered");
+    WAS_DELIVERED("was delivered"),
+    CANCELLED("cancelled");
+
+    // Sipariş yalnızca ileri doğru ilerler; teslim edilen ve iptal edilen siparişler son durumdur.
+    private static final Map<OrderStatus, Set<OrderStatus>> TRANSITIONS = new EnumMap<>(OrderStatus.class);
+
+    static {
+        TRANSITIONS.put(ORDER_TAKEN, EnumSet.of(GETTING_READY, CANCELLED));
+        TRANSITIONS.put(GETTING_READY, EnumSet.of(TRANSPORT, CANCELLED));
+        TRANSITIONS.put(TRANSPORT, EnumSet.of(WAS_DELIVERED, CANCELLED));
+        TRANSITIONS.put(WAS_DELIVERED, EnumSet.noneOf(OrderStatus.class));
+        TRANSITIONS.put(CANCELLED, EnumSet.noneOf(OrderStatus.class));
+    }
 
     final String text;
 
@@ -15,4 +32,19 @@ public enum OrderStatus {
     public String getText() {
         return text;
     }
+
+    public boolean canTransitionTo(OrderStatus next) {
+        return TRANSITIONS.get(this).contains(next);
+    }
+
+    // Toplu güncellemede WHERE koşuluna girer; geçersiz geçişler UPDATE tarafından atlanır.
+    public static Set<OrderStatus> sourcesOf(OrderStatus target) {
+        Set<OrderStatus> sources = EnumSet.noneOf(OrderStatus.class);
+        for (OrderStatus status : values()) {
+            if (status.canTransitionTo(target)) {
+                sources.add(status);
+            }
+        }
+        return sources;
+    }
 }
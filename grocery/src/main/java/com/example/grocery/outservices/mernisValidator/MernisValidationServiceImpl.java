@@ -7,13 +7,22 @@ import com.example.grocery.core.utilities.results.SuccessResult;
 import com.example.grocery.core.validation.mernisValidation.MernisValidationService;
 import com.example.grocery.entity.concretes.Employee;
 import com.example.grocery.outservices.mernisValidator.mernis.FLAKPSPublicSoap;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @Service
 public class MernisValidationServiceImpl implements MernisValidationService {
 
+    private final Executor mernisExecutor;
+
+    public MernisValidationServiceImpl(@Qualifier("mernisExecutor") Executor mernisExecutor) {
+        this.mernisExecutor = mernisExecutor;
+    }
+
     @Override
     public Result validate(Employee employee) {
         FLAKPSPublicSoap client = new FLAKPSPublicSoap();
@@ -32,4 +41,11 @@ public class MernisValidationServiceImpl implements MernisValidationService {
         }
         return new SuccessResult();
     }
+
+    // easyWSDL istemcisi yalnızca senkron çağrı üretiyor, bu yüzden çağrı sınırlı
+    // boyuttaki mernisExecutor havuzuna devredilir.
+    @Override
+    public CompletableFuture<Result> validateAsync(Employee employee) {
+        return CompletableFuture.supplyAsync(() -> validate(employee), mernisExecutor);
+    }
 }
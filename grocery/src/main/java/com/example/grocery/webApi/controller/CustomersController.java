@@ -1,10 +1,13 @@
 package com.example.grocery.webApi.controller;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -13,6 +16,7 @@ import com.example.grocery.business.abstracts.CustomerService;
 import com.example.grocery.core.utilities.results.DataResult;
 import com.example.grocery.webApi.responses.customer.GetAllCustomerResponse;
 import com.example.grocery.webApi.responses.customer.GetByIdCustomerResponse;
+import com.example.grocery.webApi.responses.customer.GetCustomerOrdersPageResponse;
 
 @RestController
 @RequestMapping("/api/customer")
@@ -49,4 +53,11 @@ public class CustomersController {
             @RequestParam(defaultValue = "id") String sortBy) {
         return ResponseEntity.ok(customerService.getListByPaginationAndSorting(pageNo, pageSize, sortBy));
     }
+
+    @GetMapping("/{id}/orders")
+    public ResponseEntity<DataResult<GetCustomerOrdersPageResponse>> getOrders(@PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeDate,
+            @RequestParam(required = false) Long beforeId, @RequestParam(defaultValue = "20") int pageSize) {
+        return ResponseEntity.ok(customerService.getOrders(id, beforeDate, beforeId, pageSize));
+    }
 }
@@ -16,9 +16,11 @@ import org.springframework.web.bind.annotation.RestController;
 import com.example.grocery.business.abstracts.EmployeeService;
 import com.example.grocery.core.utilities.results.DataResult;
 import com.example.grocery.core.utilities.results.Result;
+import com.example.grocery.webApi.requests.employee.CreateAllEmployeeRequest;
 import com.example.grocery.webApi.requests.employee.CreateEmployeeRequest;
 import com.example.grocery.webApi.requests.employee.DeleteEmployeeRequest;
 import com.example.grocery.webApi.requests.employee.UpdateEmployeeRequest;
+import com.example.grocery.webApi.responses.employee.AddAllEmployeeResponse;
 import com.example.grocery.webApi.responses.employee.GetAllEmployeeResponse;
 import com.example.grocery.webApi.responses.employee.GetByIdEmployeeResponse;
 
@@ -36,6 +38,12 @@ public class EmployeesController {
         return ResponseEntity.ok().body(employeeService.add(createEmployeeRequest));
     }
 
+    @PostMapping("/addall")
+    public ResponseEntity<DataResult<List<AddAllEmployeeResponse>>> addAll(
+            @Valid @RequestBody CreateAllEmployeeRequest createAllEmployeeRequest) {
+        return ResponseEntity.ok().body(employeeService.addAll(createAllEmployeeRequest));
+    }
+
     @PutMapping("/update")
     public ResponseEntity<Result> update(@Valid @RequestBody UpdateEmployeeRequest updateEmployeeRequest,
             @RequestParam Long id) {
@@ -3,11 +3,14 @@ package com.example.grocery.webApi.controller;
 import com.example.grocery.business.abstracts.OrderService;
 import com.example.grocery.core.utilities.results.DataResult;
 import com.example.grocery.core.utilities.results.Result;
+import com.example.grocery.webApi.requests.order.BulkUpdateOrderStatusRequest;
 import com.example.grocery.webApi.requests.order.CreateOrderRequest;
 import com.example.grocery.webApi.requests.order.DeleteOrderRequest;
 import com.example.grocery.webApi.requests.order.UpdateOrderRequest;
+import com.example.grocery.webApi.requests.order.UpdateOrderStatusRequest;
 import com.example.grocery.webApi.responses.order.GetAllOrderResponse;
 import com.example.grocery.webApi.responses.order.GetByIdOrderResponse;
+import com.example.grocery.webApi.responses.order.UpdateOrderStatusResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -38,6 +41,23 @@ public class OrdersController {
         return ResponseEntity.ok().body(orderService.update(updateOrderRequest, id));
     }
 
+    @PutMapping("/cancel/{id}")
+    public ResponseEntity<Result> cancel(@PathVariable Long id) {
+        return ResponseEntity.ok().body(orderService.cancel(id));
+    }
+
+    @PutMapping("/status/{id}")
+    public ResponseEntity<Result> updateStatus(@PathVariable Long id,
+            @Valid @RequestBody UpdateOrderStatusRequest updateOrderStatusRequest) {
+        return ResponseEntity.ok().body(orderService.updateStatus(id, updateOrderStatusRequest));
+    }
+
+    @PutMapping("/status")
+    public ResponseEntity<DataResult<UpdateOrderStatusResponse>> bulkUpdateStatus(
+            @Valid @RequestBody BulkUpdateOrderStatusRequest bulkUpdateOrderStatusRequest) {
+        return ResponseEntity.ok().body(orderService.bulkUpdateStatus(bulkUpdateOrderStatusRequest));
+    }
+
     @GetMapping("/getall")
     public ResponseEntity<DataResult<List<GetAllOrderResponse>>> getAll() {
         return new ResponseEntity<>(orderService.getAll(), HttpStatus.OK);
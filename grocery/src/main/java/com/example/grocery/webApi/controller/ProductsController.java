@@ -15,13 +15,18 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.grocery.business.abstracts.ProductService;
+import com.example.grocery.core.trending.TrendingWindow;
 import com.example.grocery.core.utilities.results.DataResult;
 import com.example.grocery.core.utilities.results.Result;
 import com.example.grocery.webApi.requests.product.CreateProductRequest;
 import com.example.grocery.webApi.requests.product.DeleteProductRequest;
+import com.example.grocery.webApi.requests.product.FilterProductRequest;
 import com.example.grocery.webApi.requests.product.UpdateProductRequest;
+import com.example.grocery.webApi.responses.product.FilterProductPageResponse;
 import com.example.grocery.webApi.responses.product.GetAllProductResponse;
 import com.example.grocery.webApi.responses.product.GetByIdProductResponse;
+import com.example.grocery.webApi.responses.product.SearchProductPageResponse;
+import com.example.grocery.webApi.responses.product.TrendingProductResponse;
 
 import jakarta.validation.Valid;
 
@@ -76,4 +81,27 @@ public class ProductsController {
             @RequestParam(defaultValue = "id") String sortBy) {
         return ResponseEntity.ok(productService.getListByPaginationAndSorting(pageNo, pageSize, sortBy));
     }
+
+    @GetMapping("/trending")
+    public ResponseEntity<DataResult<List<TrendingProductResponse>>> getTrending(
+            @RequestParam(defaultValue = "HOUR") TrendingWindow window, @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(productService.getTrending(window, limit));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<DataResult<SearchProductPageResponse>> search(@RequestParam String q,
+            @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int pageSize) {
+        return ResponseEntity.ok(productService.search(q, page, pageSize));
+    }
+
+    @GetMapping("/filter")
+    public ResponseEntity<DataResult<FilterProductPageResponse>> filter(
+            @Valid FilterProductRequest filterProductRequest) {
+        return ResponseEntity.ok(productService.filter(filterProductRequest));
+    }
+
+    @PostMapping("/search/rebuild")
+    public ResponseEntity<Result> rebuildSearchIndex() {
+        return ResponseEntity.ok(productService.rebuildSearchIndex());
+    }
 }
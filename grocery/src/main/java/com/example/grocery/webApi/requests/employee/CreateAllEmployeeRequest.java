@@ -0,0 +1,20 @@
+package com.example.grocery.webApi.requests.employee;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class CreateAllEmployeeRequest {
+
+    @NotEmpty
+    private List<@Valid CreateEmployeeRequest> employees;
+}
@@ -0,0 +1,29 @@
+package com.example.grocery.webApi.requests.order;
+
+import com.example.grocery.entity.enums.OrderStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Siparişler ya id listesiyle ya da mevcut durum (ve isteğe bağlı oluşturulma tarihi)
+// filtresiyle seçilir.
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class BulkUpdateOrderStatusRequest {
+
+    @NotNull
+    private OrderStatus status;
+
+    private List<Long> ids;
+
+    private OrderStatus currentStatus;
+
+    private LocalDateTime createdBefore;
+}
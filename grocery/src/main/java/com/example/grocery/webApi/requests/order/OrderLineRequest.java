@@ -0,0 +1,22 @@
+package com.example.grocery.webApi.requests.order;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class OrderLineRequest {
+
+    @NotNull
+    @Min(value = 1)
+    private Long productId;
+
+    @Min(value = 1)
+    private int quantity;
+}
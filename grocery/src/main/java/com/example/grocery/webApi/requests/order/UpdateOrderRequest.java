@@ -1,8 +1,9 @@
 package com.example.grocery.webApi.requests.order;
 
-import com.example.grocery.entity.enums.OrderStatus;
 import jakarta.persistence.Transient;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -11,6 +12,7 @@ import lombok.Setter;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @AllArgsConstructor
 @NoArgsConstructor
@@ -25,15 +27,13 @@ public class UpdateOrderRequest {
     @DateTimeFormat(pattern = "yyyy-MM-dd-HH-mm-ss:")
     private LocalDateTime deliveredDate;
 
-    @NotNull
-    private OrderStatus orderStatus;
-
     @Min(value = 1)
     private Long paymentId;
 
     @Min(value = 1)
     private Long customerId;
 
-    @NotNull
-    private Long[] productIds;
+    @NotEmpty
+    @Valid
+    private List<OrderLineRequest> lines;
 }
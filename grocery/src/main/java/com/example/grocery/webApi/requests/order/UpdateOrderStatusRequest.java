@@ -0,0 +1,18 @@
+package com.example.grocery.webApi.requests.order;
+
+import com.example.grocery.entity.enums.OrderStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class UpdateOrderStatusRequest {
+
+    @NotNull
+    private OrderStatus status;
+}
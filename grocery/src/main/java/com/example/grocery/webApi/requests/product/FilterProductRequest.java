@@ -0,0 +1,40 @@
+package com.example.grocery.webApi.requests.product;
+
+import java.util.List;
+
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Boş bırakılan alanlar filtreye katılmaz; aynı alandaki id'ler VEYA, farklı
+// alanlar VE ile birleşir.
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FilterProductRequest {
+
+    @PositiveOrZero
+    private Double minPrice;
+
+    @PositiveOrZero
+    private Double maxPrice;
+
+    private List<Long> categoryIds;
+
+    private List<Long> producerIds;
+
+    private List<Long> supplierIds;
+
+    private boolean inStock;
+
+    private boolean notExpired;
+
+    private int pageNo;
+
+    private int pageSize = 20;
+
+    private String sortBy = "id";
+}
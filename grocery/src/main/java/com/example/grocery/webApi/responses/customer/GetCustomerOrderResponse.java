@@ -0,0 +1,33 @@
+package com.example.grocery.webApi.responses.customer;
+
+import java.time.LocalDateTime;
+
+import com.example.grocery.entity.enums.OrderStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class GetCustomerOrderResponse {
+
+    private Long id;
+
+    private LocalDateTime createdDate;
+
+    private LocalDateTime deliveredDate;
+
+    private OrderStatus orderStatus;
+
+    private Long paymentId;
+
+    private long lineCount;
+
+    private long itemCount;
+
+    private double totalPrice;
+}
@@ -0,0 +1,23 @@
+package com.example.grocery.webApi.responses.customer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class GetCustomerOrdersPageResponse {
+
+    private List<GetCustomerOrderResponse> orders;
+
+    // Sonraki sayfa için beforeDate ve beforeId olarak gönderilir; son sayfada null'dır.
+    private LocalDateTime nextBeforeDate;
+
+    private Long nextBeforeId;
+}
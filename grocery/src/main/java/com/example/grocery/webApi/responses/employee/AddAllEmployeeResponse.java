@@ -0,0 +1,26 @@
+package com.example.grocery.webApi.responses.employee;
+
+import com.example.grocery.entity.enums.Nationality;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class AddAllEmployeeResponse {
+
+    private String nationalIdentity;
+
+    private String firstName;
+
+    private String lastName;
+
+    private Nationality nationality;
+
+    private boolean success;
+
+    private String message;
+}
@@ -27,5 +27,7 @@ public class GetAllOrderResponse {
 
     private Long customerId;
 
-    private List<Long> productIds;
+    private List<OrderLineResponse> lines;
+
+    private double totalPrice;
 }
@@ -27,5 +27,7 @@ public class GetByIdOrderResponse {
 
     private Long customerId;
 
-    private List<Long> productIds;
+    private List<OrderLineResponse> lines;
+
+    private double totalPrice;
 }
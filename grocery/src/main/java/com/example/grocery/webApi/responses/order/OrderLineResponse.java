@@ -0,0 +1,19 @@
+package com.example.grocery.webApi.responses.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class OrderLineResponse {
+
+    private Long productId;
+
+    private int quantity;
+
+    private double unitPrice;
+}
@@ -0,0 +1,21 @@
+package com.example.grocery.webApi.responses.order;
+
+import com.example.grocery.entity.enums.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class UpdateOrderStatusResponse {
+
+    private OrderStatus status;
+
+    // Seçilen sipariş sayısı; aradaki fark geçişe izin verilmeyen durumdaki siparişlerdir.
+    private int matched;
+
+    private int updated;
+}
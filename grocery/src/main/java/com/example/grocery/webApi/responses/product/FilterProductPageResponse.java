@@ -0,0 +1,33 @@
+package com.example.grocery.webApi.responses.product;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class FilterProductPageResponse {
+
+    private long totalCount;
+
+    private int pageNo;
+
+    private int pageSize;
+
+    private List<FilterProductResponse> products;
+
+    // Her facet kendi filtresi hariç diğer tüm filtrelerle sayılır; böylece seçili
+    // bir kategori varken diğer kategorilerin kaç ürün getireceği de görünür.
+    private List<ProductFacetResponse> categories;
+
+    private List<ProductFacetResponse> producers;
+
+    private List<ProductFacetResponse> suppliers;
+
+    private long inStockCount;
+}
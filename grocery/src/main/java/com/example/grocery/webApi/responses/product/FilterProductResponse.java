@@ -0,0 +1,31 @@
+package com.example.grocery.webApi.responses.product;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class FilterProductResponse {
+
+    private Long id;
+
+    private String name;
+
+    private double price;
+
+    private int stock;
+
+    private LocalDate expirationDate;
+
+    private Long categoryId;
+
+    private Long producerId;
+
+    private Long supplierId;
+}
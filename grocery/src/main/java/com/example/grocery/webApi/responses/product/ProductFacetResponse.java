@@ -0,0 +1,19 @@
+package com.example.grocery.webApi.responses.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class ProductFacetResponse {
+
+    private Long id;
+
+    private String name;
+
+    private long count;
+}
@@ -0,0 +1,23 @@
+package com.example.grocery.webApi.responses.product;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class SearchProductPageResponse {
+
+    private long totalHits;
+
+    private int pageNo;
+
+    private int pageSize;
+
+    private List<SearchProductResponse> products;
+}
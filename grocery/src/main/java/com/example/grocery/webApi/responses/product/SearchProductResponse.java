@@ -0,0 +1,25 @@
+package com.example.grocery.webApi.responses.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class SearchProductResponse {
+
+    private Long id;
+
+    private String name;
+
+    private double price;
+
+    private String categoryName;
+
+    private String producerName;
+
+    private float score;
+}
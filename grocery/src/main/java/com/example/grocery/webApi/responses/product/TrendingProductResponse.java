@@ -0,0 +1,24 @@
+package com.example.grocery.webApi.responses.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class TrendingProductResponse {
+
+    private Long productId;
+
+    // Tahmini satış adedi; gerçek değer quantity - maxOverestimate ile
+    // quantity + maxUnderestimate arasındadır. Dilimler birleştirilirken ürünün
+    // düşürüldüğü dilimlerdeki satışlar sayılamadığı için tahmin eksik de kalabilir.
+    private long quantity;
+
+    private long maxOverestimate;
+
+    private long maxUnderestimate;
+}
@@ -0,0 +1,3 @@
+-- Aynı anahtarla farklı gövde gönderilmesini yakalamak için istek gövdesinin özeti.
+-- Önceki kayıtlarda boş kalır ve karşılaştırılmaz.
+ALTER TABLE idempotency_keys ADD COLUMN request_hash VARCHAR(64);
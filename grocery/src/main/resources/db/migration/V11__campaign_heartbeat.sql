@@ -0,0 +1,2 @@
+-- Kampanyayı çalıştıran node her checkpoint'te yeniler; eskiyen kampanya devralınır.
+ALTER TABLE campaigns ADD COLUMN heartbeat_date TIMESTAMP(6);
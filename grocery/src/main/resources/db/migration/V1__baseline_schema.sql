@@ -0,0 +1,135 @@
+-- Flyway'den önceki şema. Var olan veritabanlarında spring.flyway.baseline-on-migrate
+-- ile bu sürüm uygulanmış sayılır; boş bir veritabanında şemayı sıfırdan kurar.
+
+CREATE TABLE roles (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255)
+);
+
+CREATE TABLE users (
+    user_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    created_date_time TIMESTAMP(6) NOT NULL,
+    updated_date_time TIMESTAMP(6),
+    is_active BOOLEAN
+);
+
+CREATE TABLE user_roles (
+    user_id BIGINT NOT NULL REFERENCES users (user_id),
+    role_id BIGINT NOT NULL REFERENCES roles (id),
+    PRIMARY KEY (user_id, role_id)
+);
+
+CREATE TABLE refresh_tokens (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_fk_id BIGINT REFERENCES users (user_id),
+    token VARCHAR(255) NOT NULL UNIQUE,
+    expiry_date TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE images (
+    image_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    image_public_id VARCHAR(255),
+    image_url VARCHAR(255),
+    image_bytes INTEGER,
+    image_format VARCHAR(255),
+    image_height INTEGER,
+    image_width INTEGER
+);
+
+CREATE TABLE customers (
+    customer_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    address VARCHAR(255),
+    phone_number VARCHAR(255) NOT NULL,
+    user_fk_id BIGINT NOT NULL UNIQUE REFERENCES users (user_id),
+    image_fk_id BIGINT UNIQUE REFERENCES images (image_id)
+);
+
+CREATE TABLE individual_customers (
+    individual_customer_id BIGINT PRIMARY KEY REFERENCES customers (customer_id),
+    first_name VARCHAR(255) NOT NULL,
+    last_name VARCHAR(255) NOT NULL,
+    national_identity VARCHAR(255) UNIQUE,
+    gender VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE corporate_customers (
+    corporate_customer_id BIGINT PRIMARY KEY REFERENCES customers (customer_id),
+    company_name VARCHAR(255) NOT NULL,
+    tax_number VARCHAR(255) UNIQUE
+);
+
+CREATE TABLE employees (
+    employee_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name VARCHAR(255) NOT NULL,
+    last_name VARCHAR(255) NOT NULL,
+    national_identity VARCHAR(255) UNIQUE,
+    year_of_birth DATE NOT NULL,
+    nationality VARCHAR(255) NOT NULL,
+    gender VARCHAR(255) NOT NULL,
+    salary FLOAT(53),
+    user_fk_id BIGINT NOT NULL UNIQUE REFERENCES users (user_id),
+    image_fk_id BIGINT UNIQUE REFERENCES images (image_id)
+);
+
+CREATE TABLE categories (
+    category_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    category_name VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE producers (
+    producer_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    producer_name VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE suppliers (
+    supplier_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    supplier_name VARCHAR(255) NOT NULL,
+    address VARCHAR(255) NOT NULL,
+    phone_number VARCHAR(255) NOT NULL,
+    email VARCHAR(255)
+);
+
+CREATE TABLE products (
+    product_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    product_name VARCHAR(255) NOT NULL,
+    product_price FLOAT(53) NOT NULL,
+    product_description VARCHAR(255),
+    product_production_date DATE NOT NULL,
+    product_expiration_date DATE NOT NULL,
+    product_stock INTEGER,
+    category_fk_id BIGINT REFERENCES categories (category_id),
+    supplier_fk_id BIGINT REFERENCES suppliers (supplier_id),
+    producer_fk_id BIGINT NOT NULL REFERENCES producers (producer_id)
+);
+
+CREATE TABLE products_images (
+    products_product_id BIGINT NOT NULL REFERENCES products (product_id),
+    images_image_id BIGINT NOT NULL REFERENCES images (image_id)
+);
+
+CREATE TABLE payments (
+    payment_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    card_number VARCHAR(255) NOT NULL,
+    full_name VARCHAR(255) NOT NULL,
+    card_expiration_year INTEGER NOT NULL,
+    card_expiration_month INTEGER NOT NULL,
+    card_cvv VARCHAR(255) NOT NULL,
+    balance FLOAT(53)
+);
+
+CREATE TABLE orders (
+    order_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_date TIMESTAMP(6),
+    delivered_date TIMESTAMP(6),
+    order_status VARCHAR(255),
+    payment_fk_id BIGINT REFERENCES payments (payment_id),
+    customer_fk_id BIGINT NOT NULL REFERENCES customers (customer_id)
+);
+
+CREATE TABLE orders_products (
+    orders_order_id BIGINT NOT NULL REFERENCES orders (order_id),
+    products_product_id BIGINT NOT NULL REFERENCES products (product_id)
+);
@@ -0,0 +1,16 @@
+CREATE TABLE outbound_emails (
+    outbound_email_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email_from VARCHAR(255) NOT NULL,
+    email_to VARCHAR(255) NOT NULL,
+    subject VARCHAR(255),
+    content TEXT,
+    status VARCHAR(255) NOT NULL,
+    attempts INTEGER NOT NULL,
+    next_attempt_at TIMESTAMP(6) NOT NULL,
+    last_error VARCHAR(255),
+    created_date TIMESTAMP(6) NOT NULL,
+    sent_date TIMESTAMP(6)
+);
+
+-- EmailQueueWorker bekleyen ve zamanı gelmiş satırları bu indeks üzerinden çeker.
+CREATE INDEX idx_outbound_emails_status_next_attempt ON outbound_emails (status, next_attempt_at);
@@ -0,0 +1,12 @@
+CREATE TABLE campaigns (
+    campaign_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    subject VARCHAR(255) NOT NULL,
+    content TEXT NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    last_user_id BIGINT NOT NULL,
+    sent_count BIGINT NOT NULL,
+    failed_count BIGINT NOT NULL,
+    created_date TIMESTAMP(6) NOT NULL,
+    started_date TIMESTAMP(6),
+    finished_date TIMESTAMP(6)
+);
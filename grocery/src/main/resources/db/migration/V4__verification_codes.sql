@@ -0,0 +1,9 @@
+CREATE TABLE verification_codes (
+    email VARCHAR(255) PRIMARY KEY,
+    code VARCHAR(255) NOT NULL,
+    attempts INTEGER NOT NULL,
+    issued_at TIMESTAMP(6) NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_verification_codes_expires_at ON verification_codes (expires_at);
@@ -0,0 +1,25 @@
+-- OrderLine id'leri 50'lik bloklarla ayrılır (allocationSize = 50).
+CREATE SEQUENCE order_lines_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE order_lines (
+    order_line_id BIGINT PRIMARY KEY,
+    order_fk_id BIGINT NOT NULL REFERENCES orders (order_id),
+    product_fk_id BIGINT NOT NULL REFERENCES products (product_id),
+    quantity INTEGER NOT NULL,
+    unit_price FLOAT(53) NOT NULL
+);
+
+CREATE INDEX idx_order_lines_order ON order_lines (order_fk_id);
+
+-- Eski join tablosunda aynı ürün adet kadar tekrar eden satırlardı. Her sipariş-ürün
+-- çifti tek satıra indirilir; adet tekrar sayısıdır. Sipariş anındaki fiyat
+-- saklanmadığı için birim fiyat ürünün güncel fiyatıdır.
+INSERT INTO order_lines (order_line_id, order_fk_id, product_fk_id, quantity, unit_price)
+SELECT nextval('order_lines_seq'), grouped.order_id, grouped.product_id, grouped.quantity, p.product_price
+FROM (SELECT op.orders_order_id AS order_id, op.products_product_id AS product_id, COUNT(*) AS quantity
+      FROM orders_products op
+      GROUP BY op.orders_order_id, op.products_product_id) grouped
+JOIN products p ON p.product_id = grouped.product_id
+ORDER BY grouped.order_id, grouped.product_id;
+
+DROP TABLE orders_products;
@@ -0,0 +1,12 @@
+-- Idempotency-Key başlığıyla gelen isteklerin kaydedilmiş yanıtları.
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(512) PRIMARY KEY,
+    status INTEGER NOT NULL,
+    content_type VARCHAR(255),
+    body TEXT,
+    created_at TIMESTAMP(6) NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL
+);
+
+-- Süresi dolan kayıtlar temizlenirken expires_at üzerinden aranır.
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
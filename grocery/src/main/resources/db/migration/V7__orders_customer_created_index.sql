@@ -0,0 +1,2 @@
+-- Müşterinin sipariş geçmişi bu indeks üzerinde geriye doğru taranarak sayfalanır.
+CREATE INDEX idx_orders_customer_created ON orders (customer_fk_id, created_date, order_id);
@@ -0,0 +1,18 @@
+-- Günlük satış özetleri; her boyut için gün ve anahtar başına tek satır.
+CREATE TABLE sales_rollups (
+    dimension VARCHAR(20) NOT NULL,
+    sales_day DATE NOT NULL,
+    dimension_key VARCHAR(20) NOT NULL,
+    order_count BIGINT NOT NULL,
+    units BIGINT NOT NULL,
+    revenue FLOAT(53) NOT NULL,
+    PRIMARY KEY (dimension, sales_day, dimension_key)
+);
+
+-- Siparişi değişen ve özeti yeniden hesaplanacak günler.
+CREATE TABLE sales_rollup_dirty_days (
+    dirty_day DATE PRIMARY KEY
+);
+
+-- Özetler gün aralığıyla sipariş tablosundan okunur.
+CREATE INDEX idx_orders_created ON orders (created_date);
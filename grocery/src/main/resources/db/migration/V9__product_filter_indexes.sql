@@ -0,0 +1,6 @@
+-- Fiyat aralığı, kategori, üretici, tedarikçi ve son kullanma tarihi filtreleri için.
+CREATE INDEX idx_products_price ON products (product_price);
+CREATE INDEX idx_products_category_price ON products (category_fk_id, product_price);
+CREATE INDEX idx_products_producer ON products (producer_fk_id);
+CREATE INDEX idx_products_supplier ON products (supplier_fk_id);
+CREATE INDEX idx_products_expiration ON products (product_expiration_date);
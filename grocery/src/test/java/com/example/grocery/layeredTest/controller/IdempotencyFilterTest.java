@@ -0,0 +1,163 @@
+package com.example.grocery.layeredTest.controller;
+
+import com.example.grocery.core.idempotency.IdempotencyFilter;
+import com.example.grocery.core.idempotency.store.InMemoryIdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class IdempotencyFilterTest {
+
+    private static final int DUPLICATES = 16;
+
+    private IdempotencyFilter idempotencyFilter;
+
+    private AtomicInteger executions;
+
+    @BeforeEach
+    public void setUp() {
+        idempotencyFilter = new IdempotencyFilter(new InMemoryIdempotencyStore(1000), new ObjectMapper());
+        ReflectionTestUtils.setField(idempotencyFilter, "paths", List.of("/api/order/add", "/api/payment/add"));
+        ReflectionTestUtils.setField(idempotencyFilter, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(idempotencyFilter, "waitTimeoutMs", 5000L);
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    public void parallelDuplicatesShouldRunOnceAndShareResponse() throws Exception {
+        FilterChain slowOrderCreation = (request, response) -> {
+            int order = executions.incrementAndGet();
+            sleep(200);
+            response.setContentType("application/json");
+            response.getWriter().write("{\"success\":true,\"message\":\"order " + order + "\"}");
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(DUPLICATES);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<MockHttpServletResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < DUPLICATES; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                idempotencyFilter.doFilter(post("/api/order/add", "key-1"), response, slowOrderCreation);
+                return response;
+            }));
+        }
+        start.countDown();
+
+        List<MockHttpServletResponse> responses = new ArrayList<>();
+        for (Future<MockHttpServletResponse> future : futures) {
+            responses.add(future.get());
+        }
+        executor.shutdown();
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(responses).allSatisfy(response -> {
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getContentAsString()).isEqualTo("{\"success\":true,\"message\":\"order 1\"}");
+        });
+        assertThat(responses).filteredOn(response -> "true".equals(response.getHeader("Idempotent-Replayed")))
+                .hasSize(DUPLICATES - 1);
+    }
+
+    @Test
+    public void laterRetryShouldReplayStoredResponse() throws Exception {
+        FilterChain paymentCreation = (request, response) -> {
+            executions.incrementAndGet();
+            response.getWriter().write("{\"success\":true}");
+        };
+
+        idempotencyFilter.doFilter(post("/api/payment/add", "key-2"), new MockHttpServletResponse(), paymentCreation);
+        MockHttpServletResponse retry = new MockHttpServletResponse();
+        idempotencyFilter.doFilter(post("/api/payment/add", "key-2"), retry, paymentCreation);
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(retry.getContentAsString()).isEqualTo("{\"success\":true}");
+        assertThat(retry.getHeader("Idempotent-Replayed")).isEqualTo("true");
+    }
+
+    @Test
+    public void sameKeyWithDifferentBodyShouldBeRejected() throws Exception {
+        FilterChain orderCreation = (request, response) -> {
+            executions.incrementAndGet();
+            response.getWriter().write(new String(request.getInputStream().readAllBytes()));
+        };
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        idempotencyFilter.doFilter(post("/api/order/add", "key-5", "{\"customerId\":1}"), first, orderCreation);
+        MockHttpServletResponse sameBody = new MockHttpServletResponse();
+        idempotencyFilter.doFilter(post("/api/order/add", "key-5", "{\"customerId\":1}"), sameBody, orderCreation);
+        MockHttpServletResponse otherBody = new MockHttpServletResponse();
+        idempotencyFilter.doFilter(post("/api/order/add", "key-5", "{\"customerId\":2}"), otherBody, orderCreation);
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(first.getContentAsString()).isEqualTo("{\"customerId\":1}");
+        assertThat(sameBody.getContentAsString()).isEqualTo("{\"customerId\":1}");
+        assertThat(otherBody.getStatus()).isEqualTo(422);
+        assertThat(otherBody.getHeader("Idempotent-Replayed")).isNull();
+    }
+
+    @Test
+    public void failedResponseShouldNotBeStored() throws Exception {
+        FilterChain failingOrderCreation = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(400);
+        };
+
+        idempotencyFilter.doFilter(post("/api/order/add", "key-3"), new MockHttpServletResponse(), failingOrderCreation);
+        idempotencyFilter.doFilter(post("/api/order/add", "key-3"), new MockHttpServletResponse(), failingOrderCreation);
+
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void requestsWithoutKeyOrOnOtherPathsShouldPassThrough() throws Exception {
+        FilterChain chain = (request, response) -> executions.incrementAndGet();
+
+        MockHttpServletRequest withoutKey = new MockHttpServletRequest("POST", "/api/order/add");
+        idempotencyFilter.doFilter(withoutKey, new MockHttpServletResponse(), chain);
+        idempotencyFilter.doFilter(withoutKey, new MockHttpServletResponse(), chain);
+        idempotencyFilter.doFilter(post("/api/product/add", "key-4"), new MockHttpServletResponse(), chain);
+        idempotencyFilter.doFilter(post("/api/product/add", "key-4"), new MockHttpServletResponse(), chain);
+
+        assertThat(executions.get()).isEqualTo(4);
+    }
+
+    private MockHttpServletRequest post(String path, String idempotencyKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.addHeader(IdempotencyFilter.HEADER, idempotencyKey);
+        return request;
+    }
+
+    private MockHttpServletRequest post(String path, String idempotencyKey, String body) {
+        MockHttpServletRequest request = post(path, idempotencyKey);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
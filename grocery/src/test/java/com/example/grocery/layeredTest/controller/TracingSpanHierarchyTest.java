@@ -0,0 +1,105 @@
+package com.example.grocery.layeredTest.controller;
+
+import com.example.grocery.business.concretes.PaymentManager;
+import com.example.grocery.core.monitoring.TracingAspect;
+import com.example.grocery.core.utilities.mapper.ModelMapperImpl;
+import com.example.grocery.dataAccess.abstracts.PaymentRepository;
+import com.example.grocery.outservices.debitCardValidator.DebitCardValidationManager;
+import com.example.grocery.outservices.debitCardValidator.fakeDebitCardValidator.FakeDebitCardValidator;
+import com.example.grocery.webApi.controller.PaymentsController;
+import com.example.grocery.webApi.requests.payment.CreatePaymentRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.tracing.otel.bridge.OtelBaggageManager;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+// TracingAspect'in açtığı span'ler bellekteki bir exporter'a yazılır; controller ->
+// manager -> dış servis zincirinin tek bir trace içinde iç içe olduğu doğrulanır.
+public class TracingSpanHierarchyTest {
+
+    private static final AttributeKey<String> COMPONENT = AttributeKey.stringKey("component");
+
+    private InMemorySpanExporter spanExporter;
+    private SdkTracerProvider tracerProvider;
+    private PaymentsController paymentsController;
+
+    @BeforeEach
+    public void setUp() {
+        spanExporter = InMemorySpanExporter.create();
+        tracerProvider = SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+                .build();
+        OtelCurrentTraceContext currentTraceContext = new OtelCurrentTraceContext();
+        TracingAspect tracingAspect = new TracingAspect(new OtelTracer(tracerProvider.get("grocery"),
+                currentTraceContext, event -> {
+                }, new OtelBaggageManager(currentTraceContext, List.of(), List.of())));
+
+        FakeDebitCardValidator fakeDebitCardValidator = mock(FakeDebitCardValidator.class);
+        given(fakeDebitCardValidator.cardValidate(anyString(), anyString(), anyInt(), anyInt(), anyString()))
+                .willReturn(true);
+
+        PaymentManager paymentManager = new PaymentManager();
+        ReflectionTestUtils.setField(paymentManager, "paymentRepository", mock(PaymentRepository.class));
+        ReflectionTestUtils.setField(paymentManager, "mapperService", new ModelMapperImpl());
+        ReflectionTestUtils.setField(paymentManager, "debitCardValidationService",
+                traced(new DebitCardValidationManager(fakeDebitCardValidator), tracingAspect));
+
+        PaymentsController controller = new PaymentsController();
+        ReflectionTestUtils.setField(controller, "paymentService", traced(paymentManager, tracingAspect));
+        paymentsController = traced(controller, tracingAspect);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    public void controllerManagerAndOutboundSpansShouldBeNested() {
+        paymentsController.add(new CreatePaymentRequest("4242424242424242", "Ayşe Yılmaz", 2030, 12, "123", 100));
+
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        assertThat(spans).hasSize(3);
+        SpanData controller = span(spans, "PaymentsController.add");
+        SpanData manager = span(spans, "PaymentManager.add");
+        SpanData outbound = span(spans, "DebitCardValidationManager.checkIfRealDebitCard");
+
+        assertThat(controller.getParentSpanContext().isValid()).isFalse();
+        assertThat(manager.getParentSpanId()).isEqualTo(controller.getSpanId());
+        assertThat(outbound.getParentSpanId()).isEqualTo(manager.getSpanId());
+        assertThat(spans).extracting(SpanData::getTraceId).containsOnly(controller.getTraceId());
+        assertThat(controller.getAttributes().get(COMPONENT)).isEqualTo("controller");
+        assertThat(manager.getAttributes().get(COMPONENT)).isEqualTo("manager");
+        assertThat(outbound.getAttributes().get(COMPONENT)).isEqualTo("outbound");
+    }
+
+    // Uygulamadaki gibi sınıf tabanlı (CGLIB) proxy; span adları sınıf adını taşır.
+    @SuppressWarnings("unchecked")
+    private static <T> T traced(T target, TracingAspect tracingAspect) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(tracingAspect);
+        return (T) proxyFactory.getProxy();
+    }
+
+    private static SpanData span(List<SpanData> spans, String name) {
+        return spans.stream().filter(span -> span.getName().equals(name)).findFirst().orElseThrow();
+    }
+}
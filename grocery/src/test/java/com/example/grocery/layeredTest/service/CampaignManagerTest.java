@@ -0,0 +1,170 @@
+package com.example.grocery.layeredTest.service;
+
+import com.example.grocery.core.mailing.enums.CampaignStatus;
+import com.example.grocery.core.mailing.helper.SendRateLimiter;
+import com.example.grocery.core.mailing.model.Campaign;
+import com.example.grocery.core.mailing.model.Recipient;
+import com.example.grocery.core.mailing.repository.CampaignRepository;
+import com.example.grocery.core.mailing.service.CampaignManager;
+import com.example.grocery.core.utilities.exceptions.BusinessException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class CampaignManagerTest {
+
+    private CampaignRepository campaignRepository;
+
+    private Executor campaignExecutor;
+
+    private CampaignManager campaignManager;
+
+    @BeforeEach
+    public void setUp() {
+        campaignRepository = mock(CampaignRepository.class);
+        campaignExecutor = mock(Executor.class);
+        campaignManager = new CampaignManager(campaignRepository, mock(JavaMailSender.class),
+                mock(SendRateLimiter.class), campaignExecutor, mock(Executor.class), new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void startShouldQueueRunOnlyWhenStatusUpdateSucceeds() {
+        given(campaignRepository.markRunning(eq(1L), any(), eq(CampaignStatus.RUNNING), any())).willReturn(1);
+        given(campaignRepository.findById(1L)).willReturn(Optional.of(campaign(CampaignStatus.RUNNING)));
+
+        assertThat(campaignManager.start(1L).isSuccess()).isTrue();
+        verify(campaignExecutor).execute(any());
+    }
+
+    @Test
+    public void startingRunningCampaignShouldBeRejected() {
+        given(campaignRepository.markRunning(eq(1L), any(), eq(CampaignStatus.RUNNING), any())).willReturn(0);
+        given(campaignRepository.findById(1L)).willReturn(Optional.of(campaign(CampaignStatus.RUNNING)));
+
+        assertThatThrownBy(() -> campaignManager.start(1L)).isInstanceOf(BusinessException.class)
+                .hasMessageContaining("already running");
+        verify(campaignExecutor, never()).execute(any());
+    }
+
+    @Test
+    public void startingCompletedCampaignShouldBeRejected() {
+        given(campaignRepository.markRunning(eq(1L), any(), eq(CampaignStatus.RUNNING), any())).willReturn(0);
+        given(campaignRepository.findById(1L)).willReturn(Optional.of(campaign(CampaignStatus.COMPLETED)));
+
+        assertThatThrownBy(() -> campaignManager.start(1L)).isInstanceOf(BusinessException.class)
+                .hasMessageContaining("completed");
+        verify(campaignExecutor, never()).execute(any());
+    }
+
+    @Test
+    public void resumeShouldRunOnlyCampaignsThisNodeClaims() {
+        Campaign claimed = campaign(CampaignStatus.RUNNING);
+        Campaign taken = new Campaign(2L, "Kampanya", "İçerik", CampaignStatus.RUNNING, 0L, 0, 0,
+                LocalDateTime.now(), LocalDateTime.now(), null, LocalDateTime.now());
+        given(campaignRepository.findByStatus(CampaignStatus.RUNNING)).willReturn(List.of(claimed, taken));
+        given(campaignRepository.claimStaleRun(eq(1L), eq(CampaignStatus.RUNNING), any(), any())).willReturn(1);
+        given(campaignRepository.claimStaleRun(eq(2L), eq(CampaignStatus.RUNNING), any(), any())).willReturn(0);
+        given(campaignRepository.findById(1L)).willReturn(Optional.of(claimed));
+
+        campaignManager.resumeRunningCampaigns();
+
+        verify(campaignExecutor).execute(any());
+        verify(campaignRepository, never()).findById(2L);
+    }
+
+    @Test
+    public void failedBatchShouldPauseAfterInFlightBatchesWithoutAdvancingCheckpoint() throws Exception {
+        ExecutorService senderExecutor = Executors.newFixedThreadPool(2);
+        JavaMailSender javaMailSender = mock(JavaMailSender.class);
+        CountDownLatch secondBatchStarted = new CountDownLatch(1);
+        AtomicBoolean secondBatchFinished = new AtomicBoolean();
+        willAnswer(invocation -> {
+            SimpleMailMessage message = invocation.getArgument(0);
+            if (message.getTo()[0].startsWith("1@")) {
+                // İkinci batch gönderime başlamadan birinci batch'in hatası kampanyayı durdurmasın.
+                secondBatchStarted.await(5, TimeUnit.SECONDS);
+                throw new MailSendException("smtp down");
+            }
+            secondBatchStarted.countDown();
+            Thread.sleep(200);
+            secondBatchFinished.set(true);
+            return null;
+        }).given(javaMailSender).send(any(SimpleMailMessage[].class));
+
+        Campaign campaign = campaign(CampaignStatus.RUNNING);
+        AtomicBoolean pausedAfterInFlight = new AtomicBoolean();
+        given(campaignRepository.markRunning(eq(1L), any(), eq(CampaignStatus.RUNNING), any())).willReturn(1);
+        given(campaignRepository.findById(1L)).willReturn(Optional.of(campaign));
+        given(campaignRepository.findRecipientsAfter(eq(500L), any())).willReturn(List.of(recipient(1L)));
+        given(campaignRepository.findRecipientsAfter(eq(1L), any())).willReturn(List.of(recipient(2L)));
+        given(campaignRepository.findRecipientsAfter(eq(2L), any())).willReturn(List.of());
+        given(campaignRepository.save(any())).willAnswer(invocation -> {
+            pausedAfterInFlight.set(campaign.getStatus() == CampaignStatus.PAUSED && secondBatchFinished.get());
+            return campaign;
+        });
+
+        CampaignManager manager = new CampaignManager(campaignRepository, javaMailSender,
+                new SendRateLimiter(1_000_000), campaignExecutor, senderExecutor, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(manager, "batchSize", 1);
+        ReflectionTestUtils.setField(manager, "senders", 2);
+        manager.start(1L);
+        ArgumentCaptor<Runnable> run = ArgumentCaptor.forClass(Runnable.class);
+        verify(campaignExecutor).execute(run.capture());
+        try {
+            run.getValue().run();
+        } finally {
+            senderExecutor.shutdownNow();
+        }
+
+        assertThat(campaign.getStatus()).isEqualTo(CampaignStatus.PAUSED);
+        assertThat(pausedAfterInFlight).isTrue();
+        assertThat(campaign.getLastUserId()).isEqualTo(500L);
+        assertThat(campaign.getSentCount()).isEqualTo(500);
+    }
+
+    private static Campaign campaign(CampaignStatus status) {
+        return new Campaign(1L, "Kampanya", "İçerik", status, 500L, 500, 0, LocalDateTime.now(),
+                LocalDateTime.now(), null, null);
+    }
+
+    private static Recipient recipient(Long id) {
+        return new Recipient() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getEmail() {
+                return id + "@example.com";
+            }
+        };
+    }
+}
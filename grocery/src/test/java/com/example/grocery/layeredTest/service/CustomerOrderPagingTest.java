@@ -0,0 +1,117 @@
+package com.example.grocery.layeredTest.service;
+
+import com.example.grocery.business.concretes.CustomerManager;
+import com.example.grocery.core.utilities.exceptions.BusinessException;
+import com.example.grocery.dataAccess.abstracts.CustomerRepository;
+import com.example.grocery.dataAccess.abstracts.OrderRepository;
+import com.example.grocery.webApi.responses.customer.GetCustomerOrderResponse;
+import com.example.grocery.webApi.responses.customer.GetCustomerOrdersPageResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Müşteri sipariş geçmişinin cursor sayfalaması H2 üzerinde (PostgreSQL modu) gerçek
+// sorguyla denenir. Siparişlerin çoğu aynı zamanda verilmiştir; sıra id ile ayrılır.
+public class CustomerOrderPagingTest {
+
+    private static final LocalDateTime SAME_TIME = LocalDateTime.of(2023, 3, 2, 9, 0);
+
+    private H2JpaFixture fixture;
+    private CustomerManager customerManager;
+
+    @BeforeEach
+    public void setUp() {
+        fixture = new H2JpaFixture("customerorders").seedCustomer().seedProducts();
+        fixture.execute("INSERT INTO users (user_id, username, email, password, created_date_time, is_active) "
+                + "VALUES (2, 'veli', 'veli@example.com', 'secret', '2023-03-01 09:00:00', TRUE)",
+                "INSERT INTO customers (customer_id, phone_number, user_fk_id) VALUES (2, '556', 2)",
+                // Müşteri 1: 1 önce, 2-6 aynı anda, 7 sonra. Müşteri 2'nin siparişi araya karışmamalı.
+                "INSERT INTO orders (order_id, created_date, order_status, customer_fk_id) VALUES "
+                        + "(1, '2023-03-01 09:00:00', 'WAS_DELIVERED', 1), "
+                        + "(2, '2023-03-02 09:00:00', 'ORDER_TAKEN', 1), "
+                        + "(3, '2023-03-02 09:00:00', 'ORDER_TAKEN', 1), "
+                        + "(4, '2023-03-02 09:00:00', 'ORDER_TAKEN', 2), "
+                        + "(5, '2023-03-02 09:00:00', 'ORDER_TAKEN', 1), "
+                        + "(6, '2023-03-02 09:00:00', 'ORDER_TAKEN', 1), "
+                        + "(7, '2023-03-02 09:00:00', 'ORDER_TAKEN', 1), "
+                        + "(8, '2023-03-03 09:00:00', 'ORDER_TAKEN', 1)",
+                "INSERT INTO order_lines (order_line_id, order_fk_id, product_fk_id, quantity, unit_price) "
+                        + "VALUES (1, 5, 1, 3, 5.0), (2, 5, 2, 1, 10.0)");
+
+        customerManager = new CustomerManager();
+        ReflectionTestUtils.setField(customerManager, "customerRepository",
+                fixture.repository(CustomerRepository.class));
+        ReflectionTestUtils.setField(customerManager, "orderRepository", fixture.repository(OrderRepository.class));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Test
+    public void pagingThroughEqualTimestampsShouldNeitherSkipNorRepeat() {
+        List<Long> seen = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        GetCustomerOrdersPageResponse page = customerManager.getOrders(1L, null, null, 2).getData();
+        pageSizes.add(page.getOrders().size());
+        page.getOrders().forEach(order -> seen.add(order.getId()));
+        while (page.getNextBeforeId() != null) {
+            page = customerManager.getOrders(1L, page.getNextBeforeDate(), page.getNextBeforeId(), 2).getData();
+            pageSizes.add(page.getOrders().size());
+            page.getOrders().forEach(order -> seen.add(order.getId()));
+        }
+
+        assertThat(seen).containsExactly(8L, 7L, 6L, 5L, 3L, 2L, 1L);
+        assertThat(pageSizes).containsExactly(2, 2, 2, 1);
+    }
+
+    @Test
+    public void cursorShouldContinueInsideTheSameTimestamp() {
+        GetCustomerOrdersPageResponse page = customerManager.getOrders(1L, SAME_TIME, 6L, 10).getData();
+
+        assertThat(page.getOrders()).extracting(GetCustomerOrderResponse::getId).containsExactly(5L, 3L, 2L, 1L);
+        assertThat(page.getNextBeforeDate()).isNull();
+        assertThat(page.getNextBeforeId()).isNull();
+    }
+
+    @Test
+    public void fullLastPageShouldNotReportNextCursor() {
+        // Tam 7 sipariş; fazladan okunan satır olmadığından sonraki sayfa yoktur.
+        GetCustomerOrdersPageResponse exact = customerManager.getOrders(1L, null, null, 7).getData();
+        GetCustomerOrdersPageResponse shorter = customerManager.getOrders(1L, null, null, 6).getData();
+
+        assertThat(exact.getOrders()).hasSize(7);
+        assertThat(exact.getNextBeforeId()).isNull();
+        assertThat(shorter.getOrders()).hasSize(6);
+        assertThat(shorter.getNextBeforeDate()).isEqualTo(SAME_TIME);
+        assertThat(shorter.getNextBeforeId()).isEqualTo(2L);
+    }
+
+    @Test
+    public void orderTotalsShouldBeReadWithPage() {
+        GetCustomerOrderResponse order = customerManager.getOrders(1L, SAME_TIME, 6L, 1).getData().getOrders().get(0);
+
+        assertThat(order.getId()).isEqualTo(5L);
+        assertThat(order.getLineCount()).isEqualTo(2);
+        assertThat(order.getItemCount()).isEqualTo(4);
+        assertThat(order.getTotalPrice()).isEqualTo(25.0);
+    }
+
+    @Test
+    public void cursorHalvesShouldBeGivenTogether() {
+        assertThatThrownBy(() -> customerManager.getOrders(1L, SAME_TIME, null, 2))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> customerManager.getOrders(1L, null, 6L, 2))
+                .isInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.grocery.layeredTest.service;
+
+import com.example.grocery.core.mailing.enums.MailStatus;
+import com.example.grocery.core.mailing.model.OutboundEmail;
+import com.example.grocery.core.mailing.repository.OutboundEmailRepository;
+import com.example.grocery.core.mailing.service.EmailQueueWorker;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+public class EmailQueueWorkerTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Mock
+    private OutboundEmailRepository outboundEmailRepository;
+
+    private OutboundEmail email, email2;
+
+    @BeforeEach
+    public void setUp() {
+        email = pendingEmail(1L, "first@grocery.com", 0);
+        email2 = pendingEmail(2L, "second@grocery.com", 0);
+    }
+
+    @Test
+    public void pendingBatchShouldBeSentOverOneSession() throws Exception {
+        given(outboundEmailRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(eq(MailStatus.PENDING),
+                any(LocalDateTime.class), any(Pageable.class))).willReturn(List.of(email, email2));
+
+        worker(greenMail.getSmtp().getPort()).drain();
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(2);
+        assertThat(email.getStatus()).isEqualTo(MailStatus.SENT);
+        assertThat(email2.getStatus()).isEqualTo(MailStatus.SENT);
+        assertThat(email.getSentDate()).isNotNull();
+    }
+
+    @Test
+    public void unreachableServerShouldScheduleRetryWithBackoff() throws Exception {
+        given(outboundEmailRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(eq(MailStatus.PENDING),
+                any(LocalDateTime.class), any(Pageable.class))).willReturn(List.of(email));
+
+        greenMail.stop();
+        worker(greenMail.getSmtp().getPort()).drain();
+
+        assertThat(email.getStatus()).isEqualTo(MailStatus.PENDING);
+        assertThat(email.getAttempts()).isEqualTo(1);
+        assertThat(email.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(email.getLastError()).isNotNull();
+    }
+
+    @Test
+    public void lastAttemptFailureShouldDeadLetter() throws Exception {
+        OutboundEmail exhausted = pendingEmail(3L, "third@grocery.com", 4);
+        given(outboundEmailRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(eq(MailStatus.PENDING),
+                any(LocalDateTime.class), any(Pageable.class))).willReturn(List.of(exhausted));
+
+        greenMail.stop();
+        worker(greenMail.getSmtp().getPort()).drain();
+
+        assertThat(exhausted.getStatus()).isEqualTo(MailStatus.DEAD);
+        assertThat(exhausted.getAttempts()).isEqualTo(5);
+    }
+
+    private EmailQueueWorker worker(int port) {
+        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost("localhost");
+        javaMailSender.setPort(port);
+
+        EmailQueueWorker worker = new EmailQueueWorker(outboundEmailRepository, javaMailSender);
+        ReflectionTestUtils.setField(worker, "batchSize", 50);
+        ReflectionTestUtils.setField(worker, "maxAttempts", 5);
+        ReflectionTestUtils.setField(worker, "backoffMs", 30000L);
+        return worker;
+    }
+
+    private OutboundEmail pendingEmail(Long id, String emailTo, int attempts) {
+        return OutboundEmail.builder()
+                .id(id).emailFrom("omer@grocery.com").emailTo(emailTo)
+                .subject("Grocery - Validation Code").content("Hello")
+                .status(MailStatus.PENDING).attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now()).createdDate(LocalDateTime.now()).build();
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.grocery.layeredTest.service;
+
+import com.example.grocery.business.abstracts.EmployeeService;
+import com.example.grocery.business.abstracts.PhotoService;
+import com.example.grocery.business.concretes.EmployeeManager;
+import com.example.grocery.business.constants.Messages.ErrorMessages;
+import com.example.grocery.core.security.services.UserService;
+import com.example.grocery.core.utilities.mapper.MapperService;
+import com.example.grocery.core.utilities.mapper.ModelMapperImpl;
+import com.example.grocery.core.utilities.results.Result;
+import com.example.grocery.core.utilities.results.SuccessResult;
+import com.example.grocery.core.validation.mernisValidation.MernisValidationService;
+import com.example.grocery.dataAccess.abstracts.EmployeeRepository;
+import com.example.grocery.entity.concretes.Employee;
+import com.example.grocery.entity.enums.Gender;
+import com.example.grocery.entity.enums.Nationality;
+import com.example.grocery.webApi.requests.employee.CreateAllEmployeeRequest;
+import com.example.grocery.webApi.requests.employee.CreateEmployeeRequest;
+import com.example.grocery.webApi.responses.employee.AddAllEmployeeResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeImportTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private MapperService mapperService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private PhotoService photoService;
+
+    @Mock
+    private MernisValidationService mernisValidationService;
+
+    @InjectMocks
+    private EmployeeManager employeeManager;
+
+    @BeforeEach
+    public void setUp() {
+        lenient().when(mapperService.getModelMapper()).thenAnswer(invocation -> new ModelMapperImpl().getModelMapper());
+        lenient().when(mernisValidationService.validateAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(new SuccessResult()));
+    }
+
+    @Test
+    public void imageRepeatedInBatchShouldBeRejected() {
+        List<AddAllEmployeeResponse> responses = employeeManager.addAll(new CreateAllEmployeeRequest(List.of(
+                employee("10000000146", 1L, 5L), employee("10000000147", 2L, 5L)))).getData();
+
+        assertThat(responses).extracting(AddAllEmployeeResponse::isSuccess).containsExactly(true, false);
+        assertThat(responses.get(1).getMessage()).isEqualTo(ErrorMessages.IMAGE_ID_REPEATED);
+        assertThat(saved()).hasSize(1);
+    }
+
+    @Test
+    public void imageUsedByExistingEmployeeShouldBeRejected() {
+        given(employeeRepository.existsByImage_Id(5L)).willReturn(true);
+
+        List<AddAllEmployeeResponse> responses = employeeManager.addAll(new CreateAllEmployeeRequest(List.of(
+                employee("10000000146", 1L, 5L), employee("10000000147", 2L, 6L)))).getData();
+
+        assertThat(responses).extracting(AddAllEmployeeResponse::isSuccess).containsExactly(false, true);
+        assertThat(responses.get(0).getMessage()).isEqualTo(ErrorMessages.IMAGE_ID_REPEATED);
+        assertThat(responses.get(1).getNationality()).isEqualTo(Nationality.TURKISH);
+        assertThat(saved()).extracting(Employee::getNationalIdentity).containsExactly("10000000147");
+    }
+
+    @Test
+    public void mernisFailureShouldOnlyRejectItsOwnRecord() {
+        given(mernisValidationService.validateAsync(any()))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("Mernis down")),
+                        CompletableFuture.completedFuture(new SuccessResult()));
+
+        List<AddAllEmployeeResponse> responses = employeeManager.addAll(new CreateAllEmployeeRequest(List.of(
+                employee("10000000146", 1L, 5L), employee("10000000147", 2L, 6L)))).getData();
+
+        assertThat(responses).extracting(AddAllEmployeeResponse::isSuccess).containsExactly(false, true);
+        assertThat(saved()).hasSize(1);
+    }
+
+    // Mernis yanıtları beklenirken veritabanı transaction'ı açık tutulmaz. Manager, Spring'deki
+    // gibi @Transactional'ı uygulayan bir proxy arkasından çağrılır; her join() anındaki
+    // transaction durumu kaydedilir.
+    @Test
+    public void importShouldNotWaitForMernisInsideTransaction() {
+        List<Boolean> transactionActiveWhileAwaiting = new CopyOnWriteArrayList<>();
+        given(mernisValidationService.validateAsync(any())).willAnswer(invocation -> {
+            CompletableFuture<Result> validation = new CompletableFuture<>() {
+                @Override
+                public Result join() {
+                    transactionActiveWhileAwaiting.add(TransactionSynchronizationManager.isActualTransactionActive());
+                    return super.join();
+                }
+            };
+            validation.complete(new SuccessResult());
+            return validation;
+        });
+
+        transactional(employeeManager).addAll(new CreateAllEmployeeRequest(List.of(
+                employee("10000000146", 1L, 5L), employee("10000000147", 2L, 6L))));
+
+        assertThat(transactionActiveWhileAwaiting).containsExactly(false, false);
+        assertThat(saved()).hasSize(2);
+    }
+
+    private static EmployeeService transactional(EmployeeService target) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setInterfaces(EmployeeService.class);
+        proxyFactory.addAdvice(new TransactionInterceptor(new NoOpTransactionManager(),
+                new AnnotationTransactionAttributeSource()));
+        return (EmployeeService) proxyFactory.getProxy();
+    }
+
+    // Veritabanı olmadan transaction senkronizasyonunu gerçek yöneticiler gibi başlatır.
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Employee> saved() {
+        ArgumentCaptor<List<Employee>> captor = ArgumentCaptor.forClass(List.class);
+        verify(employeeRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    private static CreateEmployeeRequest employee(String nationalIdentity, Long userId, Long imageId) {
+        return new CreateEmployeeRequest("Ayşe", "Yılmaz", Gender.FEMALE, nationalIdentity, LocalDate.of(1990, 1, 1),
+                Nationality.TURKISH, 20000, userId, imageId);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.grocery.layeredTest.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// Depo testleri için H2 (PostgreSQL modu) üzerinde gerçek Hibernate eşlemesi ve ortak örnek veri.
+// Şema her fixture için entity'lerden kurulur ve close() ile silinir.
+public class H2JpaFixture {
+
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityManager entityManager;
+
+    public H2JpaFixture(String databaseName) {
+        this(databaseName, Map.of());
+    }
+
+    public H2JpaFixture(String databaseName, Map<String, String> jpaProperties) {
+        this(dataSource(databaseName), jpaProperties);
+    }
+
+    public H2JpaFixture(DataSource dataSource, Map<String, String> jpaProperties) {
+        this.dataSource = dataSource;
+        Map<String, Object> properties = new HashMap<>(jpaProperties);
+        properties.put("hibernate.hbm2ddl.auto", "create-drop");
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.example.grocery.entity.concretes",
+                "com.example.grocery.core.security.models");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(properties);
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+    }
+
+    public static DataSource dataSource(String databaseName) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + databaseName
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    public EntityManagerFactory entityManagerFactory() {
+        return entityManagerFactory;
+    }
+
+    public EntityManager entityManager() {
+        return entityManager;
+    }
+
+    // Depo fixture'ın kendi EntityManager'ını kullanır; transaction'lar inTransaction ile açılır.
+    public <T> T repository(Class<T> repositoryType) {
+        return new JpaRepositoryFactory(entityManager).getRepository(repositoryType);
+    }
+
+    // Özel arayüzleri olan depolar için (ör. ProductRepository) uygulamalar elle verilir.
+    public <T> T repository(Class<T> repositoryType, Object... fragments) {
+        return new JpaRepositoryFactory(entityManager).getRepository(repositoryType,
+                RepositoryFragments.just(fragments));
+    }
+
+    // Kullanıcı 1 ve ona bağlı müşteri 1.
+    public H2JpaFixture seedCustomer() {
+        execute("INSERT INTO users (user_id, username, email, password, created_date_time, is_active) "
+                + "VALUES (1, 'ali', 'ali@example.com', 'secret', '2023-03-01 09:00:00', TRUE)",
+                "INSERT INTO customers (customer_id, phone_number, user_fk_id) VALUES (1, '555', 1)");
+        return this;
+    }
+
+    // Üretici 1 ve ürünler 1 (Peynir, 5.0) ile 2 (Ekmek, 10.0); stokları 10.
+    public H2JpaFixture seedProducts() {
+        execute("INSERT INTO producers (producer_id, producer_name) VALUES (1, 'Producer')",
+                "INSERT INTO products (product_id, product_name, product_price, product_production_date, "
+                        + "product_expiration_date, product_stock, producer_fk_id) "
+                        + "VALUES (1, 'Peynir', 5.0, '2023-01-01', '2023-06-01', 10, 1), "
+                        + "(2, 'Ekmek', 10.0, '2023-01-01', '2023-06-01', 10, 1)");
+        return this;
+    }
+
+    public void execute(String... statements) {
+        inTransaction(() -> {
+            for (String statement : statements) {
+                entityManager.createNativeQuery(statement).executeUpdate();
+            }
+        });
+    }
+
+    public void inTransaction(Runnable work) {
+        inTransaction(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public <T> T inTransaction(Supplier<T> work) {
+        entityManager.getTransaction().begin();
+        T result = work.get();
+        entityManager.getTransaction().commit();
+        return result;
+    }
+
+    public void close() {
+        entityManager.close();
+        entityManagerFactory.close();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.grocery.layeredTest.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.grocery.core.mailing.model.VerificationCode;
+import com.example.grocery.core.mailing.store.InMemoryVerificationCodeStore;
+
+public class InMemoryVerificationCodeStoreTest {
+
+    @Test
+    public void expiredCodeShouldNotBeReturned() {
+        InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(10);
+        store.save(code("expired@grocery.com", LocalDateTime.now().minusSeconds(1)));
+        store.save(code("valid@grocery.com", LocalDateTime.now().plusMinutes(10)));
+
+        assertThat(store.get("expired@grocery.com")).isEmpty();
+        assertThat(store.get("valid@grocery.com")).isPresent();
+    }
+
+    @Test
+    public void oldestCodeShouldBeEvictedWhenCapacityExceeded() {
+        InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(2);
+        store.save(code("first@grocery.com", LocalDateTime.now().plusMinutes(10)));
+        store.save(code("second@grocery.com", LocalDateTime.now().plusMinutes(10)));
+        store.save(code("third@grocery.com", LocalDateTime.now().plusMinutes(10)));
+
+        assertThat(store.get("first@grocery.com")).isEmpty();
+        assertThat(store.get("second@grocery.com")).isPresent();
+        assertThat(store.get("third@grocery.com")).isPresent();
+    }
+
+    @Test
+    public void expiredCodeBehindLiveHeadShouldNotBeReturned() {
+        InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(10);
+        store.save(code("valid@grocery.com", LocalDateTime.now().plusMinutes(10)));
+        store.save(code("expired@grocery.com", LocalDateTime.now().minusSeconds(1)));
+
+        assertThat(store.get("expired@grocery.com")).isEmpty();
+        assertThat(store.claimAttempt("expired@grocery.com", 5)).isEmpty();
+    }
+
+    @Test
+    public void failedAttemptsShouldBeCountedInPlace() {
+        InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(2);
+        store.save(code("first@grocery.com", LocalDateTime.now().plusMinutes(10)));
+        store.save(code("second@grocery.com", LocalDateTime.now().plusMinutes(10)));
+
+        assertThat(store.claimAttempt("first@grocery.com", 5).get().getAttempts()).isEqualTo(1);
+        assertThat(store.claimAttempt("first@grocery.com", 5).get().getAttempts()).isEqualTo(2);
+        store.get("first@grocery.com").get().setAttempts(0);
+        assertThat(store.get("first@grocery.com").get().getAttempts()).isEqualTo(2);
+
+        // Hatalı deneme kaydı kuyruğun sonuna taşımaz; kapasite aşılınca yine en eski atılır.
+        store.save(code("third@grocery.com", LocalDateTime.now().plusMinutes(10)));
+        assertThat(store.get("first@grocery.com")).isEmpty();
+        assertThat(store.get("second@grocery.com")).isPresent();
+    }
+
+    @Test
+    public void attemptsShouldStopAtMaximumUnderConcurrency() throws Exception {
+        InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(10);
+        store.save(code("guess@grocery.com", LocalDateTime.now().plusMinutes(10)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Future<Boolean>> claims = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            claims.add(executor.submit(() -> store.claimAttempt("guess@grocery.com", 5).isPresent()));
+        }
+        int granted = 0;
+        for (Future<Boolean> claim : claims) {
+            if (claim.get())
+                granted++;
+        }
+        executor.shutdown();
+
+        assertThat(granted).isEqualTo(5);
+        assertThat(store.get("guess@grocery.com").get().getAttempts()).isEqualTo(5);
+    }
+
+    private VerificationCode code(String email, LocalDateTime expiresAt) {
+        return VerificationCode.builder()
+                .email(email).code("123456").attempts(0)
+                .issuedAt(LocalDateTime.now()).expiresAt(expiresAt).build();
+    }
+}
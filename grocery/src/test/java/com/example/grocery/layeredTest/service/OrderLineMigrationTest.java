@@ -0,0 +1,90 @@
+package com.example.grocery.layeredTest.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+// V5 betiği eski orders_products satırlarını H2 üzerinde (PostgreSQL modu) order_lines'a taşır.
+public class OrderLineMigrationTest {
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:orderlinemigration;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline_schema.sql"))
+                .execute(dataSource);
+
+        jdbcTemplate.update("INSERT INTO users (user_id, username, email, password, created_date_time, is_active) "
+                + "VALUES (1, 'ali', 'ali@example.com', 'secret', '2023-03-01 09:00:00', TRUE)");
+        jdbcTemplate.update("INSERT INTO customers (customer_id, phone_number, user_fk_id) VALUES (1, '555', 1)");
+        jdbcTemplate.update("INSERT INTO producers (producer_id, producer_name) VALUES (1, 'Producer')");
+        jdbcTemplate.update("INSERT INTO products (product_id, product_name, product_price, product_production_date, "
+                + "product_expiration_date, product_stock, producer_fk_id) "
+                + "VALUES (1, 'Peynir', 5.0, '2023-01-01', '2023-06-01', 10, 1), "
+                + "(2, 'Ekmek', 10.0, '2023-01-01', '2023-06-01', 10, 1)");
+        jdbcTemplate.update("INSERT INTO orders (order_id, created_date, order_status, customer_fk_id) "
+                + "VALUES (1, '2023-03-01 09:00:00', 'ORDER_TAKEN', 1), (2, '2023-03-01 10:00:00', 'ORDER_TAKEN', 1)");
+        jdbcTemplate.update("INSERT INTO orders_products VALUES (1, 1), (1, 1), (1, 1), (1, 2), (2, 2)");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    public void migrationShouldCollapseDuplicatesIntoQuantities() {
+        migrate();
+
+        List<Map<String, Object>> lines = jdbcTemplate.queryForList(
+                "SELECT order_fk_id, product_fk_id, quantity, unit_price FROM order_lines "
+                        + "ORDER BY order_fk_id, product_fk_id");
+
+        assertThat(lines).hasSize(3);
+        assertLine(lines.get(0), 1L, 1L, 3, 5.0);
+        assertLine(lines.get(1), 1L, 2L, 1, 10.0);
+        assertLine(lines.get(2), 2L, 2L, 1, 10.0);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT SUM(quantity * unit_price) FROM order_lines WHERE order_fk_id = 1", Double.class))
+                .isEqualTo(25.0);
+    }
+
+    @Test
+    public void migrationShouldDropJoinTableAndKeepSequenceAheadOfIds() {
+        migrate();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE table_name = 'orders_products'", Long.class))
+                .isZero();
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(order_line_id) FROM order_lines", Long.class);
+        Long nextId = jdbcTemplate.queryForObject("SELECT nextval('order_lines_seq')", Long.class);
+        // Hibernate'in pooled optimizer'ı bu değeri 50'lik bloğun üst sınırı sayar.
+        assertThat(nextId - 50).isGreaterThanOrEqualTo(maxId);
+    }
+
+    private void migrate() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V5__order_lines.sql")).execute(dataSource);
+    }
+
+    private static void assertLine(Map<String, Object> line, long orderId, long productId, int quantity,
+            double unitPrice) {
+        assertThat(((Number) line.get("order_fk_id")).longValue()).isEqualTo(orderId);
+        assertThat(((Number) line.get("product_fk_id")).longValue()).isEqualTo(productId);
+        assertThat(((Number) line.get("quantity")).intValue()).isEqualTo(quantity);
+        assertThat(((Number) line.get("unit_price")).doubleValue()).isEqualTo(unitPrice);
+    }
+}
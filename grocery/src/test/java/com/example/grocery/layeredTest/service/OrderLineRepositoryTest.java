@@ -0,0 +1,112 @@
+package com.example.grocery.layeredTest.service;
+
+import com.example.grocery.dataAccess.abstracts.OrderLineRepository;
+import com.example.grocery.dataAccess.abstracts.OrderLineRepository.OrderLineView;
+import com.example.grocery.dataAccess.abstracts.OrderLineRepository.OrderTotalView;
+import com.example.grocery.entity.concretes.Customer;
+import com.example.grocery.entity.concretes.Order;
+import com.example.grocery.entity.concretes.OrderLine;
+import com.example.grocery.entity.concretes.Product;
+import com.example.grocery.entity.enums.OrderStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// Sipariş satırları H2 üzerinde (PostgreSQL modu) gerçek Hibernate eşlemesiyle yazılır ve toplanır.
+public class OrderLineRepositoryTest {
+
+    private static final int LINE_COUNT = 20;
+
+    private H2JpaFixture fixture;
+    private EntityManager entityManager;
+    private OrderLineRepository orderLineRepository;
+
+    @BeforeEach
+    public void setUp() {
+        fixture = new H2JpaFixture("orderlines", Map.of(
+                "hibernate.jdbc.batch_size", "50",
+                "hibernate.order_inserts", "true",
+                "hibernate.generate_statistics", "true"))
+                .seedCustomer()
+                .seedProducts();
+        entityManager = fixture.entityManager();
+        orderLineRepository = fixture.repository(OrderLineRepository.class);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Test
+    public void orderLinesShouldBeInsertedInBatches() {
+        Statistics statistics = fixture.entityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Order order = newOrder();
+        for (int i = 1; i <= LINE_COUNT; i++) {
+            order.getOrderLines().add(new OrderLine(null, order,
+                    entityManager.getReference(Product.class, (long) (i % 2 + 1)), i, 2.5));
+        }
+        persist(order);
+
+        // Sipariş insert'i, sequence çağrıları ve tek bir satır batch'i; satır başına statement yok.
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(LINE_COUNT + 1);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    public void totalsShouldBeSummedInDatabase() {
+        Order first = newOrder();
+        first.getOrderLines().add(new OrderLine(null, first, entityManager.getReference(Product.class, 1L), 3, 5.0));
+        first.getOrderLines().add(new OrderLine(null, first, entityManager.getReference(Product.class, 2L), 1, 10.0));
+        Order second = newOrder();
+        second.getOrderLines().add(new OrderLine(null, second, entityManager.getReference(Product.class, 2L), 2, 7.5));
+        Order empty = newOrder();
+        persist(first);
+        persist(second);
+        persist(empty);
+        entityManager.clear();
+
+        List<OrderTotalView> totals = orderLineRepository.sumTotalsByOrderIds(
+                List.of(first.getId(), second.getId(), empty.getId()));
+
+        assertThat(totals).extracting(OrderTotalView::getOrderId, OrderTotalView::getTotalPrice)
+                .containsExactlyInAnyOrder(
+                        tuple(first.getId(), 25.0),
+                        tuple(second.getId(), 15.0));
+        assertThat(orderLineRepository.sumTotalByOrderId(first.getId())).isEqualTo(25.0);
+        assertThat(orderLineRepository.sumTotalByOrderId(empty.getId())).isZero();
+
+        List<OrderLineView> views = orderLineRepository.findViewsByOrderIds(List.of(first.getId(), second.getId()));
+        assertThat(views).extracting(OrderLineView::getOrderId, OrderLineView::getProductId,
+                OrderLineView::getQuantity)
+                .containsExactly(
+                        tuple(first.getId(), 1L, 3),
+                        tuple(first.getId(), 2L, 1),
+                        tuple(second.getId(), 2L, 2));
+    }
+
+    private Order newOrder() {
+        Order order = new Order();
+        order.setCustomer(entityManager.getReference(Customer.class, 1L));
+        order.setOrderStatus(OrderStatus.ORDER_TAKEN);
+        order.setCreatedDate(LocalDateTime.of(2023, 3, 1, 9, 0));
+        return order;
+    }
+
+    private void persist(Order order) {
+        fixture.inTransaction(() -> entityManager.persist(order));
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.grocery.layeredTest.service;
+
+import com.example.grocery.business.concretes.OrderManager;
+import com.example.grocery.core.utilities.exceptions.BusinessException;
+import com.example.grocery.core.utilities.results.DataResult;
+import com.example.grocery.dataAccess.abstracts.OrderRepository;
+import com.example.grocery.entity.enums.OrderStatus;
+import com.example.grocery.webApi.requests.order.BulkUpdateOrderStatusRequest;
+import com.example.grocery.webApi.responses.order.UpdateOrderStatusResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Toplu durum güncellemesi ve commit sonrası önbellek temizliği; repository mock'lanır.
+public class OrderStatusBulkUpdateTest {
+
+    private OrderRepository orderRepository;
+    private Cache orderCache;
+    private OrderManager orderManager;
+
+    @BeforeEach
+    public void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager("order");
+        orderCache = cacheManager.getCache("order");
+        orderManager = new OrderManager();
+        ReflectionTestUtils.setField(orderManager, "orderRepository", orderRepository);
+        ReflectionTestUtils.setField(orderManager, "cacheManager", cacheManager);
+
+        orderCache.put(1L, "order 1");
+        orderCache.put(2L, "order 2");
+        orderCache.put("createdDate", "sorted list");
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    public void idModeShouldEvictOnlyUpdatedOrdersAfterCommit() {
+        given(orderRepository.updateStatus(anyCollection(), anyCollection(), eq(OrderStatus.GETTING_READY)))
+                .willReturn(1);
+
+        DataResult<UpdateOrderStatusResponse> result = orderManager.bulkUpdateStatus(
+                new BulkUpdateOrderStatusRequest(OrderStatus.GETTING_READY, List.of(1L, 1L), null, null));
+
+        assertThat(result.getData().getMatched()).isEqualTo(1);
+        assertThat(result.getData().getUpdated()).isEqualTo(1);
+        assertThat(orderCache.get(1L)).isNotNull();
+
+        commit();
+
+        assertThat(orderCache.get(1L)).isNull();
+        assertThat(orderCache.get("createdDate")).isNull();
+        assertThat(orderCache.get(2L)).isNotNull();
+    }
+
+    @Test
+    public void filterModeShouldRunSingleUpdateWithoutLoadingIds() {
+        LocalDateTime createdBefore = LocalDateTime.of(2023, 3, 1, 0, 0);
+        given(orderRepository.updateStatusByCurrentStatusAndCreatedBefore(eq(OrderStatus.ORDER_TAKEN),
+                eq(createdBefore), eq(OrderStatus.GETTING_READY), any())).willReturn(5000);
+
+        DataResult<UpdateOrderStatusResponse> result = orderManager.bulkUpdateStatus(
+                new BulkUpdateOrderStatusRequest(OrderStatus.GETTING_READY, null, OrderStatus.ORDER_TAKEN,
+                        createdBefore));
+
+        assertThat(result.getData().getUpdated()).isEqualTo(5000);
+        verify(orderRepository, never()).updateStatus(anyCollection(), anyCollection(), any());
+        assertThat(orderCache.get(2L)).isNotNull();
+
+        commit();
+
+        assertThat(orderCache.get(1L)).isNull();
+        assertThat(orderCache.get(2L)).isNull();
+    }
+
+    @Test
+    public void filterModeShouldRejectInvalidTransitionBeforeUpdating() {
+        assertThatThrownBy(() -> orderManager.bulkUpdateStatus(new BulkUpdateOrderStatusRequest(
+                OrderStatus.WAS_DELIVERED, null, OrderStatus.ORDER_TAKEN, null)))
+                .isInstanceOf(BusinessException.class);
+        verify(orderRepository, never()).updateStatusByCurrentStatus(any(), any(), any());
+    }
+
+    private void commit() {
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+    }
+}
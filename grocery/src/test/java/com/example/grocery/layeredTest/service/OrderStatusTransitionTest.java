@@ -0,0 +1,30 @@
+package com.example.grocery.layeredTest.service;
+
+import com.example.grocery.entity.enums.OrderStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class OrderStatusTransitionTest {
+
+    @Test
+    public void ordersShouldOnlyMoveForward() {
+        assertThat(OrderStatus.ORDER_TAKEN.canTransitionTo(OrderStatus.GETTING_READY)).isTrue();
+        assertThat(OrderStatus.GETTING_READY.canTransitionTo(OrderStatus.TRANSPORT)).isTrue();
+        assertThat(OrderStatus.TRANSPORT.canTransitionTo(OrderStatus.WAS_DELIVERED)).isTrue();
+
+        assertThat(OrderStatus.ORDER_TAKEN.canTransitionTo(OrderStatus.WAS_DELIVERED)).isFalse();
+        assertThat(OrderStatus.TRANSPORT.canTransitionTo(OrderStatus.GETTING_READY)).isFalse();
+        assertThat(OrderStatus.WAS_DELIVERED.canTransitionTo(OrderStatus.CANCELLED)).isFalse();
+        assertThat(OrderStatus.CANCELLED.canTransitionTo(OrderStatus.ORDER_TAKEN)).isFalse();
+    }
+
+    @Test
+    public void sourcesShouldMatchTransitionTable() {
+        assertThat(OrderStatus.sourcesOf(OrderStatus.WAS_DELIVERED)).containsExactly(OrderStatus.TRANSPORT);
+        assertThat(OrderStatus.sourcesOf(OrderStatus.CANCELLED)).containsExactlyInAnyOrder(OrderStatus.ORDER_TAKEN,
+                OrderStatus.GETTING_READY, OrderStatus.TRANSPORT);
+        assertThat(OrderStatus.sourcesOf(OrderStatus.ORDER_TAKEN)).isEmpty();
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.grocery.layeredTest.service;
+
+import com.example.grocery.dataAccess.abstracts.OrderRepository;
+import com.example.grocery.entity.enums.OrderStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Durum güncellemelerinin WHERE koşulu H2 üzerinde (PostgreSQL modu) gerçek sorgularla denenir.
+public class OrderStatusUpdateRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 3, 10, 12, 0);
+
+    private H2JpaFixture fixture;
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    public void setUp() {
+        fixture = new H2JpaFixture("orderstatus").seedCustomer();
+        orderRepository = fixture.repository(OrderRepository.class);
+        fixture.execute("INSERT INTO orders (order_id, created_date, order_status, customer_fk_id) "
+                + "VALUES (1, '2023-03-01 09:00:00', 'ORDER_TAKEN', 1), "
+                + "(2, '2023-03-05 09:00:00', 'ORDER_TAKEN', 1), "
+                + "(3, '2023-03-01 09:00:00', 'GETTING_READY', 1), "
+                + "(4, '2023-03-01 09:00:00', 'TRANSPORT', 1)");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Test
+    public void idUpdateShouldSkipOrdersInDisallowedStatus() {
+        int updated = fixture.inTransaction(() -> orderRepository.updateStatus(List.of(1L, 3L, 4L),
+                OrderStatus.sourcesOf(OrderStatus.GETTING_READY), OrderStatus.GETTING_READY));
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(statusOf(1L)).isEqualTo("GETTING_READY");
+        assertThat(statusOf(4L)).isEqualTo("TRANSPORT");
+    }
+
+    @Test
+    public void filterUpdateShouldOnlyTouchMatchingOrders() {
+        int updated = fixture.inTransaction(() -> orderRepository.updateStatusByCurrentStatusAndCreatedBefore(
+                OrderStatus.ORDER_TAKEN, LocalDateTime.of(2023, 3, 3, 0, 0), OrderStatus.GETTING_READY, NOW));
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(statusOf(1L)).isEqualTo("GETTING_READY");
+        assertThat(statusOf(2L)).isEqualTo("ORDER_TAKEN");
+        assertThat(deliveredDateOf(1L)).isNull();
+    }
+
+    @Test
+    public void filterUpdateToDeliveredShouldSetDeliveredDate() {
+        int updated = fixture.inTransaction(() -> orderRepository.updateStatusByCurrentStatus(OrderStatus.TRANSPORT,
+                OrderStatus.WAS_DELIVERED, NOW));
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(statusOf(4L)).isEqualTo("WAS_DELIVERED");
+        assertThat(deliveredDateOf(4L)).isNotNull();
+        assertThat(deliveredDateOf(3L)).isNull();
+    }
+
+    private String statusOf(Long id) {
+        return (String) fixture.entityManager().createNativeQuery("SELECT order_status FROM orders WHERE order_id = :id")
+                .setParameter("id", id).getSingleResult();
+    }
+
+    private Object deliveredDateOf(Long id) {
+        return fixture.entityManager().createNativeQuery("SELECT delivered_date FROM orders WHERE order_id = :id")
+                .setParameter("id", id).getSingleResult();
+    }
+}
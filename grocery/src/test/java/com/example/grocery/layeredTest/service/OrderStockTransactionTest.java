@@ -0,0 +1,197 @@
+package com.example.grocery.layeredTest.service;
+
+import com.example.grocery.business.abstracts.CustomerService;
+import com.example.grocery.business.abstracts.InventoryService;
+import com.example.grocery.business.abstracts.OrderService;
+import com.example.grocery.business.abstracts.PaymentService;
+import com.example.grocery.business.abstracts.ProductService;
+import com.example.grocery.business.concretes.InventoryManager;
+import com.example.grocery.business.concretes.OrderManager;
+import com.example.grocery.core.analytics.service.SalesReportService;
+import com.example.grocery.core.dataSource.ReplicaNode;
+import com.example.grocery.core.dataSource.ReplicaRoutingDataSource;
+import com.example.grocery.core.utilities.exceptions.BusinessException;
+import com.example.grocery.core.utilities.mapper.ModelMapperImpl;
+import com.example.grocery.dataAccess.abstracts.OrderRepository;
+import com.example.grocery.dataAccess.abstracts.ProductRepository;
+import com.example.grocery.dataAccess.concretes.ProductFilterRepositoryImpl;
+import com.example.grocery.dataAccess.concretes.ProductStockRepositoryImpl;
+import com.example.grocery.entity.concretes.Customer;
+import com.example.grocery.entity.concretes.Payment;
+import com.example.grocery.webApi.requests.order.CreateOrderRequest;
+import com.example.grocery.webApi.requests.order.OrderLineRequest;
+import com.example.grocery.webApi.requests.order.UpdateOrderRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+// Sipariş OrderManager'ın @Transactional sınırından JpaTransactionManager ile verilir. Stok
+// JdbcTemplate ile düşülür ve LazyConnectionDataSourceProxy + ReplicaRoutingDataSource
+// üzerinden JPA transaction'ının bağlantısını paylaşmalıdır; aksi halde sipariş geri
+// alındığında düşülen stok geri gelmez.
+public class OrderStockTransactionTest {
+
+    private DataSource primary;
+    private H2JpaFixture fixture;
+    private OrderService orderService;
+
+    @BeforeEach
+    public void setUp() {
+        primary = H2JpaFixture.dataSource("orderstock");
+        // Replikada şema yoktur; bir sorgu yanlışlıkla replikaya giderse test hata verir.
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primary,
+                List.of(new ReplicaNode("replica-0", H2JpaFixture.dataSource("orderstockreplica"))), 1000, 0);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        fixture = new H2JpaFixture(dataSource, Map.of()).seedCustomer().seedProducts();
+        fixture.execute("INSERT INTO payments (payment_id, card_number, full_name, card_expiration_year, "
+                + "card_expiration_month, card_cvv, balance) VALUES (1, '4111111111111111', 'Ali', 2030, 1, '123', 0)");
+
+        // DataSource EntityManagerFactory'den alınır; JdbcTemplate aynı bağlantıya bağlanır.
+        JpaTransactionManager transactionManager = new JpaTransactionManager(fixture.entityManagerFactory());
+        transactionManager.afterPropertiesSet();
+        EntityManager entityManager = SharedEntityManagerCreator
+                .createSharedEntityManager(fixture.entityManagerFactory());
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(entityManager);
+        ProductFilterRepositoryImpl productFilterRepository = new ProductFilterRepositoryImpl();
+        ReflectionTestUtils.setField(productFilterRepository, "entityManager", entityManager);
+        ProductRepository productRepository = repositoryFactory.getRepository(ProductRepository.class,
+                RepositoryFragments.just(new ProductStockRepositoryImpl(new JdbcTemplate(dataSource)),
+                        productFilterRepository));
+
+        InventoryManager inventoryManager = new InventoryManager();
+        ReflectionTestUtils.setField(inventoryManager, "productRepository", productRepository);
+
+        CustomerService customerService = mock(CustomerService.class);
+        given(customerService.getCustomerById(1L))
+                .willAnswer(invocation -> entityManager.find(Customer.class, 1L));
+        PaymentService paymentService = mock(PaymentService.class);
+        given(paymentService.getPaymentById(1L)).willAnswer(invocation -> entityManager.find(Payment.class, 1L));
+        ProductService productService = mock(ProductService.class);
+        given(productService.getProductsByIds(any())).willAnswer(invocation -> {
+            Long[] ids = invocation.getArgument(0);
+            return productRepository.findAllById(Arrays.asList(ids));
+        });
+
+        OrderManager orderManager = new OrderManager();
+        ReflectionTestUtils.setField(orderManager, "orderRepository",
+                repositoryFactory.getRepository(OrderRepository.class));
+        ReflectionTestUtils.setField(orderManager, "mapperService", new ModelMapperImpl());
+        ReflectionTestUtils.setField(orderManager, "customerService", customerService);
+        ReflectionTestUtils.setField(orderManager, "paymentService", paymentService);
+        ReflectionTestUtils.setField(orderManager, "productService", productService);
+        ReflectionTestUtils.setField(orderManager, "inventoryService",
+                transactional(inventoryManager, InventoryService.class, transactionManager));
+        ReflectionTestUtils.setField(orderManager, "salesReportService", mock(SalesReportService.class));
+        ReflectionTestUtils.setField(orderManager, "applicationEventPublisher",
+                mock(ApplicationEventPublisher.class));
+        orderService = transactional(orderManager, OrderService.class, transactionManager);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Test
+    public void addShouldReserveStockInOrderTransaction() {
+        orderService.add(createRequest(Map.of(1L, 3, 2L, 2)));
+
+        assertThat(stock(1L)).isEqualTo(7);
+        assertThat(stock(2L)).isEqualTo(8);
+        assertThat(count("SELECT COUNT(*) FROM orders WHERE order_status = 'ORDER_TAKEN'")).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM order_lines")).isEqualTo(2);
+    }
+
+    @Test
+    public void failedReservationShouldRollBackEarlierRowsWithOrder() {
+        new JdbcTemplate(primary).update("UPDATE products SET product_stock = 1 WHERE product_id = 2");
+
+        assertThatThrownBy(() -> orderService.add(createRequest(Map.of(1L, 3, 2L, 2))))
+                .isInstanceOf(BusinessException.class);
+
+        // Ürün 1'in düşümü JDBC ile yapıldı; JPA transaction'ıyla birlikte geri alınmalıdır.
+        assertThat(stock(1L)).isEqualTo(10);
+        assertThat(stock(2L)).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM orders")).isZero();
+    }
+
+    @Test
+    public void updateShouldApplyNetStockDelta() {
+        orderService.add(createRequest(Map.of(1L, 3, 2L, 2)));
+        Long orderId = new JdbcTemplate(primary).queryForObject("SELECT order_id FROM orders", Long.class);
+
+        orderService.update(updateRequest(Map.of(1L, 1, 2L, 5)), orderId);
+
+        assertThat(stock(1L)).isEqualTo(9);
+        assertThat(stock(2L)).isEqualTo(5);
+    }
+
+    @Test
+    public void failedUpdateShouldKeepPreviousReservation() {
+        orderService.add(createRequest(Map.of(1L, 3, 2L, 2)));
+        Long orderId = new JdbcTemplate(primary).queryForObject("SELECT order_id FROM orders", Long.class);
+
+        assertThatThrownBy(() -> orderService.update(updateRequest(Map.of(1L, 1, 2L, 20)), orderId))
+                .isInstanceOf(BusinessException.class);
+
+        assertThat(stock(1L)).isEqualTo(7);
+        assertThat(stock(2L)).isEqualTo(8);
+        assertThat(count("SELECT COALESCE(SUM(quantity), 0) FROM order_lines")).isEqualTo(5);
+    }
+
+    private static <T> T transactional(T target, Class<T> type, JpaTransactionManager transactionManager) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setInterfaces(type);
+        proxyFactory.addAdvice(new TransactionInterceptor(transactionManager,
+                new AnnotationTransactionAttributeSource()));
+        return type.cast(proxyFactory.getProxy());
+    }
+
+    private static CreateOrderRequest createRequest(Map<Long, Integer> quantities) {
+        return new CreateOrderRequest(LocalDateTime.of(2023, 3, 1, 9, 0), null, 1L, 1L, lines(quantities));
+    }
+
+    private static UpdateOrderRequest updateRequest(Map<Long, Integer> quantities) {
+        return new UpdateOrderRequest(LocalDateTime.of(2023, 3, 1, 9, 0), null, 1L, 1L, lines(quantities));
+    }
+
+    private static List<OrderLineRequest> lines(Map<Long, Integer> quantities) {
+        return quantities.entrySet().stream()
+                .map(entry -> new OrderLineRequest(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private int stock(Long productId) {
+        return new JdbcTemplate(primary).queryForObject(
+                "SELECT product_stock FROM products WHERE product_id = ?", Integer.class, productId);
+    }
+
+    private long count(String query) {
+        return new JdbcTemplate(primary).queryForObject(query, Long.class);
+    }
+}
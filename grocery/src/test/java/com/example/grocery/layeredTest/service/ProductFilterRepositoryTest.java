@@ -0,0 +1,120 @@
+package com.example.grocery.layeredTest.service;
+
+import com.example.grocery.business.concretes.ProductManager;
+import com.example.grocery.dataAccess.abstracts.ProductRepository;
+import com.example.grocery.dataAccess.concretes.ProductFilterRepositoryImpl;
+import com.example.grocery.dataAccess.concretes.ProductStockRepositoryImpl;
+import com.example.grocery.webApi.requests.product.FilterProductRequest;
+import com.example.grocery.webApi.responses.product.FilterProductPageResponse;
+import com.example.grocery.webApi.responses.product.FilterProductResponse;
+import com.example.grocery.webApi.responses.product.ProductFacetResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+// Filtre Specification'ları ve facet sayımları H2 üzerinde (PostgreSQL modu) gerçek Criteria
+// sorgularıyla denenir. Ürün 2'nin kategorisi ve tedarikçisi, ürün 4'ün tedarikçisi yoktur.
+public class ProductFilterRepositoryTest {
+
+    private H2JpaFixture fixture;
+    private ProductManager productManager;
+
+    @BeforeEach
+    public void setUp() {
+        fixture = new H2JpaFixture("productfilter").seedProducts();
+        fixture.execute("INSERT INTO producers (producer_id, producer_name) VALUES (2, 'Tat')",
+                "INSERT INTO categories (category_id, category_name) VALUES (1, 'Kahvaltılık'), (2, 'Sebze')",
+                "INSERT INTO suppliers (supplier_id, supplier_name, address, phone_number) "
+                        + "VALUES (1, 'Depo', 'İzmir', '555')",
+                "UPDATE products SET category_fk_id = 1, supplier_fk_id = 1 WHERE product_id = 1",
+                "INSERT INTO products (product_id, product_name, product_price, product_production_date, "
+                        + "product_expiration_date, product_stock, category_fk_id, producer_fk_id, supplier_fk_id) "
+                        + "VALUES (3, 'Süt', 7.0, '2023-01-01', '2099-01-01', 0, 1, 2, 1), "
+                        + "(4, 'Domates', 3.0, '2023-01-01', '2099-01-01', 5, 2, 2, NULL), "
+                        + "(5, 'Biber', 4.0, '2023-01-01', '2099-01-01', 5, 2, 1, 1)");
+
+        ProductFilterRepositoryImpl productFilterRepository = new ProductFilterRepositoryImpl();
+        ReflectionTestUtils.setField(productFilterRepository, "entityManager", fixture.entityManager());
+        ProductRepository productRepository = fixture.repository(ProductRepository.class,
+                new ProductStockRepositoryImpl(new JdbcTemplate(fixture.dataSource())), productFilterRepository);
+
+        productManager = new ProductManager();
+        ReflectionTestUtils.setField(productManager, "productRepository", productRepository);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Test
+    public void idsShouldBeOredWithinFieldAndAndedAcrossFields() {
+        FilterProductPageResponse page = filter(request(List.of(1L, 2L), List.of(2L), null));
+
+        assertThat(page.getProducts()).extracting(FilterProductResponse::getId).containsExactly(3L, 4L);
+        assertThat(page.getTotalCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void eachFacetShouldIgnoreOnlyItsOwnFilter() {
+        FilterProductPageResponse page = filter(request(List.of(1L), List.of(1L), null));
+
+        assertThat(page.getProducts()).extracting(FilterProductResponse::getId).containsExactly(1L);
+        // Kategori filtresi yok sayılır, üretici 1 kalır: ürün 1, 2 (kategorisiz) ve 5.
+        assertThat(page.getCategories()).extracting(ProductFacetResponse::getId, ProductFacetResponse::getCount)
+                .containsExactlyInAnyOrder(tuple(1L, 1L), tuple(2L, 1L));
+        // Üretici filtresi yok sayılır, kategori 1 kalır: ürün 1 ve 3.
+        assertThat(page.getProducers()).extracting(ProductFacetResponse::getId, ProductFacetResponse::getCount)
+                .containsExactlyInAnyOrder(tuple(1L, 1L), tuple(2L, 1L));
+        assertThat(page.getSuppliers()).extracting(ProductFacetResponse::getId, ProductFacetResponse::getCount)
+                .containsExactly(tuple(1L, 1L));
+    }
+
+    @Test
+    public void facetCountsShouldSkipProductsWithoutValue() {
+        FilterProductPageResponse page = filter(request(null, null, null));
+
+        assertThat(page.getTotalCount()).isEqualTo(5);
+        assertThat(page.getCategories()).extracting(ProductFacetResponse::getName, ProductFacetResponse::getCount)
+                .containsExactlyInAnyOrder(tuple("Kahvaltılık", 2L), tuple("Sebze", 2L));
+        assertThat(page.getProducers()).extracting(ProductFacetResponse::getName, ProductFacetResponse::getCount)
+                .containsExactly(tuple("Producer", 3L), tuple("Tat", 2L));
+        assertThat(page.getSuppliers()).extracting(ProductFacetResponse::getName, ProductFacetResponse::getCount)
+                .containsExactly(tuple("Depo", 3L));
+        assertThat(page.getInStockCount()).isEqualTo(4);
+    }
+
+    @Test
+    public void stockExpiryAndPriceShouldNarrowResults() {
+        FilterProductRequest request = request(null, null, null);
+        request.setInStock(true);
+        request.setNotExpired(true);
+        request.setMaxPrice(3.5);
+
+        FilterProductPageResponse page = filter(request);
+
+        assertThat(page.getProducts()).extracting(FilterProductResponse::getId).containsExactly(4L);
+        assertThat(page.getSuppliers()).isEmpty();
+    }
+
+    private FilterProductPageResponse filter(FilterProductRequest request) {
+        return productManager.filter(request).getData();
+    }
+
+    private static FilterProductRequest request(List<Long> categoryIds, List<Long> producerIds,
+            List<Long> supplierIds) {
+        FilterProductRequest request = new FilterProductRequest();
+        request.setCategoryIds(categoryIds);
+        request.setProducerIds(producerIds);
+        request.setSupplierIds(supplierIds);
+        return request;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.grocery.layeredTest.service;
+
+import com.example.grocery.business.concretes.ProductManager;
+import com.example.grocery.core.utilities.exceptions.BusinessException;
+import com.example.grocery.dataAccess.abstracts.ProductFilterRepository.Facet;
+import com.example.grocery.dataAccess.abstracts.ProductRepository;
+import com.example.grocery.webApi.requests.product.FilterProductRequest;
+import com.example.grocery.webApi.responses.product.FilterProductPageResponse;
+import com.example.grocery.webApi.responses.product.FilterProductResponse;
+import com.example.grocery.webApi.responses.product.ProductFacetResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductFilterTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ProductManager productManager;
+
+    private FilterProductRequest request;
+
+    @BeforeEach
+    public void setUp() {
+        request = new FilterProductRequest(10.0, 50.0, List.of(1L), null, null, true, true, 1, 2, "price");
+    }
+
+    @Test
+    public void filterShouldReturnPageWithTotalsAndFacets() {
+        FilterProductResponse cheese = new FilterProductResponse(7L, "Süzme Peynir", 25.0, 4,
+                LocalDate.now().plusDays(10), 1L, 3L, null);
+        given(productRepository.findFiltered(any(), any())).willReturn(List.of(cheese));
+        given(productRepository.countFiltered(any())).willReturn(3L, 2L);
+        given(productRepository.countByFacet(any(), eq(Facet.CATEGORY))).willReturn(List.of(
+                new ProductFacetResponse(1L, "Süt Ürünleri", 3), new ProductFacetResponse(2L, "Kahvaltılık", 5)));
+        given(productRepository.countByFacet(any(), eq(Facet.PRODUCER)))
+                .willReturn(List.of(new ProductFacetResponse(3L, "Pınar", 3)));
+        given(productRepository.countByFacet(any(), eq(Facet.SUPPLIER))).willReturn(List.of());
+
+        FilterProductPageResponse page = productManager.filter(request).getData();
+
+        assertThat(page.getTotalCount()).isEqualTo(3);
+        assertThat(page.getInStockCount()).isEqualTo(2);
+        assertThat(page.getProducts()).containsExactly(cheese);
+        assertThat(page.getCategories()).extracting(ProductFacetResponse::getId).containsExactly(1L, 2L);
+        assertThat(page.getProducers()).hasSize(1);
+        assertThat(page.getSuppliers()).isEmpty();
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(productRepository).findFiltered(any(), pageable.capture());
+        assertThat(pageable.getValue().getOffset()).isEqualTo(2);
+        assertThat(pageable.getValue().getSort()).isEqualTo(Sort.by("price").and(Sort.by("id")));
+    }
+
+    @Test
+    public void invalidPriceRangeShouldThrow() {
+        request.setMinPrice(60.0);
+
+        assertThatThrownBy(() -> productManager.filter(request)).isInstanceOf(BusinessException.class);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    public void unknownSortFieldShouldThrow() {
+        request.setSortBy("category");
+
+        assertThatThrownBy(() -> productManager.filter(request)).isInstanceOf(BusinessException.class);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    public void tooLargePageShouldThrow() {
+        request.setPageSize(101);
+
+        assertThatThrownBy(() -> productManager.filter(request)).isInstanceOf(BusinessException.class);
+        verifyNoInteractions(productRepository);
+    }
+}
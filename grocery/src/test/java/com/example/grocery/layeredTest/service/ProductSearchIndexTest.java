@@ -0,0 +1,159 @@
+package com.example.grocery.layeredTest.service;
+
+import com.example.grocery.business.concretes.ProductManager;
+import com.example.grocery.business.events.CategoryChangedEvent;
+import com.example.grocery.core.search.ProductSearchIndex;
+import com.example.grocery.core.search.ProductSearchIndexer;
+import com.example.grocery.core.utilities.exceptions.BusinessException;
+import com.example.grocery.dataAccess.abstracts.ProductRepository;
+import com.example.grocery.dataAccess.abstracts.ProductRepository.ProductSearchView;
+import com.example.grocery.webApi.responses.product.SearchProductPageResponse;
+import com.example.grocery.webApi.responses.product.SearchProductResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+public class ProductSearchIndexTest {
+
+    private ProductSearchIndex productSearchIndex;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        productSearchIndex = new ProductSearchIndex(new ByteBuffersDirectory());
+        productSearchIndex.addAll(List.of(
+                product(1L, "Domates", "Taze salkım domates", 10L, "Sebze", "Tarım Kooperatifi"),
+                product(2L, "Süt", "Tam yağlı günlük süt", 20L, "Süt Ürünleri", "Pınar"),
+                product(3L, "Süzme Peynir", "Yumuşak beyaz peynir", 20L, "Süt Ürünleri", "Pınar"),
+                product(4L, "Domates Salçası", "Kavanozda", 30L, "Konserve", "Tat")));
+        productSearchIndex.commit();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        productSearchIndex.close();
+    }
+
+    @Test
+    public void nameMatchShouldRankAboveDescriptionMatch() {
+        assertThat(ids(productSearchIndex.search("domates", 0, 10))).containsExactly(1L, 4L);
+    }
+
+    @Test
+    public void typosAndMissingTurkishCharactersShouldMatch() {
+        assertThat(ids(productSearchIndex.search("domatez", 0, 10))).contains(1L, 4L);
+        assertThat(ids(productSearchIndex.search("SUT", 0, 10)).get(0)).isEqualTo(2L);
+        assertThat(ids(productSearchIndex.search("pinar peynir", 0, 10))).containsExactly(3L);
+    }
+
+    @Test
+    public void resultsShouldBePagedAndCarryStoredFields() {
+        SearchProductPageResponse firstPage = productSearchIndex.search("pınar", 0, 1);
+        SearchProductPageResponse secondPage = productSearchIndex.search("pınar", 1, 1);
+
+        assertThat(firstPage.getTotalHits()).isEqualTo(2);
+        assertThat(firstPage.getProducts()).hasSize(1);
+        assertThat(secondPage.getProducts()).hasSize(1);
+        assertThat(secondPage.getProducts().get(0).getId()).isNotEqualTo(firstPage.getProducts().get(0).getId());
+        assertThat(secondPage.getProducts().get(0).getProducerName()).isEqualTo("Pınar");
+    }
+
+    @Test
+    public void updatesAndDeletesShouldBeVisibleImmediately() throws Exception {
+        productSearchIndex.index(product(2L, "Ayran", "Yoğurt içeceği", 20L, "Süt Ürünleri", "Pınar"));
+        productSearchIndex.delete(1L);
+
+        assertThat(ids(productSearchIndex.search("ayran", 0, 10))).containsExactly(2L);
+        assertThat(ids(productSearchIndex.search("domates", 0, 10))).containsExactly(4L);
+    }
+
+    @Test
+    public void categoryChangesShouldReachProductsOfCategory() {
+        ProductRepository productRepository = mock(ProductRepository.class);
+        ProductSearchIndexer productSearchIndexer = new ProductSearchIndexer(productRepository, productSearchIndex);
+        given(productRepository.findSearchViewsByCategoryId(20L)).willReturn(List.of(
+                product(2L, "Süt", "Tam yağlı günlük süt", 20L, "Kahvaltılık", "Pınar"),
+                product(3L, "Süzme Peynir", "Yumuşak beyaz peynir", 20L, "Kahvaltılık", "Pınar")));
+
+        productSearchIndexer.onCategoryChanged(new CategoryChangedEvent(20L, false));
+        assertThat(ids(productSearchIndex.search("kahvaltılık", 0, 10))).containsExactlyInAnyOrder(2L, 3L);
+
+        productSearchIndexer.onCategoryChanged(new CategoryChangedEvent(20L, true));
+        assertThat(ids(productSearchIndex.search("pınar", 0, 10))).isEmpty();
+        assertThat(ids(productSearchIndex.search("domates", 0, 10))).containsExactly(1L, 4L);
+    }
+
+    @Test
+    public void failedRebuildShouldNotLeakIntoNextUpdate() throws Exception {
+        ProductRepository productRepository = mock(ProductRepository.class);
+        ProductSearchIndexer productSearchIndexer = new ProductSearchIndexer(productRepository, productSearchIndex);
+        given(productRepository.findSearchViewsAfter(eq(0L), any())).willReturn(
+                LongStream.rangeClosed(1, 1000)
+                        .mapToObj(id -> product(id, "Ürün", null, 10L, "Sebze", "Tat")).toList());
+        given(productRepository.findSearchViewsAfter(eq(1000L), any()))
+                .willThrow(new IllegalStateException("connection lost"));
+
+        assertThatThrownBy(productSearchIndexer::rebuild).isInstanceOf(IllegalStateException.class);
+        productSearchIndex.index(product(5L, "Ayran", "Yoğurt içeceği", 20L, "Süt Ürünleri", "Pınar"));
+
+        assertThat(ids(productSearchIndex.search("domates", 0, 10))).containsExactly(1L, 4L);
+        assertThat(ids(productSearchIndex.search("ayran", 0, 10))).containsExactly(5L);
+        assertThat(productSearchIndex.search("ürün", 0, 10).getTotalHits()).isZero();
+    }
+
+    @Test
+    public void deepSearchPagesShouldBeRejectedBeforeOverflowing() {
+        ProductManager productManager = new ProductManager();
+
+        assertThatThrownBy(() -> productManager.search("domates", Integer.MAX_VALUE / 10, 100))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private static List<Long> ids(SearchProductPageResponse page) {
+        return page.getProducts().stream().map(SearchProductResponse::getId).toList();
+    }
+
+    private static ProductSearchView product(Long id, String name, String description, Long categoryId,
+            String category, String producer) {
+        return new ProductSearchView() {
+            public Long getId() {
+                return id;
+            }
+
+            public String getName() {
+                return name;
+            }
+
+            public String getDescription() {
+                return description;
+            }
+
+            public double getPrice() {
+                return 10.0;
+            }
+
+            public Long getCategoryId() {
+                return categoryId;
+            }
+
+            public String getCategoryName() {
+                return category;
+            }
+
+            public String getProducerName() {
+                return producer;
+            }
+        };
+    }
+}
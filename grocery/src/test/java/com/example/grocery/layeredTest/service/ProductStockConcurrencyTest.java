@@ -0,0 +1,141 @@
+package com.example.grocery.layeredTest.service;
+
+import com.example.grocery.dataAccess.concretes.ProductStockRepositoryImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Aynı iki ürün için yüksek eş zamanlılıkta sipariş verilir; stok hiçbir zaman
+// eksiye düşmemeli ve kalan stok onaylanan siparişlerle birebir tutmalıdır.
+public class ProductStockConcurrencyTest {
+
+    private static final int THREADS = 32;
+    private static final int ORDERS = 2000;
+    private static final int INITIAL_STOCK_1 = 300;
+    private static final int INITIAL_STOCK_2 = 500;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private ProductStockRepositoryImpl productStockRepository;
+
+    @BeforeEach
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:stock;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        productStockRepository = new ProductStockRepositoryImpl(jdbcTemplate);
+
+        jdbcTemplate.execute("CREATE TABLE products (product_id BIGINT PRIMARY KEY, product_stock INT NOT NULL)");
+        jdbcTemplate.update("INSERT INTO products VALUES (1, ?), (2, ?)", INITIAL_STOCK_1, INITIAL_STOCK_2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("DROP TABLE products");
+    }
+
+    @Test
+    public void concurrentReservationsShouldNeverOversell() throws Exception {
+        // Siparişlerin yarısı ürünleri ters sırada ister; kilit sırası yine id'ye göredir.
+        List<Map<Long, Integer>> orderTypes = List.of(Map.of(1L, 1, 2L, 1), Map.of(2L, 2, 1L, 1));
+        AtomicInteger[] committed = { new AtomicInteger(), new AtomicInteger() };
+        AtomicInteger rejected = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            int type = i % 2;
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        if (!productStockRepository.reserveStock(orderTypes.get(type)).isEmpty()) {
+                            throw new IllegalStateException("insufficient stock");
+                        }
+                    });
+                    committed[type].incrementAndGet();
+                } catch (RuntimeException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        int stock1 = stock(1L);
+        int stock2 = stock(2L);
+        assertThat(stock1).isGreaterThanOrEqualTo(0);
+        assertThat(stock2).isGreaterThanOrEqualTo(0);
+        assertThat(stock1).isEqualTo(INITIAL_STOCK_1 - committed[0].get() - committed[1].get());
+        assertThat(stock2).isEqualTo(INITIAL_STOCK_2 - committed[0].get() - 2 * committed[1].get());
+        assertThat(rejected.get()).isGreaterThan(0);
+        assertThat(committed[0].get() + committed[1].get() + rejected.get()).isEqualTo(ORDERS);
+    }
+
+    @Test
+    public void failedReservationShouldRollBackEarlierRows() {
+        jdbcTemplate.update("UPDATE products SET product_stock = 0 WHERE product_id = 2");
+
+        List<Long> insufficient = transactionTemplate.execute(status -> {
+            List<Long> result = productStockRepository.reserveStock(Map.of(1L, 5, 2L, 1));
+            status.setRollbackOnly();
+            return result;
+        });
+
+        assertThat(insufficient).containsExactly(2L);
+        assertThat(stock(1L)).isEqualTo(INITIAL_STOCK_1);
+    }
+
+    @Test
+    public void releaseShouldRestoreStock() {
+        productStockRepository.reserveStock(Map.of(1L, 10));
+        productStockRepository.releaseStock(Map.of(1L, 10));
+
+        assertThat(stock(1L)).isEqualTo(INITIAL_STOCK_1);
+    }
+
+    @Test
+    public void adjustShouldApplyReleaseAndReserveInOneBatch() {
+        List<Long> insufficient = productStockRepository.adjustStock(Map.of(1L, -10, 2L, 20));
+
+        assertThat(insufficient).isEmpty();
+        assertThat(stock(1L)).isEqualTo(INITIAL_STOCK_1 + 10);
+        assertThat(stock(2L)).isEqualTo(INITIAL_STOCK_2 - 20);
+    }
+
+    @Test
+    public void adjustShouldReportOnlyProductsThatCannotCoverTheirIncrease() {
+        List<Long> insufficient = productStockRepository.adjustStock(Map.of(1L, -5, 2L, INITIAL_STOCK_2 + 1));
+
+        assertThat(insufficient).containsExactly(2L);
+    }
+
+    private int stock(Long productId) {
+        return jdbcTemplate.queryForObject("SELECT product_stock FROM products WHERE product_id = ?", Integer.class,
+                productId);
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.grocery.layeredTest.service;
+
+import com.example.grocery.core.dataSource.ReplicaNode;
+import com.example.grocery.core.dataSource.ReplicaRoutingDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+// Primary ve tek replika mock DataSource'larla kurulur; transaction durumu
+// TransactionSynchronizationManager üzerinden verilir.
+public class ReplicaRoutingDataSourceTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+
+    private DataSource replicaDataSource;
+    private ReplicaNode replica;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        DataSource primaryDataSource = mock(DataSource.class);
+        given(primaryDataSource.getConnection()).willReturn(primaryConnection);
+        replicaDataSource = mock(DataSource.class);
+        given(replicaDataSource.getConnection()).willReturn(replicaConnection);
+        replica = new ReplicaNode("replica-1", replicaDataSource);
+        routingDataSource = new ReplicaRoutingDataSource(primaryDataSource, List.of(replica), 1000, 60_000);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    public void readOnlyTransactionsShouldUseReplicaAndWritesPrimary() throws SQLException {
+        assertThat(connection(true)).isSameAs(replicaConnection);
+        assertThat(connection(false)).isSameAs(primaryConnection);
+    }
+
+    @Test
+    public void writerShouldReadOwnWritesFromPrimary() throws SQLException {
+        authenticate("ali");
+        connection(false);
+
+        assertThat(connection(true)).isSameAs(primaryConnection);
+        authenticate("veli");
+        assertThat(connection(true)).isSameAs(replicaConnection);
+    }
+
+    @Test
+    public void anonymousWriteShouldNotPinAnonymousReads() throws SQLException {
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken("key",
+                "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+        connection(false);
+
+        assertThat(connection(true)).isSameAs(replicaConnection);
+        SecurityContextHolder.clearContext();
+        assertThat(connection(true)).isSameAs(replicaConnection);
+    }
+
+    @Test
+    public void unreachableReplicaShouldFallBackToPrimary() throws SQLException {
+        given(replicaDataSource.getConnection()).willThrow(new SQLException("connection refused"));
+
+        assertThat(connection(true)).isSameAs(primaryConnection);
+        assertThat(replica.isHealthy()).isFalse();
+    }
+
+    @Test
+    public void lagProbeShouldCompareReceivedAndReplayedWal() throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        given(replicaConnection.createStatement()).willReturn(statement);
+        given(statement.executeQuery(contains("pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn()")))
+                .willReturn(resultSet);
+        given(resultSet.next()).willReturn(true);
+        given(resultSet.getLong(1)).willReturn(5000L);
+
+        routingDataSource.checkReplicas();
+
+        assertThat(replica.isHealthy()).isFalse();
+        assertThat(replica.getLagMs()).isEqualTo(5000L);
+        assertThat(connection(true)).isSameAs(primaryConnection);
+    }
+
+    @Test
+    public void replicaNotStreamingFromPrimaryShouldBeExcluded() throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        given(replicaConnection.createStatement()).willReturn(statement);
+        given(statement.executeQuery(contains("pg_stat_wal_receiver"))).willReturn(resultSet);
+        given(resultSet.next()).willReturn(true);
+        given(resultSet.getLong(1)).willReturn(0L);
+        given(resultSet.wasNull()).willReturn(true);
+
+        routingDataSource.checkReplicas();
+
+        assertThat(replica.isHealthy()).isFalse();
+        assertThat(connection(true)).isSameAs(primaryConnection);
+    }
+
+    @Test
+    public void closeShouldCloseReplicaPools() {
+        HikariDataSource pool = mock(HikariDataSource.class);
+        new ReplicaRoutingDataSource(mock(DataSource.class), List.of(new ReplicaNode("replica-1", pool)), 1000, 0)
+                .close();
+
+        verify(pool).close();
+    }
+
+    private Connection connection(boolean readOnly) throws SQLException {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        return routingDataSource.getConnection();
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+}
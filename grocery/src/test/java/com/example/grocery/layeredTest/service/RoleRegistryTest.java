@@ -0,0 +1,72 @@
+package com.example.grocery.layeredTest.service;
+
+import com.example.grocery.core.security.enums.Authority;
+import com.example.grocery.core.security.models.Role;
+import com.example.grocery.core.security.repository.RoleRepository;
+import com.example.grocery.core.security.services.RoleRegistry;
+import com.example.grocery.core.utilities.exceptions.BusinessException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+@ExtendWith(MockitoExtension.class)
+public class RoleRegistryTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @InjectMocks
+    private RoleRegistry roleRegistry;
+
+    private Role user, admin;
+
+    @BeforeEach
+    public void setUp() {
+        user = new Role(1L, Authority.USER);
+        admin = new Role(2L, Authority.ADMIN);
+    }
+
+    @Test
+    public void roleNamesShouldResolveWithoutQueries() {
+        given(roleRepository.findAll()).willReturn(List.of(user, admin));
+        roleRegistry.refresh();
+
+        assertThat(roleRegistry.resolve(Set.of("ADMIN", "USER"))).containsExactlyInAnyOrder(admin, user);
+        assertThat(roleRegistry.resolve(Set.of("unknown"))).containsExactly(user);
+        assertThat(roleRegistry.resolve(null)).containsExactly(user);
+
+        verify(roleRepository, times(1)).findAll();
+        verifyNoMoreInteractions(roleRepository);
+    }
+
+    @Test
+    public void missingRoleShouldThrow() {
+        given(roleRepository.findAll()).willReturn(List.of(user));
+        roleRegistry.refresh();
+
+        assertThatThrownBy(() -> roleRegistry.resolve(Set.of("EDITOR"))).isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    public void refreshShouldPickUpNewRoles() {
+        given(roleRepository.findAll()).willReturn(List.of(user)).willReturn(List.of(user, admin));
+        roleRegistry.refresh();
+        roleRegistry.refresh();
+
+        assertThat(roleRegistry.get(Authority.ADMIN)).isSameAs(admin);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.grocery.layeredTest.service;
+
+import com.example.grocery.core.analytics.repository.SalesRollupJdbcRepository;
+import com.example.grocery.core.analytics.service.SalesReportManager;
+import com.example.grocery.core.analytics.service.SalesRollupWorker;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Rebuild ve worker bir günü yeniden yazmadan önce o günün advisory kilidini alır.
+public class SalesRollupLockingTest {
+
+    private static final LocalDate DAY = LocalDate.of(2023, 3, 1);
+
+    private SalesRollupJdbcRepository salesRollupJdbcRepository;
+
+    @BeforeEach
+    public void setUp() {
+        salesRollupJdbcRepository = mock(SalesRollupJdbcRepository.class);
+    }
+
+    @Test
+    public void rebuildShouldLockChunkBeforeClearingAndRefreshing() {
+        SalesReportManager salesReportManager = new SalesReportManager(null, salesRollupJdbcRepository,
+                mock(PlatformTransactionManager.class));
+
+        salesReportManager.rebuild(DAY, DAY.plusDays(2));
+
+        InOrder inOrder = inOrder(salesRollupJdbcRepository);
+        inOrder.verify(salesRollupJdbcRepository).lockDays(DAY, DAY.plusDays(3));
+        inOrder.verify(salesRollupJdbcRepository).clearDirty(DAY, DAY.plusDays(3));
+        inOrder.verify(salesRollupJdbcRepository).refresh(DAY, DAY.plusDays(3));
+    }
+
+    @Test
+    public void workerShouldLockEachDayBeforeRefreshing() {
+        SalesRollupWorker salesRollupWorker = new SalesRollupWorker(salesRollupJdbcRepository);
+        ReflectionTestUtils.setField(salesRollupWorker, "batchDays", 31);
+        given(salesRollupJdbcRepository.claimDirtyDays(31)).willReturn(List.of(DAY, DAY.plusDays(1)));
+
+        salesRollupWorker.refreshDirtyDays();
+
+        InOrder inOrder = inOrder(salesRollupJdbcRepository);
+        inOrder.verify(salesRollupJdbcRepository).lockDays(DAY, DAY.plusDays(1));
+        inOrder.verify(salesRollupJdbcRepository).refresh(DAY, DAY.plusDays(1));
+        inOrder.verify(salesRollupJdbcRepository).lockDays(DAY.plusDays(1), DAY.plusDays(2));
+        inOrder.verify(salesRollupJdbcRepository).refresh(DAY.plusDays(1), DAY.plusDays(2));
+    }
+}
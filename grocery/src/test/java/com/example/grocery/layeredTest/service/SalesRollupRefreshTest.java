@@ -0,0 +1,97 @@
+package com.example.grocery.layeredTest.service;
+
+import com.example.grocery.core.analytics.repository.SalesRollupJdbcRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+// Özetler H2 üzerinde (PostgreSQL modu) sipariş satırlarından yeniden hesaplanır.
+public class SalesRollupRefreshTest {
+
+    private static final LocalDate DAY = LocalDate.of(2023, 3, 1);
+
+    private JdbcTemplate jdbcTemplate;
+    private SalesRollupJdbcRepository salesRollupJdbcRepository;
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:rollups;MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        salesRollupJdbcRepository = new SalesRollupJdbcRepository(jdbcTemplate);
+
+        jdbcTemplate.execute("CREATE TABLE products (product_id BIGINT PRIMARY KEY, category_fk_id BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE individual_customers (individual_customer_id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE corporate_customers (corporate_customer_id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE orders (order_id BIGINT PRIMARY KEY, customer_fk_id BIGINT, "
+                + "created_date TIMESTAMP, order_status VARCHAR(20))");
+        jdbcTemplate.execute("CREATE TABLE order_lines (order_line_id BIGINT PRIMARY KEY, order_fk_id BIGINT, "
+                + "product_fk_id BIGINT, quantity INT, unit_price DOUBLE PRECISION)");
+        jdbcTemplate.execute("CREATE TABLE sales_rollups (dimension VARCHAR(20), sales_day DATE, "
+                + "dimension_key VARCHAR(20), order_count BIGINT, units BIGINT, revenue DOUBLE PRECISION, "
+                + "PRIMARY KEY (dimension, sales_day, dimension_key))");
+        jdbcTemplate.execute("CREATE TABLE sales_rollup_dirty_days (dirty_day DATE PRIMARY KEY)");
+
+        jdbcTemplate.update("INSERT INTO products VALUES (1, 10), (2, NULL)");
+        jdbcTemplate.update("INSERT INTO individual_customers VALUES (100)");
+        jdbcTemplate.update("INSERT INTO corporate_customers VALUES (200)");
+        jdbcTemplate.update("INSERT INTO orders VALUES (1, 100, '2023-03-01 09:00:00', 'ORDER_TAKEN'), "
+                + "(2, 200, '2023-03-01 18:30:00', 'WAS_DELIVERED'), "
+                + "(3, 100, '2023-03-01 20:00:00', 'CANCELLED'), "
+                + "(4, 100, '2023-03-02 08:00:00', 'ORDER_TAKEN')");
+        jdbcTemplate.update("INSERT INTO order_lines VALUES (1, 1, 1, 2, 5.0), (2, 1, 2, 1, 10.0), "
+                + "(3, 2, 1, 3, 5.0), (4, 3, 1, 50, 5.0), (5, 4, 2, 1, 10.0)");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    public void refreshShouldAggregateDayWithoutCancelledOrders() {
+        salesRollupJdbcRepository.refresh(DAY, DAY.plusDays(1));
+
+        assertThat(rollup("TOTAL", "ALL")).containsEntry("ORDER_COUNT", 2L).containsEntry("UNITS", 6L)
+                .containsEntry("REVENUE", 35.0);
+        assertThat(rollup("PRODUCT", "1")).containsEntry("UNITS", 5L).containsEntry("REVENUE", 25.0);
+        assertThat(rollup("CATEGORY", "NONE")).containsEntry("UNITS", 1L);
+        assertThat(rollup("CUSTOMER_TYPE", "INDIVIDUAL")).containsEntry("REVENUE", 20.0);
+        assertThat(rollup("CUSTOMER_TYPE", "CORPORATE")).containsEntry("REVENUE", 15.0);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM sales_rollups WHERE sales_day <> ?",
+                Long.class, DAY)).isZero();
+    }
+
+    @Test
+    public void refreshShouldReplaceStaleRows() {
+        salesRollupJdbcRepository.refresh(DAY, DAY.plusDays(1));
+        jdbcTemplate.update("UPDATE orders SET order_status = 'CANCELLED' WHERE order_id = 2");
+        salesRollupJdbcRepository.refresh(DAY, DAY.plusDays(1));
+
+        assertThat(rollup("TOTAL", "ALL")).containsEntry("ORDER_COUNT", 1L).containsEntry("REVENUE", 20.0);
+        assertThat(jdbcTemplate.queryForList("SELECT * FROM sales_rollups WHERE dimension_key = 'CORPORATE'"))
+                .isEmpty();
+    }
+
+    @Test
+    public void markDirtyShouldIgnoreAlreadyMarkedDays() {
+        salesRollupJdbcRepository.markDirty(List.of(DAY, DAY.plusDays(1)));
+        salesRollupJdbcRepository.markDirty(List.of(DAY));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM sales_rollup_dirty_days", Long.class))
+                .isEqualTo(2L);
+    }
+
+    private Map<String, Object> rollup(String dimension, String key) {
+        return jdbcTemplate.queryForMap("SELECT order_count, units, revenue FROM sales_rollups "
+                + "WHERE dimension = ? AND sales_day = ? AND dimension_key = ?", dimension, DAY, key);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.grocery.layeredTest.service;
+
+import com.example.grocery.core.suggest.Suggestion;
+import com.example.grocery.core.suggest.SuggestionIndex;
+import com.example.grocery.core.suggest.SuggestionType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+public class SuggestionIndexTest {
+
+    private SuggestionIndex suggestionIndex;
+
+    @BeforeEach
+    public void setUp() {
+        Map<Long, Long> orders = Map.of(1L, 5L, 2L, 40L, 3L, 12L, 4L, 1L);
+        suggestionIndex = SuggestionIndex.build(List.of(
+                new Suggestion(SuggestionType.PRODUCT, 1L, "Işık Ampul"),
+                new Suggestion(SuggestionType.PRODUCT, 2L, "Süzme Peynir"),
+                new Suggestion(SuggestionType.PRODUCT, 3L, "Peynir Ekmeği"),
+                new Suggestion(SuggestionType.PRODUCT, 4L, "Beyaz Peynir Peynir"),
+                new Suggestion(SuggestionType.CATEGORY, 10L, "Süt Ürünleri")),
+                suggestion -> suggestion.getType() == SuggestionType.CATEGORY ? 100L
+                        : orders.get(suggestion.getId()));
+    }
+
+    @Test
+    public void prefixShouldMatchIgnoringTurkishCaseAndAccents() {
+        assertThat(names(suggestionIndex.top("IŞI", 10))).containsExactly("Işık Ampul");
+        assertThat(names(suggestionIndex.top("isik", 10))).containsExactly("Işık Ampul");
+        assertThat(names(suggestionIndex.top("SÜT ür", 10))).containsExactly("Süt Ürünleri");
+    }
+
+    @Test
+    public void prefixShouldMatchAnyWordStartOrderedByPopularity() {
+        assertThat(names(suggestionIndex.top("pey", 10)))
+                .containsExactly("Süzme Peynir", "Peynir Ekmeği", "Beyaz Peynir Peynir");
+        assertThat(names(suggestionIndex.top("pey", 2))).containsExactly("Süzme Peynir", "Peynir Ekmeği");
+        assertThat(names(suggestionIndex.top("s", 10))).containsExactly("Süt Ürünleri", "Süzme Peynir");
+    }
+
+    // Eşit ağırlıkta alfabetik olarak önce gelen eşleşme, yani "peynir" kelimesiyle
+    // biten ad, "peynir ekmeği"nden önce gelir.
+    @Test
+    public void reweightShouldReorderWithoutRebuilding() {
+        SuggestionIndex reweighted = suggestionIndex.reweight(suggestion -> suggestion.getId() == 4L ? 1000L : 0L);
+
+        assertThat(names(reweighted.top("pey", 10)))
+                .containsExactly("Beyaz Peynir Peynir", "Süzme Peynir", "Peynir Ekmeği");
+        assertThat(reweighted.size()).isEqualTo(suggestionIndex.size());
+    }
+
+    @Test
+    public void unknownOrEmptyPrefixShouldReturnNothing() {
+        assertThat(suggestionIndex.top("xyz", 10)).isEmpty();
+        assertThat(suggestionIndex.top(" - ", 10)).isEmpty();
+        assertThat(SuggestionIndex.EMPTY.top("pey", 10)).isEmpty();
+    }
+
+    private static List<String> names(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::getName).toList();
+    }
+}
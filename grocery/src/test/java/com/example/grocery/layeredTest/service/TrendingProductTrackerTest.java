@@ -0,0 +1,81 @@
+package com.example.grocery.layeredTest.service;
+
+import com.example.grocery.core.trending.SlidingTopK;
+import com.example.grocery.core.trending.SlidingTopK.Estimate;
+import com.example.grocery.core.trending.SpaceSavingSummary;
+import com.example.grocery.core.trending.SpaceSavingSummary.Counter;
+import com.example.grocery.core.trending.TrendingWindow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+public class TrendingProductTrackerTest {
+
+    private static final long NOW = Duration.ofDays(1000).toMillis();
+
+    @Test
+    public void heavyHittersShouldSurviveLongTail() {
+        SpaceSavingSummary summary = new SpaceSavingSummary(10);
+        for (long id = 1000; id < 6000; id++) {
+            summary.offer(id, 1);
+            if (id % 10 == 0) {
+                summary.offer(1L, 5);
+                summary.offer(2L, 3);
+            }
+        }
+
+        List<Counter> counters = summary.counters();
+        assertThat(counters).hasSize(10);
+        Counter first = counters.stream().filter(counter -> counter.getId() == 1L).findFirst().orElseThrow();
+        assertThat(first.getCount() - first.getError()).isLessThanOrEqualTo(2500);
+        assertThat(first.getCount()).isGreaterThanOrEqualTo(2500);
+        assertThat(counters).extracting(Counter::getId).contains(2L);
+    }
+
+    @Test
+    public void expiredBucketsShouldLeaveWindow() {
+        SlidingTopK hour = new SlidingTopK(TrendingWindow.HOUR, 100);
+        hour.offer(1L, 50, NOW - Duration.ofMinutes(90).toMillis());
+        hour.offer(2L, 5, NOW - Duration.ofMinutes(20).toMillis());
+        hour.offer(3L, 7, NOW);
+        hour.offer(2L, 4, NOW);
+
+        List<Estimate> top = hour.top(2, NOW);
+        assertThat(top).extracting(Estimate::getId).containsExactly(2L, 3L);
+        assertThat(top.get(0).getCount()).isEqualTo(9);
+    }
+
+    @Test
+    public void snapshotShouldRestoreCounters() {
+        SlidingTopK day = new SlidingTopK(TrendingWindow.DAY, 100);
+        day.offer(1L, 3, NOW - Duration.ofHours(5).toMillis());
+        day.offer(2L, 8, NOW);
+
+        SlidingTopK restored = new SlidingTopK(TrendingWindow.DAY, 100);
+        restored.restore(day.snapshot());
+
+        assertThat(restored.top(10, NOW)).extracting(Estimate::getId).containsExactly(2L, 1L);
+        assertThat(restored.top(10, NOW + Duration.ofDays(2).toMillis())).isEmpty();
+    }
+
+    @Test
+    public void mergedEstimateShouldBoundSalesDroppedInOtherBuckets() {
+        SlidingTopK hour = new SlidingTopK(TrendingWindow.HOUR, 2);
+        long earlier = NOW - Duration.ofMinutes(20).toMillis();
+        hour.offer(1L, 4, earlier);
+        hour.offer(2L, 10, earlier);
+        hour.offer(3L, 6, earlier);
+        hour.offer(1L, 5, NOW);
+
+        // 1 ilk dilimde 3'e yer açmak için düşürüldü; o dilimde en küçük sayaç 10'dur.
+        Estimate first = hour.top(10, NOW).stream().filter(estimate -> estimate.getId() == 1L).findFirst()
+                .orElseThrow();
+        assertThat(first.getCount()).isEqualTo(5);
+        assertThat(first.getCount() + first.getMaxUnderestimate()).isGreaterThanOrEqualTo(9);
+        assertThat(first.getMaxOverestimate()).isZero();
+    }
+}